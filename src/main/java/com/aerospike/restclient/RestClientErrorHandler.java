@@ -34,6 +34,14 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExcep
 public class RestClientErrorHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler({AerospikeException.class})
+    public ResponseEntity<Object> handleAsError(AerospikeException ex, WebRequest request) {
+        /* A generation mismatch on a conditional write is a failed precondition */
+        if (ex.getResultCode() == ResultCode.GENERATION_ERROR && request.getHeader(HttpHeaders.IF_MATCH) != null) {
+            return new ResponseEntity<>(new RestClientError(ex), HttpStatus.PRECONDITION_FAILED);
+        }
+        return handleAsError(ex);
+    }
+
     public ResponseEntity<Object> handleAsError(AerospikeException ex) {
         return new ResponseEntity<>(new RestClientError(ex), getStatusCodeFromException(ex));
     }
@@ -56,7 +64,7 @@ public class RestClientErrorHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(new RestClientError(jme.getMessage()), HttpStatus.BAD_REQUEST);
     }
 
-    private HttpStatus getStatusCodeFromException(AerospikeException ex) {
+    public static HttpStatus getStatusCodeFromException(AerospikeException ex) {
         switch (ex.getResultCode()) {
 
             case ResultCode.KEY_NOT_FOUND_ERROR:
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.config;
+
+import com.aerospike.restclient.util.HeaderHandler;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/*
+ * Answers requests whose work was queued with 202. Runs after the handler, so it takes precedence
+ * over the status declared with @ResponseStatus on write endpoints.
+ */
+class AcceptedStatusInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (request.getAttribute(HeaderHandler.ACCEPTED_ATTRIBUTE) != null && !response.isCommitted()) {
+            response.setStatus(HttpStatus.ACCEPTED.value());
+            response.setHeader(HeaderHandler.PREFERENCE_APPLIED, HeaderHandler.RESPOND_ASYNC);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.config;
+
+import com.aerospike.restclient.util.AerospikeAPIConstants;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/*
+ * Exposes a base64 wire expression sent in the X-Aerospike-Filter-Exp header as the filterexpbase64
+ * query parameter, so every policy converter picks it up without per-endpoint header plumbing.
+ * An explicit query parameter wins over the header.
+ */
+@Component
+public class FilterExpHeaderFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String headerExp = request.getHeader(AerospikeAPIConstants.FILTER_EXP_HEADER);
+        if (headerExp == null || headerExp.isEmpty()
+                || request.getParameter(AerospikeAPIConstants.FILTER_EXP_BASE64) != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        filterChain.doFilter(new FilterExpRequestWrapper(request, headerExp.trim()), response);
+    }
+
+    private static class FilterExpRequestWrapper extends HttpServletRequestWrapper {
+
+        private final Map<String, String[]> parameters;
+
+        FilterExpRequestWrapper(HttpServletRequest request, String filterExp) {
+            super(request);
+            Map<String, String[]> params = new LinkedHashMap<>(request.getParameterMap());
+            params.put(AerospikeAPIConstants.FILTER_EXP_BASE64, new String[]{filterExp});
+            this.parameters = Collections.unmodifiableMap(params);
+        }
+
+        @Override
+        public String getParameter(String name) {
+            String[] values = parameters.get(name);
+            return values == null || values.length == 0 ? null : values[0];
+        }
+
+        @Override
+        public Map<String, String[]> getParameterMap() {
+            return parameters;
+        }
+
+        @Override
+        public Enumeration<String> getParameterNames() {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override
+        public String[] getParameterValues(String name) {
+            return parameters.get(name);
+        }
+    }
+}
@@ -17,10 +17,18 @@
 package com.aerospike.restclient.config;
 
 import com.aerospike.client.AerospikeException;
+import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.AsyncWriteQueue;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.ClusterMetadataCache;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.aerospike.restclient.util.WriteCoalescer;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.github.resilience4j.timelimiter.TimeLimiterConfig;
 import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JConfigBuilder;
@@ -28,6 +36,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 
 @Configuration
@@ -59,4 +69,82 @@ public class ServiceConfig {
         return circuitBreakerFactory.create("rest-client");
     }
 
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchWriteExecutor(
+            @Value("${aerospike.restclient.batch.write.concurrency:32}") int concurrency) {
+        return Executors.newFixedThreadPool(concurrency);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService batchReadExecutor(
+            @Value("${aerospike.restclient.batch.read.concurrency:16}") int concurrency) {
+        return Executors.newFixedThreadPool(concurrency);
+    }
+
+    @Bean
+    public NegativeLookupCache negativeLookupCache(
+            @Value("${aerospike.restclient.negativeCache.sets:}") String sets,
+            @Value("${aerospike.restclient.negativeCache.ttlMillis:1000}") long ttlMillis,
+            @Value("${aerospike.restclient.negativeCache.maxSize:100000}") long maxSize) {
+        return new NegativeLookupCache(sets, ttlMillis, maxSize);
+    }
+
+    @Bean
+    public BinCompressor binCompressor(
+            @Value("${aerospike.restclient.compression.sets:}") String sets,
+            @Value("${aerospike.restclient.compression.minBytes:4096}") int minBytes,
+            @Value("${aerospike.restclient.compression.codec:deflate}") String codec,
+            @Value("${aerospike.restclient.compression.level:6}") int level) {
+        return new BinCompressor(sets, minBytes, codec, level);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public WriteCoalescer writeCoalescer(
+            AerospikeClientPool clientPool,
+            @Value("${aerospike.restclient.coalesce.sets:}") String sets,
+            @Value("${aerospike.restclient.coalesce.windowMillis:5}") long windowMillis,
+            @Value("${aerospike.restclient.coalesce.maxPending:1000}") int maxPending,
+            @Value("${aerospike.restclient.coalesce.maxQueued:10000}") int maxQueued,
+            @Value("${aerospike.restclient.coalesce.concurrency:8}") int concurrency,
+            @Value("${aerospike.restclient.coalesce.maxRetries:3}") int maxRetries,
+            @Value("${aerospike.restclient.coalesce.retryDelayMillis:10}") long retryDelayMillis) {
+        return new WriteCoalescer(clientPool, sets, windowMillis, maxPending, maxQueued, concurrency, maxRetries,
+                retryDelayMillis);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public AsyncWriteQueue asyncWriteQueue(
+            AerospikeClientPool clientPool,
+            Resilience4JCircuitBreaker circuitBreaker,
+            NegativeLookupCache negativeLookupCache,
+            @Value("${aerospike.restclient.async.queueSize:10000}") int queueSize,
+            @Value("${aerospike.restclient.async.workers:4}") int workers,
+            @Value("${aerospike.restclient.async.batchSize:100}") int batchSize,
+            @Value("${aerospike.restclient.async.maxRetries:3}") int maxRetries,
+            @Value("${aerospike.restclient.async.retryDelayMillis:10}") long retryDelayMillis) {
+        return new AsyncWriteQueue(clientPool, circuitBreaker, negativeLookupCache, queueSize, workers, batchSize,
+                maxRetries, retryDelayMillis);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ClusterMetadataCache clusterMetadataCache(
+            AerospikeClientPool clientPool,
+            @Qualifier("infoExecutor") ExecutorService infoExecutor,
+            @Value("${aerospike.restclient.metadata.refreshMillis:5000}") long refreshMillis,
+            @Value("${aerospike.restclient.metadata.staleMillis:15000}") long staleMillis) {
+        return new ClusterMetadataCache(clientPool, infoExecutor, refreshMillis, staleMillis);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService infoExecutor(
+            @Value("${aerospike.restclient.info.concurrency:32}") int concurrency) {
+        return Executors.newFixedThreadPool(concurrency);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService pipelineExecutor(
+            @Value("${aerospike.restclient.pipeline.concurrency:32}") int concurrency) {
+        return Executors.newFixedThreadPool(concurrency);
+    }
+
 }
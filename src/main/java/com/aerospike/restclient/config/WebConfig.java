@@ -26,6 +26,7 @@ import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import com.aerospike.client.Value.GeoJSONValue;
@@ -49,6 +50,16 @@ public class WebConfig implements WebMvcConfigurer {
 		converters.add(0, new StringHttpMessageConverter());
 	}
 
+	/* MessagePack mapper configured like the one used for msgpack responses */
+	public static ObjectMapper getMsgPackObjectMapper() {
+		return new MsgPackConverter().getObjectMapper();
+	}
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(new AcceptedStatusInterceptor());
+	}
+
 	@Override
 	public void addCorsMappings(CorsRegistry registry) {
 		registry.addMapping("/**").allowedOrigins("*")
@@ -17,15 +17,21 @@
 package com.aerospike.restclient.controllers;
 
 import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientBatchReadBody;
 import com.aerospike.restclient.domain.RestClientBatchReadResponse;
+import com.aerospike.restclient.domain.RestClientBatchWriteBody;
+import com.aerospike.restclient.domain.RestClientBatchWriteResponse;
 import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientRecordHeader;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.service.AerospikeBatchService;
 import com.aerospike.restclient.util.HeaderHandler;
 import com.aerospike.restclient.util.RequestParamHandler;
 import com.aerospike.restclient.util.annotations.ASRestClientBatchPolicyQueryParams;
+import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
 import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import com.aerospike.restclient.util.serializers.StreamingArrayWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -35,12 +41,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
 
-@Tag(name = "Batch Read Operations", description = "Retrieve multiple records from the server.")
+@Tag(name = "Batch Operations", description = "Read or write multiple records in a single request.")
 @RestController
 @RequestMapping("/v1/batch")
 public class BatchController {
@@ -70,12 +80,126 @@ public class BatchController {
     @DefaultRestClientAPIResponses
     @PostMapping(consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
     @ASRestClientBatchPolicyQueryParams
-    public List<RestClientBatchReadResponse> performBatchGet(@RequestBody List<RestClientBatchReadBody> batchKeys,
-                                                             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-                                                             @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+    public void performBatchGet(@RequestBody List<RestClientBatchReadBody> batchKeys,
+                                @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+                                @RequestHeader(value = "Authorization", required = false) String basicAuth,
+                                @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                @Parameter(hidden = true) HttpServletResponse response) throws IOException {
         BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.batchGet(authDetails, batchKeys, policy);
+        StreamingArrayWriter writer = new StreamingArrayWriter(response, accept, batchKeys.size());
+        service.batchGet(authDetails, batchKeys, policy, batchResponse -> {
+            try {
+                writer.write(batchResponse);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.close();
+    }
+
+    @Operation(summary = "Check whether multiple records exist without reading any bins. "
+            + "Returns an array of booleans in request order. MessagePack responses are a bin value with one bit per key, "
+            + "where key i is set in bit (i % 8) of byte (i / 8).", operationId = "performBatchExists")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch exists completed successfully.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = Boolean.class)))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Non existent namespace used in one or more key.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(value = "/exists", consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
+    @ASRestClientBatchPolicyQueryParams
+    public Object performBatchExists(@RequestBody List<RestClientBatchReadBody> batchKeys,
+                                     @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+                                     @RequestHeader(value = "Authorization", required = false) String basicAuth,
+                                     @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        boolean[] exists = service.batchExists(authDetails, batchKeys, policy);
+        return HeaderHandler.acceptsMsgPack(accept) ? packBits(exists) : exists;
+    }
+
+    @Operation(summary = "Return the generation and ttl of multiple records without reading any bins.", operationId = "performBatchGetHeader")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch header read completed successfully. Missing records are null.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestClientRecordHeader.class)))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Non existent namespace used in one or more key.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(value = "/header", consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
+    @ASRestClientBatchPolicyQueryParams
+    public List<RestClientRecordHeader> performBatchGetHeader(@RequestBody List<RestClientBatchReadBody> batchKeys,
+                                                              @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+                                                              @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+        BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.batchGetHeader(authDetails, batchKeys, policy);
+    }
+
+    @Operation(summary = "Write, delete or operate on multiple records in a single request.", operationId = "performBatchWrite")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch write completed. The outcome of each entry is reported by its resultCode.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestClientBatchWriteResponse.class)))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(value = "/write", consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
+    @ASRestClientWritePolicyQueryParams
+    public List<RestClientBatchWriteResponse> performBatchWrite(@RequestBody List<RestClientBatchWriteBody> entries,
+                                                                @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+                                                                @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.batchWrite(authDetails, entries, policy);
+    }
+
+    /* Bit i of the result is set when key i exists, least significant bit first */
+    private static byte[] packBits(boolean[] values) {
+        byte[] packed = new byte[(values.length + 7) / 8];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i]) {
+                packed[i / 8] |= (byte) (1 << (i % 8));
+            }
+        }
+        return packed;
     }
 }
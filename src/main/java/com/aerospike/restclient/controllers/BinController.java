@@ -0,0 +1,467 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientCdtPage;
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikeBinService;
+import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.ByteRange;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.annotations.ASRestClientPolicyQueryParams;
+import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+@Tag(name = "Bin operations", description = "Read and write a single bin of a record.")
+@RestController
+@RequestMapping("/v1/kvs")
+public class BinController {
+
+    public static final String BIN_NOTES = "Name of the bin.";
+    public static final String LIST_PAGE_NOTES = "Return a page of the elements of a list bin, in list order.";
+    public static final String MAP_PAGE_NOTES = "Return a page of the entries of a map bin, in key order or, "
+            + "if rank is given, in value rank order.";
+    public static final String OFFSET_NOTES = "Index of the first element to return.";
+    public static final String COUNT_NOTES = "Maximum number of elements to return. Capped by the configured maximum page size.";
+    public static final String CURSOR_NOTES = "Cursor returned with the previous page. Continues where that page ended.";
+    public static final String KEY_BEGIN_NOTES = "First map key to return, inclusive.";
+    public static final String KEY_END_NOTES = "Map key to stop at, exclusive. Pass it again along with the cursor.";
+    public static final String MAP_KEY_TYPE_NOTES = "Type of keyBegin and keyEnd, STRING or INTEGER. Defaults to STRING.";
+    public static final String RAW_GET_NOTES = "Return the bytes of a byte array bin. Supports a single Range: bytes= header.";
+    public static final String RAW_PUT_NOTES = "Store the request body as the value of a byte array bin. Other bins are kept.";
+    public static final String RANGE_NOTES = "A single byte range, such as bytes=0-1023.";
+    public static final String RANK_NOTES = "Value rank of the first entry to return. Pages by value rank instead of key.";
+
+    @Autowired
+    private AerospikeBinService service;
+
+    @Value("${aerospike.restclient.raw.maxBytes:8388608}")
+    private int maxRawBytes;
+
+    @Operation(summary = LIST_PAGE_NOTES, operationId = "getListPageNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of the list read successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or the bin is not a list.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Record not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{set}/{key}/bins/{bin}/list", produces = {"application/json", "application/msgpack"})
+    @ASRestClientPolicyQueryParams
+    public RestClientCdtPage getListPageNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(description = OFFSET_NOTES) @RequestParam(value = "offset", required = false) Integer offset,
+            @Parameter(description = COUNT_NOTES) @RequestParam(value = "count", required = false) Integer count,
+            @Parameter(description = CURSOR_NOTES) @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.getListPage(authDetails, namespace, set, key, keyType, bin, offset, count, cursor, policy);
+    }
+
+    @Operation(summary = LIST_PAGE_NOTES, operationId = "getListPageNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of the list read successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or the bin is not a list.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Record not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{key}/bins/{bin}/list", produces = {"application/json", "application/msgpack"})
+    @ASRestClientPolicyQueryParams
+    public RestClientCdtPage getListPageNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(description = OFFSET_NOTES) @RequestParam(value = "offset", required = false) Integer offset,
+            @Parameter(description = COUNT_NOTES) @RequestParam(value = "count", required = false) Integer count,
+            @Parameter(description = CURSOR_NOTES) @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.getListPage(authDetails, namespace, null, key, keyType, bin, offset, count, cursor, policy);
+    }
+
+    @Operation(summary = MAP_PAGE_NOTES, operationId = "getMapPageNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of the map read successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or the bin is not a map.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Record not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{set}/{key}/bins/{bin}/map", produces = {"application/json", "application/msgpack"})
+    @ASRestClientPolicyQueryParams
+    public RestClientCdtPage getMapPageNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(description = KEY_BEGIN_NOTES) @RequestParam(value = "keyBegin", required = false) String keyBegin,
+            @Parameter(description = KEY_END_NOTES) @RequestParam(value = "keyEnd", required = false) String keyEnd,
+            @Parameter(description = MAP_KEY_TYPE_NOTES) @RequestParam(value = "mapKeyType", required = false) String mapKeyType,
+            @Parameter(description = RANK_NOTES) @RequestParam(value = "rank", required = false) Integer rank,
+            @Parameter(description = COUNT_NOTES) @RequestParam(value = "count", required = false) Integer count,
+            @Parameter(description = CURSOR_NOTES) @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.getMapPage(authDetails, namespace, set, key, keyType, bin, keyBegin, keyEnd, mapKeyType, rank,
+                count, cursor, policy);
+    }
+
+    @Operation(summary = MAP_PAGE_NOTES, operationId = "getMapPageNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Page of the map read successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or the bin is not a map.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Record not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{key}/bins/{bin}/map", produces = {"application/json", "application/msgpack"})
+    @ASRestClientPolicyQueryParams
+    public RestClientCdtPage getMapPageNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(description = KEY_BEGIN_NOTES) @RequestParam(value = "keyBegin", required = false) String keyBegin,
+            @Parameter(description = KEY_END_NOTES) @RequestParam(value = "keyEnd", required = false) String keyEnd,
+            @Parameter(description = MAP_KEY_TYPE_NOTES) @RequestParam(value = "mapKeyType", required = false) String mapKeyType,
+            @Parameter(description = RANK_NOTES) @RequestParam(value = "rank", required = false) Integer rank,
+            @Parameter(description = COUNT_NOTES) @RequestParam(value = "count", required = false) Integer count,
+            @Parameter(description = CURSOR_NOTES) @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.getMapPage(authDetails, namespace, null, key, keyType, bin, keyBegin, keyEnd, mapKeyType, rank,
+                count, cursor, policy);
+    }
+
+    @Operation(summary = RAW_GET_NOTES, operationId = "getRawBinNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Bytes of the bin returned successfully."),
+            @ApiResponse(
+                    responseCode = "206",
+                    description = "Requested range of the bin returned successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or the bin is not a byte array.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Record or bin not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "416",
+                    description = "Requested range starts past the end of the bin.")
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{set}/{key}/bins/{bin}/raw")
+    @ASRestClientPolicyQueryParams
+    public void getRawBinNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(description = RANGE_NOTES) @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        writeRawBin(authDetails, namespace, set, key, keyType, bin, range, policy, response);
+    }
+
+    @Operation(summary = RAW_GET_NOTES, operationId = "getRawBinNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Bytes of the bin returned successfully."),
+            @ApiResponse(
+                    responseCode = "206",
+                    description = "Requested range of the bin returned successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or the bin is not a byte array.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Record or bin not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "416",
+                    description = "Requested range starts past the end of the bin.")
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{key}/bins/{bin}/raw")
+    @ASRestClientPolicyQueryParams
+    public void getRawBinNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(description = RANGE_NOTES) @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        writeRawBin(authDetails, namespace, null, key, keyType, bin, range, policy, response);
+    }
+
+    @Operation(summary = RAW_PUT_NOTES, operationId = "putRawBinNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Bin stored successfully, no content expected."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "Request body is larger than the configured maximum.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @PutMapping(value = "/{namespace}/{set}/{key}/bins/{bin}/raw", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @ASRestClientWritePolicyQueryParams
+    public void putRawBinNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+        byte[] blob = readBody(request);
+
+        service.storeBlob(authDetails, namespace, set, key, keyType, bin, blob, policy);
+    }
+
+    @Operation(summary = RAW_PUT_NOTES, operationId = "putRawBinNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Bin stored successfully, no content expected."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "Request body is larger than the configured maximum.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @PutMapping(value = "/{namespace}/{key}/bins/{bin}/raw", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @ASRestClientWritePolicyQueryParams
+    public void putRawBinNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(description = BIN_NOTES, required = true) @PathVariable(value = "bin") String bin,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+        byte[] blob = readBody(request);
+
+        service.storeBlob(authDetails, namespace, null, key, keyType, bin, blob, policy);
+    }
+
+    /*
+     * A closed range is read on the server with a bit read of just those bytes. Open and suffix ranges
+     * need the length of the bin, so they are cut from a full read, as are all ranges of compressed sets.
+     */
+    private void writeRawBin(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType,
+                             String bin, String rangeHeader, Policy policy, HttpServletResponse response)
+            throws IOException {
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        ByteRange range = ByteRange.parse(rangeHeader);
+
+        if (range != null && range.isBounded()) {
+            byte[] part = service.getBlobRange(authDetails, namespace, set, key, keyType, bin, range.first,
+                    range.last - range.first + 1, policy);
+            if (part != null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        String.format("bytes %d-%d/*", range.first, range.last));
+                writeBytes(response, HttpStatus.PARTIAL_CONTENT, part, 0, part.length);
+                return;
+            }
+        }
+
+        byte[] blob = service.getBlob(authDetails, namespace, set, key, keyType, bin, policy);
+        if (range == null) {
+            writeBytes(response, HttpStatus.OK, blob, 0, blob.length);
+            return;
+        }
+
+        long start = range.getStart(blob.length);
+        long end = range.getEnd(blob.length);
+        if (start >= blob.length || end < start) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, String.format("bytes */%d", blob.length));
+            response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+            return;
+        }
+        response.setHeader(HttpHeaders.CONTENT_RANGE, String.format("bytes %d-%d/%d", start, end, blob.length));
+        writeBytes(response, HttpStatus.PARTIAL_CONTENT, blob, (int) start, (int) (end - start + 1));
+    }
+
+    private static void writeBytes(HttpServletResponse response, HttpStatus status, byte[] bytes, int offset,
+                                   int length) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLength(length);
+        response.getOutputStream().write(bytes, offset, length);
+    }
+
+    /* Read the body into a single array sized from Content-Length, without intermediate copies when it is known */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long contentLength = request.getContentLengthLong();
+        if (contentLength > maxRawBytes) {
+            throw new RestClientErrors.PayloadTooLargeError(
+                    String.format("Request body is larger than %d bytes", maxRawBytes));
+        }
+        InputStream body = request.getInputStream();
+        if (contentLength >= 0) {
+            byte[] blob = new byte[(int) contentLength];
+            int read = 0;
+            while (read < blob.length) {
+                int count = body.read(blob, read, blob.length - read);
+                if (count < 0) {
+                    throw new RestClientErrors.MalformedBodyError("Request body is shorter than its Content-Length");
+                }
+                read += count;
+            }
+            return blob;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int count;
+        while ((count = body.read(chunk)) >= 0) {
+            if (buffer.size() + count > maxRawBytes) {
+                throw new RestClientErrors.PayloadTooLargeError(
+                        String.format("Request body is larger than %d bytes", maxRawBytes));
+            }
+            buffer.write(chunk, 0, count);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.restclient.domain.RestClientNegativeCacheStats;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Cache statistics", description = "Inspect the caches kept by this REST client instance.")
+@RestController
+@RequestMapping("/v1/cache")
+class CacheController {
+
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Operation(summary = "Return the size and hit rate of the missing key cache.", operationId = "getNegativeCacheStats")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Cache statistics read successfully.")
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/negative", produces = {"application/json", "application/msgpack"})
+    public RestClientNegativeCacheStats getNegativeCacheStats() {
+        return negativeCache.getStats();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientRecord;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikeCasService;
+import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.Map;
+
+@Tag(name = "Compare and set", description = "Read-modify-write records with retries inside the REST client.")
+@RestController
+@RequestMapping("/v1/cas")
+public class CasController {
+
+    public static final String MERGE_PATCH_NOTES = "Apply a JSON merge patch (RFC 7386) to the bins of a record. "
+            + "The record is read, patched and written back only if it has not changed in between, "
+            + "retrying on conflict. Creates the record if it does not exist.";
+    public static final String PATCH_BODY_NOTES = "Merge patch of the bins. Map bins are merged member by member, "
+            + "null removes a bin or map entry, any other value replaces it.";
+    public static final String PATCH_EXAMPLE = "{\"profile\": {\"email\": \"a@example.com\", \"phone\": null}, \"visits\": 3}";
+
+    @Autowired
+    private AerospikeCasService service;
+
+    @Operation(summary = MERGE_PATCH_NOTES, operationId = "mergePatchNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Record patched successfully, the record as written is returned."),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The record kept changing and the retries were exhausted.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PatchMapping(value = "/{namespace}/{set}/{key}", consumes = {"application/merge-patch+json", "application/json"},
+            produces = {"application/json", "application/msgpack"})
+    @ASRestClientWritePolicyQueryParams
+    public RestClientRecord mergePatchNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = PATCH_BODY_NOTES,
+                    required = true,
+                    content = @Content(examples = @ExampleObject(name = "patch", value = PATCH_EXAMPLE))) @RequestBody Map<String, Object> patch,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) HttpServletResponse response) {
+
+        return mergePatch(namespace, set, key, patch, requestParams, basicAuth, ifMatch, response);
+    }
+
+    @Operation(summary = MERGE_PATCH_NOTES, operationId = "mergePatchNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Record patched successfully, the record as written is returned."),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The record kept changing and the retries were exhausted.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PatchMapping(value = "/{namespace}/{key}", consumes = {"application/merge-patch+json", "application/json"},
+            produces = {"application/json", "application/msgpack"})
+    @ASRestClientWritePolicyQueryParams
+    public RestClientRecord mergePatchNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = PATCH_BODY_NOTES,
+                    required = true,
+                    content = @Content(examples = @ExampleObject(name = "patch", value = PATCH_EXAMPLE))) @RequestBody Map<String, Object> patch,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) HttpServletResponse response) {
+
+        return mergePatch(namespace, null, key, patch, requestParams, basicAuth, ifMatch, response);
+    }
+
+    private RestClientRecord mergePatch(String namespace, String set, String key, Map<String, Object> patch,
+                                        Map<String, String> requestParams, String basicAuth, String ifMatch,
+                                        HttpServletResponse response) {
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        RestClientRecord record = service.mergePatch(authDetails, namespace, set, key, keyType, patch, policy);
+        response.setHeader(HttpHeaders.ETAG, HeaderHandler.generationETag(record.generation));
+        return record;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientCounter;
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikeCounterService;
+import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.annotations.ASRestClientBatchPolicyQueryParams;
+import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@Tag(name = "Counter operations", description = "Increment and read counters spread over several records.")
+@RestController
+@RequestMapping("/v1/counters")
+public class CounterController {
+
+    public static final String COUNTER_NOTES = "Name of the counter.";
+    public static final String INCREMENT_NOTES = "Add to a counter. The increment is applied to one randomly chosen "
+            + "sub-record, so concurrent increments do not contend on a single key.";
+    public static final String GET_COUNTER_NOTES = "Return the value of a counter, the sum of all of its sub-records.";
+    public static final String INCR_NOTES = "Amount to add, may be negative. Defaults to 1.";
+    public static final String SHARDS_NOTES = "Number of sub-records the counter is spread over. "
+            + "Use the same value for every request on a counter. Defaults to the configured shard count.";
+
+    @Autowired
+    private AerospikeCounterService service;
+
+    @Operation(summary = INCREMENT_NOTES, operationId = "incrementCounterNamespaceSet")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Counter incremented successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @PostMapping(value = "/{namespace}/{set}/{counter}", produces = {"application/json", "application/msgpack"})
+    @ASRestClientWritePolicyQueryParams
+    public void incrementCounterNamespaceSet(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = COUNTER_NOTES, required = true) @PathVariable(value = "counter") String counter,
+            @Parameter(description = INCR_NOTES) @RequestParam(value = "incr", defaultValue = "1") long incr,
+            @Parameter(description = SHARDS_NOTES) @RequestParam(value = "shards", required = false) Integer shards,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.increment(authDetails, namespace, set, counter, shards, incr, policy);
+    }
+
+    @Operation(summary = INCREMENT_NOTES, operationId = "incrementCounterNamespace")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Counter incremented successfully."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @PostMapping(value = "/{namespace}/{counter}", produces = {"application/json", "application/msgpack"})
+    @ASRestClientWritePolicyQueryParams
+    public void incrementCounterNamespace(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = COUNTER_NOTES, required = true) @PathVariable(value = "counter") String counter,
+            @Parameter(description = INCR_NOTES) @RequestParam(value = "incr", defaultValue = "1") long incr,
+            @Parameter(description = SHARDS_NOTES) @RequestParam(value = "shards", required = false) Integer shards,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.increment(authDetails, namespace, null, counter, shards, incr, policy);
+    }
+
+    @Operation(summary = GET_COUNTER_NOTES, operationId = "getCounterNamespaceSet")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Counter read successfully. A counter that was never incremented is 0."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{set}/{counter}", produces = {"application/json", "application/msgpack"})
+    @ASRestClientBatchPolicyQueryParams
+    public RestClientCounter getCounterNamespaceSet(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = COUNTER_NOTES, required = true) @PathVariable(value = "counter") String counter,
+            @Parameter(description = SHARDS_NOTES) @RequestParam(value = "shards", required = false) Integer shards,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.getCounter(authDetails, namespace, set, counter, shards, policy);
+    }
+
+    @Operation(summary = GET_COUNTER_NOTES, operationId = "getCounterNamespace")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Counter read successfully. A counter that was never incremented is 0."),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{counter}", produces = {"application/json", "application/msgpack"})
+    @ASRestClientBatchPolicyQueryParams
+    public RestClientCounter getCounterNamespace(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = COUNTER_NOTES, required = true) @PathVariable(value = "counter") String counter,
+            @Parameter(description = SHARDS_NOTES) @RequestParam(value = "shards", required = false) Integer shards,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.getCounter(authDetails, namespace, null, counter, shards, policy);
+    }
+}
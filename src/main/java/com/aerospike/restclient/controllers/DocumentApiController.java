@@ -16,17 +16,23 @@
  */
 package com.aerospike.restclient.controllers;
 
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientDocumentReadBody;
+import com.aerospike.restclient.domain.RestClientDocumentReadResponse;
 import com.aerospike.restclient.domain.RestClientError;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.service.AerospikeDocumentService;
 import com.aerospike.restclient.util.*;
+import com.aerospike.restclient.util.annotations.ASRestClientBatchPolicyQueryParams;
 import com.aerospike.restclient.util.annotations.ASRestDocumentPolicyQueryParams;
 import com.aerospike.restclient.util.annotations.ASRestDocumentWritePolicyQueryParams;
 import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import com.aerospike.restclient.util.serializers.StreamingArrayWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -34,10 +40,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +71,10 @@ public class DocumentApiController {
     public static final String APPEND_DOCUMENT_NOTES = "Append an object to a list in a document specified by a JSON path.";
     public static final String DELETE_DOCUMENT_NOTES = "Delete an object in a document specified by a JSON path.";
     public static final String JSON_OBJECT_NOTES = "JSON Object";
+    public static final String BATCH_READ_NOTES = "Evaluate several JSONPath expressions on each of several documents. "
+            + "All paths of an entry are read with one server call, and entries are returned as they complete.";
+    public static final String IF_MATCH_NOTES = "Record generation ETag the write is conditional on. "
+            + "Answered with 412 if the record generation has changed.";
 
     @Autowired
     private AerospikeDocumentService service;
@@ -76,6 +91,9 @@ public class DocumentApiController {
                     description = "Document read successfully.",
                     content = @Content(examples = @ExampleObject(name = ResponseExamples.GET_DOCUMENT_OBJECT_NAME,
                         value = ResponseExamples.GET_DOCUMENT_OBJECT_VALUE))),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Record generation matches the If-None-Match header, no content returned."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid parameters or request.",
@@ -96,7 +114,8 @@ public class DocumentApiController {
             @Parameter(description = NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = USER_KEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) ServletWebRequest webRequest) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         Policy policy = RequestParamHandler.getPolicy(requestParams);
@@ -104,7 +123,10 @@ public class DocumentApiController {
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
 
-        return service.getObject(authDetails, namespace, null, key, bins, jsonPath, keyType, policy);
+        String selection = RequestParamHandler.getSelectionFromMap(requestParams);
+
+        return getObjectIfModified(authDetails, namespace, null, key, bins, jsonPath, keyType, policy, selection,
+                webRequest);
     }
 
     @Operation(summary = GET_DOCUMENT_NOTES, operationId = "getDocumentObjectSet")
@@ -114,6 +136,8 @@ public class DocumentApiController {
                     description = "Document read successfully.",
                     content = @Content(examples = @ExampleObject(name = ResponseExamples.GET_DOCUMENT_OBJECT_NAME,
                         value = ResponseExamples.GET_DOCUMENT_OBJECT_VALUE))),
+            @ApiResponse(responseCode = "304",
+                    description = "Record generation matches the If-None-Match header, no content returned."),
             @ApiResponse(responseCode = "400",
                     description = "Invalid parameters or request.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class))),
@@ -132,7 +156,8 @@ public class DocumentApiController {
             @Parameter(description = SET_NOTES, required = true) @PathVariable(value = "set") String set,
             @Parameter(description = USER_KEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) ServletWebRequest webRequest) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         Policy policy = RequestParamHandler.getPolicy(requestParams);
@@ -140,7 +165,10 @@ public class DocumentApiController {
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
 
-        return service.getObject(authDetails, namespace, set, key, bins, jsonPath, keyType, policy);
+        String selection = RequestParamHandler.getSelectionFromMap(requestParams);
+
+        return getObjectIfModified(authDetails, namespace, set, key, bins, jsonPath, keyType, policy, selection,
+                webRequest);
     }
 
     /*
@@ -178,10 +206,12 @@ public class DocumentApiController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.JSON_OBJECT_NAME, value = RequestBodyExamples.JSON_OBJECT_VALUE))) @RequestBody Object jsonObject,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
@@ -220,10 +250,12 @@ public class DocumentApiController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.JSON_OBJECT_NAME, value = RequestBodyExamples.JSON_OBJECT_VALUE))) @RequestBody Object jsonObject,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
@@ -266,10 +298,12 @@ public class DocumentApiController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.JSON_OBJECT_NAME, value = RequestBodyExamples.JSON_OBJECT_VALUE))) @RequestBody Object jsonObject,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
@@ -308,10 +342,12 @@ public class DocumentApiController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.JSON_OBJECT_NAME, value = RequestBodyExamples.JSON_OBJECT_VALUE))) @RequestBody Object jsonObject,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
@@ -350,10 +386,12 @@ public class DocumentApiController {
             @Parameter(description = NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = USER_KEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
@@ -388,14 +426,81 @@ public class DocumentApiController {
             @Parameter(description = SET_NOTES, required = true) @PathVariable(value = "set") String set,
             @Parameter(description = USER_KEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         AerospikeAPIConstants.RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
         List<String> bins = Arrays.asList(RequestParamHandler.getBinsFromMap(requestParams));
         String jsonPath = RequestParamHandler.getJsonPathFromMap(requestParams);
 
         service.deleteObject(authDetails, namespace, set, key, bins, jsonPath, keyType, policy);
     }
+
+    /*
+     **************************************************
+     *                  BATCH READ                    *
+     **************************************************
+     */
+    @Operation(summary = BATCH_READ_NOTES, operationId = "batchGetDocumentObjects")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Documents read. Failed entries carry a non zero resultCode.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestClientDocumentReadResponse.class)))),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(value = "/batch", consumes = {"application/json", "application/msgpack"},
+            produces = {"application/json", "application/msgpack"})
+    @ASRestClientBatchPolicyQueryParams
+    public void batchGetDocumentObjects(
+            @RequestBody List<RestClientDocumentReadBody> entries,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+
+        BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        StreamingArrayWriter writer = new StreamingArrayWriter(response, accept, entries.size());
+        service.getObjects(authDetails, entries, policy, documentResponse -> {
+            try {
+                writer.write(documentResponse);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.close();
+    }
+
+    /*
+     * The document is read together with the generation of its record, so the ETag is strong and can be
+     * used with If-Match on the document writes. If the record kept changing during the read, the ETag is
+     * weak. A conditional read still reads the document, the path read is about as cheap as the header.
+     */
+    private Map<String, Object> getObjectIfModified(AuthDetails authDetails, String namespace, String set, String key,
+                                                    List<String> bins, String jsonPath,
+                                                    AerospikeAPIConstants.RecordKeyType keyType, Policy policy,
+                                                    String selection, ServletWebRequest webRequest) {
+        AerospikeDocumentService.VersionedDocument document = service.getVersionedObject(authDetails, namespace, set,
+                key, bins, jsonPath, keyType, policy);
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        String eTag = document.consistent ? HeaderHandler.generationETag(document.generation, selection, accept) :
+                HeaderHandler.weakGenerationETag(document.generation, selection, accept);
+        if (webRequest.checkNotModified(eTag)) {
+            HeaderHandler.setRecordCacheHeaders(webRequest.getResponse(), eTag, document.ttl);
+            return null;
+        }
+        HeaderHandler.setRecordCacheHeaders(webRequest.getResponse(), eTag, document.ttl);
+        return document.document;
+    }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientImportSummary;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikeImportService;
+import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import com.aerospike.restclient.util.deserializers.ImportRecordReader;
+import com.aerospike.restclient.util.deserializers.MsgPackImportReader;
+import com.aerospike.restclient.util.deserializers.NDJsonImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Hidden;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+@Tag(name = "Import Operations", description = "Stream large numbers of records into the server.")
+@RestController
+@RequestMapping("/v1/import")
+public class ImportController {
+
+    public static final String IMPORT_NOTES = "Write a stream of records to a set. The body is newline delimited JSON, "
+            + "one {\"key\": userKey, \"bins\": {...}} object per line, or the same objects as a stream of MessagePack maps. "
+            + "Records are written as they are read, so the body may be arbitrarily large. "
+            + "A body sent with Content-Encoding: gzip is decompressed as it is read.";
+
+    @Autowired
+    private AerospikeImportService service;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Operation(summary = IMPORT_NOTES, operationId = "importRecords")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished. Counts and failed records are reported in the summary.",
+                    content = @Content(schema = @Schema(implementation = RestClientImportSummary.class))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(value = "/{namespace}/{set}", consumes = "application/x-ndjson",
+            produces = {"application/json", "application/msgpack"})
+    @ASRestClientWritePolicyQueryParams
+    public RestClientImportSummary importRecords(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(hidden = true) InputStream dataStream,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) throws IOException {
+
+        ImportRecordReader reader = new NDJsonImportReader(decode(dataStream, contentEncoding), objectMapper);
+
+        return importRecords(namespace, set, reader, requestParams, basicAuth);
+    }
+
+    @Hidden
+    @PostMapping(value = "/{namespace}/{set}", consumes = "application/msgpack",
+            produces = {"application/json", "application/msgpack"})
+    public RestClientImportSummary importRecordsMP(
+            @PathVariable(value = "namespace") String namespace,
+            @PathVariable(value = "set") String set,
+            InputStream dataStream,
+            @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) throws IOException {
+
+        ImportRecordReader reader = new MsgPackImportReader(decode(dataStream, contentEncoding));
+
+        return importRecords(namespace, set, reader, requestParams, basicAuth);
+    }
+
+    private RestClientImportSummary importRecords(String namespace, String set, ImportRecordReader reader,
+                                                  Map<String, String> requestParams, String basicAuth) {
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.importRecords(authDetails, namespace, set, keyType, reader, policy);
+    }
+
+    private static InputStream decode(InputStream dataStream, String contentEncoding) throws IOException {
+        if (contentEncoding != null && contentEncoding.trim().equalsIgnoreCase("gzip")) {
+            try {
+                return new GZIPInputStream(dataStream);
+            } catch (ZipException e) {
+                throw new RestClientErrors.MalformedBodyError("Request body is not valid gzip data");
+            }
+        }
+        return dataStream;
+    }
+}
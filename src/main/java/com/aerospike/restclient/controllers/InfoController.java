@@ -18,6 +18,7 @@ package com.aerospike.restclient.controllers;
 
 import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientNodeInfoResponse;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.service.AerospikeInfoService;
 import com.aerospike.restclient.util.HeaderHandler;
@@ -36,6 +37,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -73,6 +75,34 @@ public class InfoController {
         return service.infoAny(authDetails, requests, policy);
     }
 
+    @Operation(summary = "Send a list of info commands to all nodes in the cluster, or to a list of nodes, in parallel.", operationId = "infoNodes")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Commands sent. Nodes which failed or did not answer within the timeout are listed in errors.",
+                    content = @Content(examples = @ExampleObject(name = ResponseExamples.SUCCESS_INFO_NODES_NAME, value = ResponseExamples.SUCCESS_INFO_NODES_VALUE))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to perform the info command.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(value = "/all", consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
+    RestClientNodeInfoResponse infoNodes(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "An array of info commands to send to the server. See https://www.aerospike.com/docs/reference/info/ for a list of valid commands.",
+                    required = true,
+                    content = @Content(examples = @ExampleObject(name = RequestBodyExamples.REQUESTS_INFO_NAME, value = RequestBodyExamples.REQUESTS_INFO_VALUE))) @RequestBody String[] requests,
+            @Parameter(description = "A comma separated list of node IDs to send the commands to. All nodes when omitted.") @RequestParam(value = "nodes", required = false) List<String> nodes,
+            @Parameter(hidden = true) @RequestParam Map<String, String> infoMap,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        InfoPolicy policy = InfoPolicyConverter.policyFromMap(infoMap);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.infoNodes(authDetails, nodes, requests, policy);
+    }
+
     @Operation(summary = "Send a list of info commands to a specific node in the cluster.", operationId = "infoNode")
     @ApiResponses(value = {
             @ApiResponse(
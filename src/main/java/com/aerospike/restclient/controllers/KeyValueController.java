@@ -16,25 +16,38 @@
  */
 package com.aerospike.restclient.controllers;
 
+import com.aerospike.client.exp.Expression;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientBatchReadBody;
+import com.aerospike.restclient.domain.RestClientBatchReadResponse;
 import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientKey;
 import com.aerospike.restclient.domain.RestClientRecord;
+import com.aerospike.restclient.domain.RestClientRecordHeader;
 import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikeBatchService;
 import com.aerospike.restclient.service.AerospikeRecordService;
+import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
 import com.aerospike.restclient.util.HeaderHandler;
 import com.aerospike.restclient.util.QueryParamDescriptors;
 import com.aerospike.restclient.util.RequestBodyExamples;
 import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.annotations.ASRestClientBatchPolicyQueryParams;
 import com.aerospike.restclient.util.annotations.ASRestClientPolicyQueryParams;
 import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
 import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
 import com.aerospike.restclient.util.deserializers.MsgPackBinParser;
+import com.aerospike.restclient.util.serializers.StreamingArrayWriter;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -42,13 +55,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Key Value Operations", description = "Perform simple operations on a single record.")
@@ -68,10 +86,21 @@ public class KeyValueController {
     public static final String CREATE_RECORD_NOTES = "Create a new record with the provided bins into the record.";
     public static final String REPLACE_RECORD_NOTES = "Replace the bins of the specified record.";
     public static final String DELETE_RECORD_NOTES = "Delete the specified record.";
+    public static final String GET_RECORDS_NOTES = "Return the metadata and bins for multiple records in a set. "
+            + "Executed as a batch read, records are streamed back in the order of the key parameters.";
+    public static final String IF_MATCH_NOTES = "Record generation ETag the write is conditional on. "
+            + "Answered with 412 if the record generation has changed.";
+    public static final String PREFER_NOTES = "Send respond-async to queue the write and get 202 Accepted once it "
+            + "is validated, without waiting for the cluster. Requires recordExistsAction UPDATE or REPLACE "
+            + "and no If-Match, other writes are refused with 400.";
+    public static final String KEYS_NOTES = "Userkeys of the records. Repeat the parameter once per key.";
 
     @Autowired
     private AerospikeRecordService service;
 
+    @Autowired
+    private AerospikeBatchService batchService;
+
     /*
      **************************************************
      *                     GET                        *
@@ -82,6 +111,9 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Metadata and bins for a record returned successfully."),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Record generation matches the If-None-Match header, no content returned."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid parameters or request",
@@ -98,19 +130,26 @@ public class KeyValueController {
     @DefaultRestClientAPIResponses
     @GetMapping(value = "/{namespace}/{set}/{key}", produces = {"application/json", "application/msgpack"})
     @ASRestClientPolicyQueryParams
+    @Parameter(name = AerospikeAPIConstants.COMPUTED, description = APIParamDescriptors.COMPUTED_NOTES,
+            in = ParameterIn.QUERY, array = @ArraySchema(schema = @Schema(type = "string")))
     public RestClientRecord getRecordNamespaceSetKey(
             @Parameter(description = NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = SET_NOTES, required = true) @PathVariable(value = "set") String set,
             @Parameter(description = USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) ServletWebRequest webRequest) {
 
         String[] bins = RequestParamHandler.getBinsFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         Policy policy = RequestParamHandler.getPolicy(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.fetchRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        String selection = RequestParamHandler.getSelectionFromMap(requestParams);
+
+        return fetchRecordIfModified(authDetails, namespace, set, key, bins, computed, keyType, policy, selection,
+                webRequest);
     }
 
     @Operation(summary = GET_RECORD_NOTES, operationId = "getRecordNamespaceKey")
@@ -118,6 +157,9 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Metadata and bins for a record returned successfully."),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Record generation matches the If-None-Match header, no content returned."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid parameters or request",
@@ -134,18 +176,88 @@ public class KeyValueController {
     @DefaultRestClientAPIResponses
     @GetMapping(value = "/{namespace}/{key}", produces = {"application/json", "application/msgpack"})
     @ASRestClientPolicyQueryParams
+    @Parameter(name = AerospikeAPIConstants.COMPUTED, description = APIParamDescriptors.COMPUTED_NOTES,
+            in = ParameterIn.QUERY, array = @ArraySchema(schema = @Schema(type = "string")))
     public RestClientRecord getRecordNamespaceKey(
             @Parameter(description = NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) ServletWebRequest webRequest) {
 
         String[] bins = RequestParamHandler.getBinsFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         Policy policy = RequestParamHandler.getPolicy(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.fetchRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        String selection = RequestParamHandler.getSelectionFromMap(requestParams);
+
+        return fetchRecordIfModified(authDetails, namespace, null, key, bins, computed, keyType, policy, selection,
+                webRequest);
+    }
+
+    @Operation(summary = GET_RECORDS_NOTES, operationId = "getRecordsNamespaceSet")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Records returned in the order of the key parameters. A missing record has an entry whose record field is null.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestClientBatchReadResponse.class)))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Namespace not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{set}", params = AerospikeAPIConstants.RECORD_KEY,
+            produces = {"application/json", "application/msgpack"})
+    @ASRestClientBatchPolicyQueryParams
+    @Parameter(name = AerospikeAPIConstants.RECORD_KEY, description = KEYS_NOTES, required = true, in = ParameterIn.QUERY,
+            array = @ArraySchema(schema = @Schema(type = "string")))
+    public void getRecordsNamespaceSet(
+            @Parameter(description = NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+
+        String[] keys = RequestParamHandler.getKeysFromMap(requestParams);
+        String[] bins = RequestParamHandler.getBinsFromMap(requestParams);
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams.toSingleValueMap());
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        List<RestClientBatchReadBody> batchKeys = new ArrayList<>(keys.length);
+        for (String key : keys) {
+            RestClientBatchReadBody batchKey = new RestClientBatchReadBody();
+            batchKey.key = new RestClientKey();
+            batchKey.key.namespace = namespace;
+            batchKey.key.setName = set;
+            batchKey.key.userKey = key;
+            batchKey.key.keyType = keyType;
+            batchKey.readAllBins = bins.length == 0;
+            batchKey.binNames = bins.length == 0 ? null : bins;
+            batchKeys.add(batchKey);
+        }
+
+        StreamingArrayWriter writer = new StreamingArrayWriter(response, accept, batchKeys.size());
+        batchService.batchGet(authDetails, batchKeys, policy, batchResponse -> {
+            try {
+                writer.write(batchResponse);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.close();
     }
 
     /*
@@ -173,6 +285,10 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "409",
                     description = "Generation mismatch for operation.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
@@ -184,10 +300,12 @@ public class KeyValueController {
             @Parameter(description = SET_NOTES, required = true) @PathVariable(value = "set") String set,
             @Parameter(description = USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
         service.deleteRecord(authDetails, namespace, set, key, keyType, policy);
@@ -213,6 +331,10 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "409",
                     description = "Generation mismatch for operation.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
@@ -223,10 +345,12 @@ public class KeyValueController {
             @Parameter(description = NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
         service.deleteRecord(authDetails, namespace, null, key, keyType, policy);
@@ -252,6 +376,10 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "409",
                     description = "Generation mismatch for operation.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
@@ -268,13 +396,16 @@ public class KeyValueController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.BINS_NAME, value = RequestBodyExamples.BINS_VALUE))) @RequestBody Map<String, Object> bins,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = PREFER_NOTES) @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.REPLACE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, set, key, bins, keyType, policy, prefer);
     }
 
     /*
@@ -292,14 +423,17 @@ public class KeyValueController {
             @PathVariable(value = "key") String key,
             InputStream dataStream,
             @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.REPLACE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         Map<String, Object> bins = binsFromMsgPackStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, set, key, bins, keyType, policy, prefer);
     }
 
     @Operation(summary = REPLACE_RECORD_NOTES, operationId = "replaceRecordNamespaceKey")
@@ -322,6 +456,10 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "409",
                     description = "Generation mismatch for operation.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
@@ -337,13 +475,16 @@ public class KeyValueController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.BINS_NAME, value = RequestBodyExamples.BINS_VALUE))) @RequestBody Map<String, Object> bins,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = PREFER_NOTES) @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.REPLACE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, null, key, bins, keyType, policy, prefer);
     }
 
     @Hidden
@@ -355,14 +496,17 @@ public class KeyValueController {
             @PathVariable(value = "key") String key,
             InputStream dataStream,
             @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.REPLACE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         Map<String, Object> bins = binsFromMsgPackStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, null, key, bins, keyType, policy, prefer);
     }
 
     /*
@@ -406,13 +550,14 @@ public class KeyValueController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.BINS_NAME, value = RequestBodyExamples.BINS_VALUE))) @RequestBody Map<String, Object> bins,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = PREFER_NOTES) @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.CREATE_ONLY);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, set, key, bins, keyType, policy, prefer);
     }
 
     @Hidden
@@ -425,14 +570,15 @@ public class KeyValueController {
             @PathVariable(value = "key") String key,
             InputStream dataStream,
             @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.CREATE_ONLY);
         Map<String, Object> bins = binsFromMsgPackStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, set, key, bins, keyType, policy, prefer);
     }
 
     @Operation(summary = CREATE_RECORD_NOTES, operationId = "createRecordNamespaceKey")
@@ -470,13 +616,14 @@ public class KeyValueController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.BINS_NAME, value = RequestBodyExamples.BINS_VALUE))) @RequestBody Map<String, Object> bins,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = PREFER_NOTES) @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.CREATE_ONLY);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, null, key, bins, keyType, policy, prefer);
     }
 
     @Hidden
@@ -488,14 +635,15 @@ public class KeyValueController {
             @PathVariable(value = "key") String key,
             InputStream dataStream,
             @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.CREATE_ONLY);
         Map<String, Object> bins = binsFromMsgPackStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, null, key, bins, keyType, policy, prefer);
     }
 
     /*
@@ -523,6 +671,10 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "409",
                     description = "Generation mismatch for operation.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
@@ -539,13 +691,16 @@ public class KeyValueController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.BINS_NAME, value = RequestBodyExamples.BINS_VALUE))) @RequestBody Map<String, Object> bins,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = PREFER_NOTES) @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.UPDATE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, set, key, bins, keyType, policy, prefer);
     }
 
     @Hidden
@@ -558,14 +713,17 @@ public class KeyValueController {
             @PathVariable(value = "key") String key,
             InputStream dataStream,
             @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.UPDATE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         Map<String, Object> bins = binsFromMsgPackStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, set, key, bins, keyType, policy, prefer);
     }
 
     @Operation(summary = UPDATE_RECORD_NOTES, operationId = "updateRecordNamespaceKey")
@@ -588,6 +746,10 @@ public class KeyValueController {
             @ApiResponse(
                     responseCode = "409",
                     description = "Generation mismatch for operation.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Record generation does not match the If-Match header.",
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
@@ -603,13 +765,16 @@ public class KeyValueController {
                     required = true,
                     content = @Content(examples = @ExampleObject(name = RequestBodyExamples.BINS_NAME, value = RequestBodyExamples.BINS_VALUE))) @RequestBody Map<String, Object> bins,
             @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = PREFER_NOTES) @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.UPDATE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, null, key, bins, keyType, policy, prefer);
     }
 
     @Hidden
@@ -621,14 +786,17 @@ public class KeyValueController {
             @PathVariable(value = "key") String key,
             InputStream dataStream,
             @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HeaderHandler.PREFER, required = false) String prefer) {
 
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
         WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams, RecordExistsAction.UPDATE_ONLY);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
         Map<String, Object> bins = binsFromMsgPackStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        service.storeRecord(authDetails, namespace, null, key, bins, keyType, policy);
+        storeRecord(authDetails, namespace, null, key, bins, keyType, policy, prefer);
     }
 
     /*
@@ -703,6 +871,55 @@ public class KeyValueController {
         }
     }
 
+    /*
+     * A conditional read first checks the record generation with a header-only read, so an unchanged
+     * record is answered with 304 without transferring its bins. The ETag tells apart the selections
+     * and media types a record is returned in.
+     */
+    private RestClientRecord fetchRecordIfModified(AuthDetails authDetails, String namespace, String set, String key,
+                                                   String[] bins, Map<String, Expression> computed,
+                                                   RecordKeyType keyType, Policy policy, String selection,
+                                                   ServletWebRequest webRequest) {
+        String accept = webRequest.getHeader(HttpHeaders.ACCEPT);
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            RestClientRecordHeader header = service.fetchRecordHeader(authDetails, namespace, set, key, keyType,
+                    policy);
+            String eTag = HeaderHandler.generationETag(header.generation, selection, accept);
+            if (webRequest.checkNotModified(eTag)) {
+                HeaderHandler.setRecordCacheHeaders(webRequest.getResponse(), eTag, header.ttl);
+                return null;
+            }
+        }
+        RestClientRecord record = fetchRecord(authDetails, namespace, set, key, bins, computed, keyType, policy);
+        HeaderHandler.setRecordCacheHeaders(webRequest.getResponse(),
+                HeaderHandler.generationETag(record.generation, selection, accept), record.ttl);
+        return record;
+    }
+
+    /*
+     * With Prefer: respond-async the write is validated and queued, and the request is answered with 202.
+     * Writes that depend on the stored record could fail after the 202, so they are refused with 400
+     * rather than quietly run synchronously.
+     */
+    private void storeRecord(AuthDetails authDetails, String namespace, String set, String key,
+                             Map<String, Object> bins, RecordKeyType keyType, WritePolicy policy, String prefer) {
+        if (HeaderHandler.prefersRespondAsync(prefer)) {
+            service.storeRecordAsync(authDetails, namespace, set, key, bins, keyType, policy);
+            HeaderHandler.markAccepted();
+        } else {
+            service.storeRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        }
+    }
+
+    private RestClientRecord fetchRecord(AuthDetails authDetails, String namespace, String set, String key,
+                                         String[] bins, Map<String, Expression> computed, RecordKeyType keyType,
+                                         Policy policy) {
+        if (computed.isEmpty()) {
+            return service.fetchRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        }
+        return service.fetchRecord(authDetails, namespace, set, key, bins, computed, keyType, policy);
+    }
+
     private Map<String, Object> binsFromMsgPackStream(InputStream dataStream) {
         MsgPackBinParser parser = new MsgPackBinParser(dataStream);
         return parser.parseBins();
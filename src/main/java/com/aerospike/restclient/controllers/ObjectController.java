@@ -0,0 +1,271 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikeObjectService;
+import com.aerospike.restclient.service.AerospikeObjectService.ObjectSink;
+import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.annotations.ASRestClientPolicyQueryParams;
+import com.aerospike.restclient.util.annotations.ASRestClientWritePolicyQueryParams;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+
+@Tag(name = "Object operations", description = "Store objects larger than the record size limit as chunked records.")
+@RestController
+@RequestMapping("/v1/objects")
+public class ObjectController {
+
+    public static final String PUT_NOTES = "Store the request body as a chunked object, replacing any previous object "
+            + "under the key. Readers see the previous object until the upload completes.";
+    public static final String GET_NOTES = "Return the bytes of a chunked object with the content type it was stored with.";
+    public static final String DELETE_NOTES = "Delete a chunked object and its chunks.";
+
+    @Autowired
+    private AerospikeObjectService service;
+
+    @Operation(summary = PUT_NOTES, operationId = "putObjectNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Object stored successfully, no content expected."),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The object was replaced by another upload while this one was in progress.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Object generation does not match the If-Match header.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "Request body is larger than the configured maximum.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @PutMapping(value = "/{namespace}/{set}/{key}")
+    @ASRestClientWritePolicyQueryParams
+    public void putObjectNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.storeObject(authDetails, namespace, set, key, keyType, contentType(request), request.getInputStream(),
+                policy);
+    }
+
+    @Operation(summary = PUT_NOTES, operationId = "putObjectNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Object stored successfully, no content expected."),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "The object was replaced by another upload while this one was in progress.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Object generation does not match the If-Match header.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "413",
+                    description = "Request body is larger than the configured maximum.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @PutMapping(value = "/{namespace}/{key}")
+    @ASRestClientWritePolicyQueryParams
+    public void putObjectNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.storeObject(authDetails, namespace, null, key, keyType, contentType(request), request.getInputStream(),
+                policy);
+    }
+
+    @Operation(summary = GET_NOTES, operationId = "getObjectNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Object returned successfully."),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Object not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{set}/{key}")
+    @ASRestClientPolicyQueryParams
+    public void getObjectNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.getObject(authDetails, namespace, set, key, keyType, policy, objectSink(response));
+    }
+
+    @Operation(summary = GET_NOTES, operationId = "getObjectNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Object returned successfully."),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Object not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{key}")
+    @ASRestClientPolicyQueryParams
+    public void getObjectNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Policy policy = RequestParamHandler.getPolicy(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.getObject(authDetails, namespace, null, key, keyType, policy, objectSink(response));
+    }
+
+    @Operation(summary = DELETE_NOTES, operationId = "deleteObjectNamespaceSetKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Object deleted successfully, no content expected."),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Object not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @DeleteMapping(value = "/{namespace}/{set}/{key}")
+    @ASRestClientWritePolicyQueryParams
+    public void deleteObjectNamespaceSetKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.deleteObject(authDetails, namespace, set, key, keyType, policy);
+    }
+
+    @Operation(summary = DELETE_NOTES, operationId = "deleteObjectNamespaceKey")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "204",
+                    description = "Object deleted successfully, no content expected."),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Object not found.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @ResponseStatus(value = HttpStatus.NO_CONTENT)
+    @DeleteMapping(value = "/{namespace}/{key}")
+    @ASRestClientWritePolicyQueryParams
+    public void deleteObjectNamespaceKey(
+            @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
+            @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(description = KeyValueController.IF_MATCH_NOTES) @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        HeaderHandler.applyIfMatch(policy, ifMatch);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        service.deleteObject(authDetails, namespace, null, key, keyType, policy);
+    }
+
+    private static String contentType(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : contentType;
+    }
+
+    /* Chunks are written to the response as they are read, without joining them into one array first */
+    private static ObjectSink objectSink(HttpServletResponse response) {
+        return (contentType, size, generation) -> {
+            response.setStatus(HttpStatus.OK.value());
+            response.setContentType(contentType == null ? MediaType.APPLICATION_OCTET_STREAM_VALUE : contentType);
+            response.setContentLengthLong(size);
+            response.setHeader(HttpHeaders.ETAG, HeaderHandler.generationETag(generation));
+            return response.getOutputStream();
+        };
+    }
+}
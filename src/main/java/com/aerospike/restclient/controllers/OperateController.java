@@ -16,6 +16,7 @@
  */
 package com.aerospike.restclient.controllers;
 
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientError;
@@ -24,6 +25,7 @@ import com.aerospike.restclient.domain.RestClientRecord;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.service.AerospikeOperateService;
 import com.aerospike.restclient.util.APIParamDescriptors;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
 import com.aerospike.restclient.util.HeaderHandler;
 import com.aerospike.restclient.util.RequestParamHandler;
@@ -34,6 +36,7 @@ import com.aerospike.restclient.util.deserializers.MsgPackOperationsParser;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -41,9 +44,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +70,9 @@ public class OperateController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Multiple operations on a record performed successfully."),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "ADD operations on a coalesced set were queued and will be written shortly."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid parameters or request.",
@@ -88,20 +96,25 @@ public class OperateController {
             produces = {"application/json", "application/msgpack"}
     )
     @ASRestClientWritePolicyQueryParams
+    @Parameter(name = AerospikeAPIConstants.COMPUTED, description = APIParamDescriptors.COMPUTED_NOTES,
+            in = ParameterIn.QUERY, array = @ArraySchema(schema = @Schema(type = "string")))
     public RestClientRecord operateNamespaceSetKey(
             @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
             @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(description = OPERATIONS_PARAM_NOTES, required = true)
             @RequestBody List<RestClientOperation> operations,
-            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) HttpServletResponse response) {
 
-        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, set, key, operations, keyType, policy);
+        return acceptedIfCoalesced(
+                service.operate(authDetails, namespace, set, key, operations, computed, keyType, policy), response);
     }
 
     @Hidden
@@ -114,15 +127,18 @@ public class OperateController {
             @PathVariable(value = "set") String set,
             @PathVariable(value = "key") String key,
             InputStream dataStream,
-            @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            HttpServletResponse response) {
 
-        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         List<RestClientOperation> operations = operationsFromIStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, set, key, operations, keyType, policy);
+        return acceptedIfCoalesced(
+                service.operate(authDetails, namespace, set, key, operations, computed, keyType, policy), response);
     }
 
     @Operation(summary = OPERATE_NOTES, operationId = "operateNamespaceKey")
@@ -130,6 +146,9 @@ public class OperateController {
             @ApiResponse(
                     responseCode = "200",
                     description = "Multiple operations on a record performed successfully."),
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "ADD operations on a coalesced set were queued and will be written shortly."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid parameters or request.",
@@ -152,19 +171,24 @@ public class OperateController {
             consumes = "application/json",
             produces = {"application/json", "application/msgpack"})
     @ASRestClientWritePolicyQueryParams
+    @Parameter(name = AerospikeAPIConstants.COMPUTED, description = APIParamDescriptors.COMPUTED_NOTES,
+            in = ParameterIn.QUERY, array = @ArraySchema(schema = @Schema(type = "string")))
     public RestClientRecord operateNamespaceKey(
             @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = APIParamDescriptors.USERKEY_NOTES, required = true) @PathVariable(value = "key") String key,
             @Parameter(description = OPERATIONS_PARAM_NOTES, required = true)
             @RequestBody List<RestClientOperation> operations,
-            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            @Parameter(hidden = true) HttpServletResponse response) {
 
-        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, null, key, operations, keyType, policy);
+        return acceptedIfCoalesced(
+                service.operate(authDetails, namespace, null, key, operations, computed, keyType, policy), response);
     }
 
     @Hidden
@@ -175,15 +199,25 @@ public class OperateController {
             @PathVariable(value = "namespace") String namespace,
             @PathVariable(value = "key") String key,
             InputStream dataStream,
-            @RequestParam Map<String, String> requestParams,
-            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+            @RequestParam MultiValueMap<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth,
+            HttpServletResponse response) {
 
-        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams);
+        WritePolicy policy = RequestParamHandler.getWritePolicy(requestParams.toSingleValueMap());
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         List<RestClientOperation> operations = operationsFromIStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, null, key, operations, keyType, policy);
+        return acceptedIfCoalesced(
+                service.operate(authDetails, namespace, null, key, operations, computed, keyType, policy), response);
+    }
+
+    private RestClientRecord acceptedIfCoalesced(RestClientRecord record, HttpServletResponse response) {
+        if (record == null) {
+            response.setStatus(HttpStatus.ACCEPTED.value());
+        }
+        return record;
     }
 
     private List<RestClientOperation> operationsFromIStream(InputStream dataStream) {
@@ -220,6 +254,8 @@ public class OperateController {
             produces = {"application/json", "application/msgpack"}
     )
     @ASRestClientOperateReadQueryParams
+    @Parameter(name = AerospikeAPIConstants.COMPUTED, description = APIParamDescriptors.COMPUTED_NOTES,
+            in = ParameterIn.QUERY, array = @ArraySchema(schema = @Schema(type = "string")))
     public RestClientRecord[] operateBatchNamespaceSet(
             @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = APIParamDescriptors.SET_NOTES, required = true) @PathVariable(value = "set") String set,
@@ -231,9 +267,10 @@ public class OperateController {
         BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams.toSingleValueMap());
         String[] keys = RequestParamHandler.getKeysFromMap(requestParams);
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, set, keys, operations, keyType, policy);
+        return service.operate(authDetails, namespace, set, keys, operations, computed, keyType, policy);
     }
 
     @Hidden
@@ -251,10 +288,11 @@ public class OperateController {
         BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams.toSingleValueMap());
         String[] keys = RequestParamHandler.getKeysFromMap(requestParams);
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         List<RestClientOperation> operations = operationsFromIStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, set, keys, operations, keyType, policy);
+        return service.operate(authDetails, namespace, set, keys, operations, computed, keyType, policy);
     }
 
     @Operation(summary = BATCH_OPERATE_NOTES, operationId = "operateBatchNamespace")
@@ -285,6 +323,8 @@ public class OperateController {
             consumes = "application/json",
             produces = {"application/json", "application/msgpack"})
     @ASRestClientOperateReadQueryParams
+    @Parameter(name = AerospikeAPIConstants.COMPUTED, description = APIParamDescriptors.COMPUTED_NOTES,
+            in = ParameterIn.QUERY, array = @ArraySchema(schema = @Schema(type = "string")))
     public RestClientRecord[] operateBatchNamespace(
             @Parameter(description = APIParamDescriptors.NAMESPACE_NOTES, required = true) @PathVariable(value = "namespace") String namespace,
             @Parameter(description = OPERATIONS_PARAM_NOTES, required = true)
@@ -295,9 +335,10 @@ public class OperateController {
         BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams.toSingleValueMap());
         String[] keys = RequestParamHandler.getKeysFromMap(requestParams);
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, null, keys, operations, keyType, policy);
+        return service.operate(authDetails, namespace, null, keys, operations, computed, keyType, policy);
     }
 
     @Hidden
@@ -313,9 +354,10 @@ public class OperateController {
         BatchPolicy policy = RequestParamHandler.getBatchPolicy(requestParams.toSingleValueMap());
         String[] keys = RequestParamHandler.getKeysFromMap(requestParams);
         RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(requestParams);
+        Map<String, Expression> computed = RequestParamHandler.getComputedFromMap(requestParams);
         List<RestClientOperation> operations = operationsFromIStream(dataStream);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
 
-        return service.operate(authDetails, namespace, null, keys, operations, keyType, policy);
+        return service.operate(authDetails, namespace, null, keys, operations, computed, keyType, policy);
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.controllers;
+
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientPipelineRequest;
+import com.aerospike.restclient.domain.RestClientPipelineResponse;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.service.AerospikePipelineService;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Pipeline Operations", description = "Execute several independent requests in a single call.")
+@RestController
+@RequestMapping("/v1/pipeline")
+public class PipelineController {
+
+    public static final String PIPELINE_NOTES = "Execute a list of independent sub-requests concurrently. "
+            + "Supported sub-requests are record reads, writes, deletes and exists checks under /v1/kvs, "
+            + "record operations under /v1/operate and document reads under /v1/document. "
+            + "Sub-responses are returned in request order, each with its own status code.";
+
+    @Autowired
+    private AerospikePipelineService service;
+
+    @Operation(summary = PIPELINE_NOTES, operationId = "performPipeline")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "All sub-requests completed. The outcome of each is reported by its status.",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = RestClientPipelineResponse.class)))),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid parameters or request.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @PostMapping(consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
+    public List<RestClientPipelineResponse> performPipeline(@RequestBody List<RestClientPipelineRequest> requests,
+                                                            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.execute(authDetails, requests);
+    }
+}
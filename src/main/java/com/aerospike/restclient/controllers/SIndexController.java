@@ -20,12 +20,15 @@ import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.restclient.domain.RestClientError;
 import com.aerospike.restclient.domain.RestClientIndex;
+import com.aerospike.restclient.domain.RestClientIndexProgress;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.service.AerospikeSIndexService;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
 import com.aerospike.restclient.util.HeaderHandler;
 import com.aerospike.restclient.util.ResponseExamples;
 import com.aerospike.restclient.util.annotations.ASRestClientInfoPolicyQueryParams;
 import com.aerospike.restclient.util.annotations.DefaultRestClientAPIResponses;
+import com.aerospike.restclient.util.converters.PolicyValueConverter;
 import com.aerospike.restclient.util.converters.policyconverters.InfoPolicyConverter;
 import com.aerospike.restclient.util.converters.policyconverters.PolicyConverter;
 import io.swagger.v3.oas.annotations.Operation;
@@ -40,6 +43,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -86,11 +90,24 @@ public class SIndexController {
         return service.getIndexList(authDetails, namespace, policy);
     }
 
+    @Parameters(value = {
+            @Parameter(name = AerospikeAPIConstants.WAIT,
+                    description = "If true, respond once the index is built on every node, or when waitTimeout expires.",
+                    schema = @Schema(type = "boolean", defaultValue = "false"),
+                    in = ParameterIn.QUERY),
+            @Parameter(name = AerospikeAPIConstants.WAIT_TIMEOUT,
+                    description = "The longest time to wait for the index to be built, in milliseconds. Capped by the server configuration.",
+                    schema = @Schema(type = "integer"),
+                    in = ParameterIn.QUERY)
+    })
     @Operation(summary = "Create a secondary index.", operationId = "createIndex")
     @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "The secondary index has been created and is built on every node."),
             @ApiResponse(
                     responseCode = "202",
-                    description = "Request to create a secondary index has been accepted."),
+                    description = "Request to create a secondary index has been accepted. The index may still be building."),
             @ApiResponse(
                     responseCode = "400",
                     description = "Invalid index creation parameters.",
@@ -105,17 +122,21 @@ public class SIndexController {
                     content = @Content(schema = @Schema(implementation = RestClientError.class)))
     })
     @DefaultRestClientAPIResponses
-    @ResponseStatus(value = HttpStatus.ACCEPTED)
     @PostMapping(consumes = {"application/json", "application/msgpack"}, produces = {"application/json", "application/msgpack"})
-    public void createIndex(
+    public ResponseEntity<Void> createIndex(
             @RequestBody RestClientIndex indexModel,
             @Parameter(hidden = true) @RequestParam Map<String, String> policyMap,
             @RequestHeader(value = "Authorization", required = false) String basicAuth) {
 
         Policy policy = PolicyConverter.policyFromMap(policyMap);
         AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+        boolean wait = policyMap.containsKey(AerospikeAPIConstants.WAIT)
+                && PolicyValueConverter.getBoolValue(policyMap.get(AerospikeAPIConstants.WAIT));
+        int waitTimeout = policyMap.containsKey(AerospikeAPIConstants.WAIT_TIMEOUT)
+                ? PolicyValueConverter.getIntValue(policyMap.get(AerospikeAPIConstants.WAIT_TIMEOUT)) : 0;
 
-        service.createIndex(authDetails, indexModel, policy);
+        boolean ready = service.createIndex(authDetails, indexModel, policy, wait, waitTimeout);
+        return new ResponseEntity<>(ready ? HttpStatus.CREATED : HttpStatus.ACCEPTED);
     }
 
     @Operation(summary = "Remove a secondary Index", operationId = "dropIndex")
@@ -176,4 +197,34 @@ public class SIndexController {
 
         return service.indexStats(authDetails, namespace, name, policy);
     }
+
+    @Operation(summary = "Get the build progress and statistics of a secondary index on every node.", operationId = "getIndexProgress")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Index statistics read from the nodes. Nodes which failed or did not answer in time are listed in errors.",
+                    content = @Content(examples = @ExampleObject(name = ResponseExamples.SINDEX_PROGRESS_NAME, value = ResponseExamples.SINDEX_PROGRESS_VALUE))),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Not authorized to access the resource.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class))),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Specified Index does not exist.",
+                    content = @Content(schema = @Schema(implementation = RestClientError.class)))
+    })
+    @DefaultRestClientAPIResponses
+    @GetMapping(value = "/{namespace}/{name}/progress", produces = {"application/json", "application/msgpack"})
+    @ASRestClientInfoPolicyQueryParams
+    public RestClientIndexProgress getIndexProgress(
+            @Parameter(required = true, description = "The namespace containing the index") @PathVariable(value = "namespace") String namespace,
+            @Parameter(required = true, description = "The name of the index") @PathVariable(value = "name") String name,
+            @Parameter(hidden = true) @RequestParam Map<String, String> requestParams,
+            @RequestHeader(value = "Authorization", required = false) String basicAuth) {
+
+        InfoPolicy policy = InfoPolicyConverter.policyFromMap(requestParams);
+        AuthDetails authDetails = HeaderHandler.extractAuthDetails(basicAuth);
+
+        return service.indexProgress(authDetails, namespace, name, policy);
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class RestClientAsyncWriteStats {
+
+	public RestClientAsyncWriteStats() {}
+
+	public RestClientAsyncWriteStats(int depth, int capacity, long oldestAgeMillis, long accepted, long written,
+									 long retried, long failed, long rejected) {
+		this.depth = depth;
+		this.capacity = capacity;
+		this.oldestAgeMillis = oldestAgeMillis;
+		this.accepted = accepted;
+		this.written = written;
+		this.retried = retried;
+		this.failed = failed;
+		this.rejected = rejected;
+	}
+
+	@Schema(name = "depth", description = "The number of accepted writes waiting to be sent.", example = "42")
+	public int depth;
+
+	@Schema(name = "capacity", description = "The maximum number of waiting writes.", example = "10000")
+	public int capacity;
+
+	@Schema(name = "oldestAgeMillis", description = "How long the oldest waiting write has been queued, in milliseconds.",
+			example = "12")
+	public long oldestAgeMillis;
+
+	@Schema(name = "accepted", description = "Writes accepted with 202.", example = "100000")
+	public long accepted;
+
+	@Schema(name = "written", description = "Accepted writes stored in the cluster.", example = "99950")
+	public long written;
+
+	@Schema(name = "retried", description = "Write attempts repeated after a transient error.", example = "12")
+	public long retried;
+
+	@Schema(name = "failed", description = "Accepted writes dropped after an error or running out of retries.", example = "8")
+	public long failed;
+
+	@Schema(name = "rejected", description = "Writes refused with 503 because the queue was full.", example = "0")
+	public long rejected;
+}
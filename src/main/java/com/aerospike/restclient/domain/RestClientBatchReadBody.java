@@ -17,6 +17,7 @@
 package com.aerospike.restclient.domain;
 
 import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
 import com.aerospike.restclient.util.RestClientErrors;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -35,14 +36,18 @@ public class RestClientBatchReadBody {
 
 	public RestClientBatchReadBody() {}
 
-	public BatchRead toBatchRead() {
+	public Key toKey() {
 		if (key == null) {
 			throw new RestClientErrors.InvalidKeyError("Key for a batch read may not be null");
 		}
+		return key.toKey();
+	}
+
+	public BatchRead toBatchRead() {
 		if (readAllBins) {
-			return new BatchRead(key.toKey(), true);
+			return new BatchRead(toKey(), true);
 		} else {
-			return new BatchRead(key.toKey(), binNames);
+			return new BatchRead(toKey(), binNames);
 		}
 	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.converters.BinConverter;
+import com.aerospike.restclient.util.converters.OperationsConverter;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class RestClientBatchWriteBody {
+
+	public enum BatchWriteType {
+		/* Create or update, honoring the recordExistsAction query parameter */
+		PUT,
+		CREATE,
+		REPLACE,
+		UPDATE,
+		DELETE,
+		OPERATE
+	}
+
+	@Schema(description = "The write to perform for this entry.", required = true, example = "PUT")
+	@JsonProperty(required=true)
+	public BatchWriteType type;
+
+	@Schema(description = "Key of the record to write.", required = true)
+	@JsonProperty(required=true)
+	public RestClientKey key;
+
+	@Schema(description = "A mapping from binName to binValue. Used by PUT, CREATE, REPLACE and UPDATE entries.",
+			example = "{\"bin1\": \"val1\", \"pi\": 3.14}")
+	public Map<String, Object> bins;
+
+	@Schema(description = "Operations to apply to the record. Used by OPERATE entries.")
+	public List<RestClientOperation> operations;
+
+	public RestClientBatchWriteBody() {}
+
+	public void validate() {
+		if (key == null) {
+			throw new RestClientErrors.InvalidKeyError("Key for a batch write may not be null");
+		}
+		if (type == null) {
+			throw new RestClientErrors.InvalidOperationError("Type for a batch write may not be null");
+		}
+		switch (type) {
+			case DELETE:
+				break;
+			case OPERATE:
+				if (operations == null || operations.isEmpty()) {
+					throw new RestClientErrors.InvalidOperationError("OPERATE batch write requires operations");
+				}
+				break;
+			default:
+				if (bins == null) {
+					throw new RestClientErrors.InvalidOperationError(type + " batch write requires bins");
+				}
+		}
+	}
+
+	public Key toKey() {
+		return key.toKey();
+	}
+
+	/* Compressed like a single record write to the same set */
+	public Bin[] toBins(BinCompressor compressor) {
+		return BinConverter.binsFromMap(bins, key.namespace, key.setName, compressor);
+	}
+
+	public Operation[] toOperations() {
+		return OperationsConverter.mapListToOperationsArray(
+				operations.stream().map(RestClientOperation::toMap).collect(Collectors.toList()));
+	}
+
+	/* Derive the policy for this entry from the request level policy */
+	public WritePolicy toWritePolicy(WritePolicy policy) {
+		WritePolicy entryPolicy = new WritePolicy(policy);
+		switch (type) {
+			case CREATE:
+				entryPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+				break;
+			case REPLACE:
+				entryPolicy.recordExistsAction = RecordExistsAction.REPLACE_ONLY;
+				break;
+			case UPDATE:
+				entryPolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+				break;
+			default:
+				break;
+		}
+		return entryPolicy;
+	}
+}
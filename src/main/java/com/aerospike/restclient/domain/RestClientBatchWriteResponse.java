@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class RestClientBatchWriteResponse {
+
+	public RestClientBatchWriteResponse() {}
+
+	public RestClientBatchWriteResponse(Key key, Record record) {
+		this.key = key != null ? new RestClientKey(key) : null;
+		this.record = record != null ? new RestClientRecord(record) : null;
+		resultCode = ResultCode.OK;
+	}
+
+	public RestClientBatchWriteResponse(Key key, int resultCode) {
+		this.key = key != null ? new RestClientKey(key) : null;
+		this.resultCode = resultCode;
+	}
+
+	public RestClientBatchWriteResponse(Key key, AerospikeException exception) {
+		this(key, exception.getResultCode());
+		inDoubt = exception.getInDoubt();
+		message = exception.getMessage();
+	}
+
+	@Schema(description = "Key of the written record. Null when the key of the entry is invalid")
+	public RestClientKey key;
+
+	@Schema(description = "Aerospike result code of the write. 0 indicates success.", example = "0")
+	public int resultCode;
+
+	@Schema(description = "Whether the write may have completed even though an error was returned")
+	public boolean inDoubt;
+
+	@Schema(description = "Error message when the write failed")
+	public String message;
+
+	@Schema(description = "Record returned by an OPERATE entry. Null for other entries")
+	public RestClientRecord record;
+}
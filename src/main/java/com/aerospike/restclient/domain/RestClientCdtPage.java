@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/* One page of the elements of a list or map bin */
+public class RestClientCdtPage {
+
+	public RestClientCdtPage() {}
+
+	public RestClientCdtPage(Object values, long size, String cursor) {
+		this.values = values;
+		this.size = size;
+		this.cursor = cursor;
+	}
+
+	@Schema(name = "values", description = "The elements of the page. A list for list bins, a key ordered mapping for map bins.",
+			example = "[1, 2, 3]")
+	public Object values;
+
+	@Schema(name = "size", description = "The total number of elements in the bin.", example = "25000")
+	public long size;
+
+	@Schema(name = "cursor", description = "Pass as the cursor parameter to read the next page. Absent on the last page.",
+			example = "bzoz")
+	public String cursor;
+}
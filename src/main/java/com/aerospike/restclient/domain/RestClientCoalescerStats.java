@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class RestClientCoalescerStats {
+
+	public RestClientCoalescerStats() {}
+
+	public RestClientCoalescerStats(int pending, int queued, int maxQueued, long coalesced, long written,
+									long retried, long failed, long bypassed) {
+		this.pending = pending;
+		this.queued = queued;
+		this.maxQueued = maxQueued;
+		this.coalesced = coalesced;
+		this.written = written;
+		this.retried = retried;
+		this.failed = failed;
+		this.bypassed = bypassed;
+	}
+
+	@Schema(name = "pending", description = "The number of records with increments waiting for the window to close.", example = "42")
+	public int pending;
+
+	@Schema(name = "queued", description = "The number of merged writes waiting for or being sent to the cluster.", example = "8")
+	public int queued;
+
+	@Schema(name = "maxQueued", description = "The maximum number of pending and queued merged writes.", example = "10000")
+	public int maxQueued;
+
+	@Schema(name = "coalesced", description = "Operate requests accepted with 202 and merged.", example = "100000")
+	public long coalesced;
+
+	@Schema(name = "written", description = "Merged writes stored in the cluster.", example = "950")
+	public long written;
+
+	@Schema(name = "retried", description = "Merged write attempts repeated after a transient error.", example = "3")
+	public long retried;
+
+	@Schema(name = "failed", description = "Merged writes whose acknowledged increments were lost after an error.", example = "0")
+	public long failed;
+
+	@Schema(name = "bypassed", description = "Operate requests written directly because the queue limit was reached.", example = "0")
+	public long bypassed;
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class RestClientCompressionStats {
+
+	public RestClientCompressionStats() {}
+
+	public RestClientCompressionStats(Collection<String> sets, String codec, int minBytes, long compressedValues,
+									  long skippedValues, long bytesIn, long bytesOut, long compressNanos,
+									  long decompressedValues, long decompressNanos) {
+		this.sets = new ArrayList<>(sets);
+		Collections.sort(this.sets);
+		this.codec = codec;
+		this.minBytes = minBytes;
+		this.compressedValues = compressedValues;
+		this.skippedValues = skippedValues;
+		this.bytesIn = bytesIn;
+		this.bytesOut = bytesOut;
+		this.ratio = bytesIn == 0 ? 0 : (double) bytesOut / bytesIn;
+		this.compressMillis = compressNanos / 1000000;
+		this.decompressedValues = decompressedValues;
+		this.decompressMillis = decompressNanos / 1000000;
+	}
+
+	@Schema(name = "sets", description = "The sets bins are compressed for, as namespace.set.", example = "[\"test.docs\"]")
+	public List<String> sets;
+
+	@Schema(name = "codec", description = "The codec used for new values.", example = "DEFLATE")
+	public String codec;
+
+	@Schema(name = "minBytes", description = "Values smaller than this are stored as they are.", example = "4096")
+	public int minBytes;
+
+	@Schema(name = "compressedValues", description = "Values stored compressed.", example = "1200")
+	public long compressedValues;
+
+	@Schema(name = "skippedValues", description = "Values stored as they are because compression did not make them smaller.", example = "30")
+	public long skippedValues;
+
+	@Schema(name = "bytesIn", description = "Size of the compressed values before compression.", example = "52428800")
+	public long bytesIn;
+
+	@Schema(name = "bytesOut", description = "Size of the compressed values after compression.", example = "10485760")
+	public long bytesOut;
+
+	@Schema(name = "ratio", description = "The ratio of bytesOut to bytesIn.", example = "0.2")
+	public double ratio;
+
+	@Schema(name = "compressMillis", description = "Time spent compressing values.", example = "850")
+	public long compressMillis;
+
+	@Schema(name = "decompressedValues", description = "Values decompressed on read.", example = "5000")
+	public long decompressedValues;
+
+	@Schema(name = "decompressMillis", description = "Time spent decompressing values.", example = "400")
+	public long decompressMillis;
+}
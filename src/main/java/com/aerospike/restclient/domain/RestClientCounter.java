@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/* The total of a counter spread over several sub-records */
+public class RestClientCounter {
+
+	public RestClientCounter() {}
+
+	public RestClientCounter(String name, int shards, long value) {
+		this.name = name;
+		this.shards = shards;
+		this.value = value;
+	}
+
+	@Schema(name = "name", description = "The name of the counter.", example = "page-views")
+	public String name;
+
+	@Schema(name = "shards", description = "The number of sub-records the counter is spread over.", example = "16")
+	public int shards;
+
+	@Schema(name = "value", description = "The sum of the counter over all of its sub-records.", example = "1200345")
+	public long value;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import com.aerospike.client.Key;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class RestClientDocumentReadBody {
+
+	@Schema(description = "Key of the document record.", required = true)
+	@JsonProperty(required = true)
+	public RestClientKey key;
+
+	@Schema(description = "Bins holding the document.", required = true, example = "[\"docBin\"]")
+	@JsonProperty(required = true)
+	public String[] bins;
+
+	@Schema(description = "JSONPath expressions to evaluate against each bin. Not URL encoded.", required = true,
+			example = "[\"$.profile.name\", \"$.orders[0]\"]")
+	@JsonProperty(required = true)
+	public String[] jsonPaths;
+
+	public RestClientDocumentReadBody() {}
+
+	public Key toKey() {
+		if (key == null) {
+			throw new RestClientErrors.InvalidKeyError("Key for a document read may not be null");
+		}
+		return key.toKey();
+	}
+
+	public void validate() {
+		toKey();
+		if (bins == null || bins.length == 0) {
+			throw new RestClientErrors.InvalidOperationError("A document read needs at least one bin");
+		}
+		if (jsonPaths == null || jsonPaths.length == 0) {
+			throw new RestClientErrors.InvalidOperationError("A document read needs at least one jsonPath");
+		}
+	}
+}
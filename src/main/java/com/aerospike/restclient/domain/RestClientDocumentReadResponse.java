@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+public class RestClientDocumentReadResponse {
+
+	public RestClientDocumentReadResponse() {}
+
+	public RestClientDocumentReadResponse(int index, Key key, Map<String, Map<String, Object>> results) {
+		this.index = index;
+		this.key = new RestClientKey(key);
+		this.results = results;
+		resultCode = ResultCode.OK;
+	}
+
+	public RestClientDocumentReadResponse(int index, Key key, int resultCode, String message) {
+		this.index = index;
+		this.key = new RestClientKey(key);
+		this.resultCode = resultCode;
+		this.message = message;
+	}
+
+	public RestClientDocumentReadResponse(int index, Key key, AerospikeException exception) {
+		this(index, key, exception.getResultCode(), exception.getMessage());
+	}
+
+	@Schema(description = "Position of the entry in the request. Responses are returned as they complete.", example = "0")
+	public int index;
+
+	@Schema(description = "Key of the document record.")
+	public RestClientKey key;
+
+	@Schema(description = "Aerospike result code of the read. 0 indicates success.", example = "0")
+	public int resultCode;
+
+	@Schema(description = "Error message when the read failed.")
+	public String message;
+
+	@Schema(description = "A mapping from jsonPath to a mapping from bin name to the value found at that path.",
+			example = "{\"$.profile.name\": {\"docBin\": \"Bob\"}}")
+	public Map<String, Map<String, Object>> results;
+}
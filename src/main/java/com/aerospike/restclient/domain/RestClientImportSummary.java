@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RestClientImportSummary {
+
+	@Schema(description = "Number of records read from the request body.", example = "100000")
+	public long processed;
+
+	@Schema(description = "Number of records written successfully.", example = "99998")
+	public long written;
+
+	@Schema(description = "Number of records which could not be written.", example = "2")
+	public long failed;
+
+	@Schema(description = "Details of the first failed records. The number of reported failures is capped.")
+	public List<Failure> failures = new ArrayList<>();
+
+	@Schema(description = "Set when the import stopped before the end of the request body.")
+	public String error;
+
+	public RestClientImportSummary() {}
+
+	public static class Failure {
+
+		@Schema(description = "Zero based position of the record in the request body.", example = "41")
+		public long index;
+
+		@Schema(description = "The user key of the record, if it could be read.")
+		public Object userKey;
+
+		@Schema(description = "Aerospike result code of the failure.", example = "4")
+		public int resultCode;
+
+		@Schema(description = "Description of the failure.")
+		public String message;
+
+		public Failure() {}
+
+		public Failure(long index, Object userKey, int resultCode, String message) {
+			this.index = index;
+			this.userKey = userKey;
+			this.resultCode = resultCode;
+			this.message = message;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+public class RestClientIndexNodeStats {
+
+	public RestClientIndexNodeStats() {}
+
+	/*
+	 * Stat names differ between server versions, so each value is read from the first name the node reports.
+	 */
+	public RestClientIndexNodeStats(Map<String, String> stats) {
+		this.loadPct = (int) firstLong(stats, "load_pct");
+		this.entries = firstLong(stats, "entries", "keys");
+		this.memoryUsed = stats.containsKey("memory_used") ? firstLong(stats, "memory_used")
+				: firstLong(stats, "ibtr_memory_used") + firstLong(stats, "nbtr_memory_used");
+		this.queries = firstLong(stats, "query_basic_complete", "query_reqs");
+		this.queryErrors = firstLong(stats, "query_basic_error", "query_fail");
+		this.stats = stats;
+	}
+
+	@Schema(name = "loadPct", description = "How much of the index is built on this node, in percent.", example = "100")
+	public int loadPct;
+
+	@Schema(name = "entries", description = "The number of entries in the index on this node.", example = "120000")
+	public long entries;
+
+	@Schema(name = "memoryUsed", description = "Memory used by the index on this node, in bytes.", example = "18874368")
+	public long memoryUsed;
+
+	@Schema(name = "queries", description = "Queries which used the index on this node.", example = "350")
+	public long queries;
+
+	@Schema(name = "queryErrors", description = "Queries on this node which used the index and failed.", example = "0")
+	public long queryErrors;
+
+	@Schema(name = "stats", description = "All statistics the node reported for the index.")
+	public Map<String, String> stats;
+
+	private static long firstLong(Map<String, String> stats, String... names) {
+		for (String name : names) {
+			String value = stats.get(name);
+			if (value != null) {
+				try {
+					return Long.parseLong(value.trim());
+				} catch (NumberFormatException ignore) {
+				}
+			}
+		}
+		return 0;
+	}
+}
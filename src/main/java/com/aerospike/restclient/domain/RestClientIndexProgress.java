@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class RestClientIndexProgress {
+
+	public RestClientIndexProgress() {
+		this.nodes = new TreeMap<>();
+		this.errors = new TreeMap<>();
+	}
+
+	public RestClientIndexProgress(String namespace, String name) {
+		this();
+		this.namespace = namespace;
+		this.name = name;
+	}
+
+	@Schema(name = "namespace", example = "testNS")
+	public String namespace;
+
+	@Schema(name = "name", description = "The name of the index.", example = "ageIndex")
+	public String name;
+
+	@Schema(name = "ready", description = "True when every node answered and has built the whole index.", example = "false")
+	public boolean ready;
+
+	@Schema(name = "loadPct", description = "The lowest build progress of any node that answered, in percent.", example = "65")
+	public int loadPct;
+
+	@Schema(name = "nodes", description = "Statistics of the index keyed by node name.")
+	public Map<String, RestClientIndexNodeStats> nodes;
+
+	@Schema(name = "errors", description = "The error for each node that failed or did not answer in time, keyed by node name.",
+			example = "{}")
+	public Map<String, String> errors;
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import com.google.common.cache.CacheStats;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class RestClientNegativeCacheStats {
+
+	public RestClientNegativeCacheStats() {}
+
+	public RestClientNegativeCacheStats(Collection<String> sets, long size, CacheStats stats) {
+		this.sets = new ArrayList<>(sets);
+		Collections.sort(this.sets);
+		this.size = size;
+		hits = stats.hitCount();
+		misses = stats.missCount();
+		hitRate = stats.hitRate();
+		evictions = stats.evictionCount();
+	}
+
+	@Schema(name = "sets", description = "The sets missing keys are cached for, as namespace.set.", example = "[\"test.flags\"]")
+	public List<String> sets;
+
+	@Schema(name = "size", description = "The number of missing keys currently cached.", example = "120")
+	public long size;
+
+	@Schema(name = "hits", description = "Lookups answered from the cache.", example = "9000")
+	public long hits;
+
+	@Schema(name = "misses", description = "Lookups that went to the cluster.", example = "1000")
+	public long misses;
+
+	@Schema(name = "hitRate", description = "The ratio of hits to lookups.", example = "0.9")
+	public double hitRate;
+
+	@Schema(name = "evictions", description = "Entries removed because they expired or the cache was full.", example = "50")
+	public long evictions;
+}
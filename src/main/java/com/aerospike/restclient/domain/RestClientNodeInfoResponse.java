@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class RestClientNodeInfoResponse {
+
+	public RestClientNodeInfoResponse() {
+		this.responses = new TreeMap<>();
+		this.errors = new TreeMap<>();
+	}
+
+	@Schema(name = "responses", description = "The responses of each node that answered, keyed by node name and then by info command.",
+			example = "{\"BB9020011AC4202\": {\"edition\": \"Aerospike Enterprise Edition\"}}")
+	public Map<String, Map<String, String>> responses;
+
+	@Schema(name = "errors", description = "The error for each node that did not answer in time or failed, keyed by node name.",
+			example = "{\"BB9030011AC4202\": \"Timed out after 1000 ms\"}")
+	public Map<String, String> errors;
+}
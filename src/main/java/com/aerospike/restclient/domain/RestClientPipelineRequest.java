@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+public class RestClientPipelineRequest {
+
+	@Schema(description = "HTTP method of the sub-request.", required = true, example = "GET")
+	@JsonProperty(required=true)
+	public String method;
+
+	@Schema(description = "Path of the sub-request, as it would be sent to the REST client. May include a query string.",
+			required = true, example = "/v1/kvs/testNS/testSet/userKey?bins=bin1")
+	@JsonProperty(required=true)
+	public String path;
+
+	@Schema(description = "Query parameters of the sub-request. These override parameters given in the path.",
+			example = "{\"keytype\": \"STRING\"}")
+	public Map<String, String> params;
+
+	@Schema(description = "Body of the sub-request. Bins for record writes, or a list of operations for operate.")
+	public Object body;
+
+	public RestClientPipelineRequest() {}
+}
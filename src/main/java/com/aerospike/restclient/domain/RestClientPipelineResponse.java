@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.http.HttpStatus;
+
+public class RestClientPipelineResponse {
+
+	@Schema(description = "HTTP status code the sub-request would have returned.", example = "200")
+	public int status;
+
+	@Schema(description = "Body the sub-request would have returned. A RestClientError if the sub-request failed.")
+	public Object body;
+
+	public RestClientPipelineResponse() {}
+
+	public RestClientPipelineResponse(HttpStatus status) {
+		this(status, null);
+	}
+
+	public RestClientPipelineResponse(HttpStatus status, Object body) {
+		this.status = status.value();
+		this.body = body;
+	}
+}
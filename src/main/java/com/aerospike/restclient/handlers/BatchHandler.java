@@ -17,10 +17,25 @@
 package com.aerospike.restclient.handlers;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientBatchWriteBody;
+import com.aerospike.restclient.domain.RestClientBatchWriteResponse;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.RestClientErrors;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class BatchHandler {
 
@@ -34,6 +49,76 @@ public class BatchHandler {
         client.get(policy, records);
     }
 
+    public boolean[] exists(BatchPolicy policy, Key[] keys) {
+        return client.exists(policy, keys);
+    }
+
+    public Record[] getHeaders(BatchPolicy policy, Key[] keys) {
+        return client.getHeader(policy, keys);
+    }
+
+    /*
+     * The client has no batch write command, so each entry is issued as its own single record
+     * command on the shared executor. At most maxInFlight entries of one request are queued or
+     * running at a time, so a large batch does not queue ahead of other requests.
+     * Responses are returned in request order.
+     */
+    public List<RestClientBatchWriteResponse> batchWrite(WritePolicy policy, List<RestClientBatchWriteBody> entries,
+                                                         BinCompressor compressor, ExecutorService executor,
+                                                         int maxInFlight) {
+        Deque<Future<RestClientBatchWriteResponse>> futures = new ArrayDeque<>();
+        List<RestClientBatchWriteResponse> responses = new ArrayList<>(entries.size());
+        try {
+            for (RestClientBatchWriteBody entry : entries) {
+                if (futures.size() >= maxInFlight) {
+                    responses.add(futures.poll().get());
+                }
+                futures.add(executor.submit(() -> write(policy, entry, compressor)));
+            }
+            while (!futures.isEmpty()) {
+                responses.add(futures.poll().get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Batch write interrupted");
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AerospikeException(e.getCause());
+        }
+        return responses;
+    }
+
+    private RestClientBatchWriteResponse write(WritePolicy policy, RestClientBatchWriteBody entry,
+                                               BinCompressor compressor) {
+        Key key = null;
+        try {
+            key = entry.toKey();
+            WritePolicy entryPolicy = entry.toWritePolicy(policy);
+            switch (entry.type) {
+                case DELETE:
+                    return client.delete(entryPolicy, key) ? new RestClientBatchWriteResponse(key, (Record) null) :
+                            new RestClientBatchWriteResponse(key, ResultCode.KEY_NOT_FOUND_ERROR);
+                case OPERATE:
+                    return new RestClientBatchWriteResponse(key, client.operate(entryPolicy, key,
+                            entry.toOperations()));
+                default:
+                    client.put(entryPolicy, key, entry.toBins(compressor));
+                    return new RestClientBatchWriteResponse(key, (Record) null);
+            }
+        } catch (AerospikeException e) {
+            return new RestClientBatchWriteResponse(key, e);
+        } catch (RestClientErrors.AerospikeRestClientError e) {
+            /* A malformed entry fails on its own instead of failing the whole batch */
+            RestClientBatchWriteResponse response = new RestClientBatchWriteResponse(key, ResultCode.PARAMETER_ERROR);
+            response.message = e.getErrorMessage();
+            return response;
+        }
+    }
+
     public static BatchHandler create(AerospikeClient client) {
         return new BatchHandler(client);
     }
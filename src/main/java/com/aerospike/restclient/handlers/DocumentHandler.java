@@ -17,26 +17,134 @@
 package com.aerospike.restclient.handlers;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
 import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.documentapi.AerospikeDocumentClient;
 import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.converters.CompiledJsonPath;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class DocumentHandler {
 
     private final AerospikeDocumentClient client;
+    private final AerospikeClient aerospikeClient;
 
     public DocumentHandler(AerospikeClient client) {
         this.client = new AerospikeDocumentClient(client);
+        this.aerospikeClient = client;
+    }
+
+    /*
+     * A compiled path is read with one operate call returning only the addressed element. If the
+     * element is missing or has an unexpected type, the document client handles the request, so
+     * errors are reported the same way for every path.
+     */
+    public Map<String, Object> getObject(Key key, List<String> bins, CompiledJsonPath jsonPath, Policy policy) {
+        Record record = getObjectRecord(key, bins, jsonPath, policy);
+        if (record != null) {
+            return record.bins;
+        }
+        return getObject(key, bins, jsonPath.getPath(), policy);
+    }
+
+    /*
+     * Read a compiled path with one operate call. The returned record holds the addressed element of each
+     * bin, along with the generation and expiration of the version it was read from. Null if the path
+     * cannot be read this way, or the element is missing or has an unexpected type.
+     */
+    public Record getObjectRecord(Key key, List<String> bins, CompiledJsonPath jsonPath, Policy policy) {
+        if (!jsonPath.isCompiled() || !isPushDownable(bins)) {
+            return null;
+        }
+        Record record = readCompiled(key, bins, jsonPath, policy, false);
+        if (record == null && jsonPath.isLength()) {
+            record = readCompiled(key, bins, jsonPath, policy, true);
+        }
+        return record;
+    }
+
+    /*
+     * Evaluate several paths against the same bins. All compiled paths are read with a single operate
+     * call, paths that did not compile or whose element was not found are then evaluated one at a time.
+     * Results are keyed by path, then by bin.
+     */
+    public Map<String, Map<String, Object>> getObjects(Key key, List<String> bins, List<CompiledJsonPath> jsonPaths,
+                                                       Policy policy) {
+        Map<String, CompiledJsonPath> uniquePaths = new LinkedHashMap<>();
+        jsonPaths.forEach(jsonPath -> uniquePaths.putIfAbsent(jsonPath.getPath(), jsonPath));
+        List<CompiledJsonPath> compiled = uniquePaths.values().stream()
+                .filter(CompiledJsonPath::isCompiled)
+                .collect(Collectors.toList());
+
+        Map<String, Map<String, Object>> found = new HashMap<>();
+        if (!compiled.isEmpty() && isPushDownable(bins)) {
+            Record record = readCompiled(key, bins, compiled, policy);
+            for (int i = 0; record != null && i < compiled.size(); i++) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                for (String bin : bins) {
+                    /* Several operations on one bin return their results as a list, in operation order */
+                    Object value = compiled.size() == 1 ? record.getValue(bin) : resultAt(record.getList(bin), i);
+                    if (value == null) {
+                        values = null;
+                        break;
+                    }
+                    values.put(bin, value);
+                }
+                if (values != null) {
+                    found.put(compiled.get(i).getPath(), values);
+                }
+            }
+        }
+
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (CompiledJsonPath jsonPath : uniquePaths.values()) {
+            Map<String, Object> values = found.get(jsonPath.getPath());
+            results.put(jsonPath.getPath(), values != null ? values : getObject(key, bins, jsonPath, policy));
+        }
+        return results;
+    }
+
+    public void putObject(Key key, List<String> bins, CompiledJsonPath jsonPath, Object jsonObject,
+                          WritePolicy policy) {
+        if (!jsonPath.isWritable()
+                || !writeCompiled(key, bins, bin -> jsonPath.putOperation(bin, jsonObject), policy)) {
+            putObject(key, bins, jsonPath.getPath(), jsonObject, policy);
+        }
+    }
+
+    public void appendObject(Key key, List<String> bins, CompiledJsonPath jsonPath, Object jsonObject,
+                             WritePolicy policy) {
+        if (!jsonPath.isAppendable()
+                || !writeCompiled(key, bins, bin -> jsonPath.appendOperation(bin, jsonObject), policy)) {
+            appendObject(key, bins, jsonPath.getPath(), jsonObject, policy);
+        }
+    }
+
+    public void deleteObject(Key key, List<String> bins, CompiledJsonPath jsonPath, WritePolicy policy) {
+        if (!jsonPath.isWritable() || !writeCompiled(key, bins, jsonPath::deleteOperation, policy)) {
+            deleteObject(key, bins, jsonPath.getPath(), policy);
+        }
     }
 
     public Map<String, Object> getObject(Key key, List<String> bins, String jsonPath, Policy policy) {
         try {
             return client.get(policy, key, bins, jsonPath);
+        } catch (AerospikeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RestClientErrors.InvalidOperationError(e.getMessage());
         }
@@ -45,6 +153,8 @@ public class DocumentHandler {
     public void putObject(Key key, List<String> bins, String jsonPath, Object jsonObject, WritePolicy policy) {
         try {
             client.put(policy, key, bins, jsonPath, jsonObject);
+        } catch (AerospikeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RestClientErrors.InvalidOperationError(e.getMessage());
         }
@@ -53,6 +163,8 @@ public class DocumentHandler {
     public void appendObject(Key key, List<String> bins, String jsonPath, Object jsonObject, WritePolicy policy) {
         try {
             client.append(policy, key, bins, jsonPath, jsonObject);
+        } catch (AerospikeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RestClientErrors.InvalidOperationError(e.getMessage());
         }
@@ -61,11 +173,102 @@ public class DocumentHandler {
     public void deleteObject(Key key, List<String> bins, String jsonPath, WritePolicy policy) {
         try {
             client.delete(policy, key, bins, jsonPath);
+        } catch (AerospikeException e) {
+            throw e;
         } catch (Exception e) {
             throw new RestClientErrors.InvalidOperationError(e.getMessage());
         }
     }
 
+    private Record readCompiled(Key key, List<String> bins, CompiledJsonPath jsonPath, Policy policy,
+                                boolean asMap) {
+        Operation[] operations = bins.stream()
+                .map(bin -> jsonPath.readOperation(bin, asMap))
+                .toArray(Operation[]::new);
+        Record record;
+        try {
+            record = aerospikeClient.operate(new WritePolicy(policy), key, operations);
+        } catch (AerospikeException e) {
+            if (isPathError(e.getResultCode())) {
+                return null;
+            }
+            throw e;
+        }
+        if (record == null) {
+            return null;
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (String bin : bins) {
+            Object value = record.getValue(bin);
+            if (value == null) {
+                return null;
+            }
+            result.put(bin, value);
+        }
+        return new Record(result, record.generation, record.expiration);
+    }
+
+    private Record readCompiled(Key key, List<String> bins, List<CompiledJsonPath> jsonPaths, Policy policy) {
+        List<Operation> operations = new ArrayList<>(bins.size() * jsonPaths.size());
+        for (String bin : bins) {
+            for (CompiledJsonPath jsonPath : jsonPaths) {
+                operations.add(jsonPath.readOperation(bin, false));
+            }
+        }
+        try {
+            return aerospikeClient.operate(new WritePolicy(policy), key, operations.toArray(new Operation[0]));
+        } catch (AerospikeException e) {
+            if (isPathError(e.getResultCode())) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private static Object resultAt(List<?> results, int index) {
+        return results == null || index >= results.size() ? null : results.get(index);
+    }
+
+    /* Writes are atomic, so a compiled write that fails on the path has changed nothing */
+    private boolean writeCompiled(Key key, List<String> bins, Function<String, Operation> operation,
+                                  WritePolicy policy) {
+        if (!isPushDownable(bins)) {
+            return false;
+        }
+        WritePolicy writePolicy = new WritePolicy(policy);
+        if (writePolicy.recordExistsAction == RecordExistsAction.UPDATE) {
+            writePolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+        }
+        try {
+            aerospikeClient.operate(writePolicy, key, bins.stream().map(operation).toArray(Operation[]::new));
+            return true;
+        } catch (AerospikeException e) {
+            if (isPathError(e.getResultCode())) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /* Each bin needs its own operation result, so the bins must be listed and distinct */
+    private static boolean isPushDownable(List<String> bins) {
+        return !bins.isEmpty() && new HashSet<>(bins).size() == bins.size();
+    }
+
+    private static boolean isPathError(int resultCode) {
+        switch (resultCode) {
+            case ResultCode.KEY_NOT_FOUND_ERROR:
+            case ResultCode.PARAMETER_ERROR:
+            case ResultCode.BIN_TYPE_ERROR:
+            case ResultCode.ELEMENT_NOT_FOUND:
+            case ResultCode.ELEMENT_EXISTS:
+            case ResultCode.OP_NOT_APPLICABLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public static DocumentHandler create(AerospikeClient client) {
         return new DocumentHandler(client);
     }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.handlers;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientImportSummary;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.converters.BinConverter;
+import com.aerospike.restclient.util.deserializers.ImportRecordReader;
+import com.aerospike.restclient.util.deserializers.ImportRecordReader.ImportRecord;
+import org.msgpack.core.MessagePackException;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportHandler {
+
+    private final AerospikeClient client;
+
+    public ImportHandler(AerospikeClient client) {
+        this.client = client;
+    }
+
+    /*
+     * Reads records from the stream and writes them as they arrive. At most maxInFlight writes are
+     * outstanding, and the next record is not read until a write completes, so a slow cluster
+     * pushes back on the request body instead of buffering it.
+     */
+    public RestClientImportSummary importRecords(WritePolicy policy, String namespace, String set,
+                                                 RecordKeyType keyType, ImportRecordReader reader,
+                                                 BinCompressor compressor, Executor executor, int maxInFlight,
+                                                 int maxFailures) {
+        RestClientImportSummary summary = new RestClientImportSummary();
+        AtomicLong written = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long index = 0;
+
+        try {
+            while (true) {
+                inFlight.acquire();
+                ImportRecord record;
+                try {
+                    record = reader.next();
+                } catch (RestClientErrors.AerospikeRestClientError e) {
+                    inFlight.release();
+                    summary.error = String.format("Stopped reading at record %d: %s", index, e.getErrorMessage());
+                    break;
+                } catch (IOException e) {
+                    /* Corrupt compressed data or a dropped connection, report what was written so far */
+                    inFlight.release();
+                    summary.error = String.format("Stopped reading at record %d: %s", index, e.getMessage());
+                    break;
+                } catch (MessagePackException e) {
+                    /* Malformed MessagePack the parser did not wrap, the stream cannot be read past it */
+                    inFlight.release();
+                    summary.error = String.format("Stopped reading at record %d: Failed to unpack data", index);
+                    break;
+                }
+                if (record == null) {
+                    inFlight.release();
+                    break;
+                }
+
+                long recordIndex = index++;
+                if (record.error != null) {
+                    inFlight.release();
+                    fail(summary, failed, maxFailures, recordIndex, null, ResultCode.PARAMETER_ERROR, record.error);
+                    continue;
+                }
+
+                Key key;
+                Bin[] bins;
+                try {
+                    key = toKey(namespace, set, record.userKey, keyType);
+                    bins = BinConverter.binsFromMap(record.bins, namespace, set, compressor);
+                } catch (RestClientErrors.AerospikeRestClientError e) {
+                    inFlight.release();
+                    fail(summary, failed, maxFailures, recordIndex, record.userKey, ResultCode.PARAMETER_ERROR,
+                            e.getErrorMessage());
+                    continue;
+                }
+
+                try {
+                    executor.execute(() -> {
+                        try {
+                            client.put(policy, key, bins);
+                            written.incrementAndGet();
+                        } catch (AerospikeException e) {
+                            fail(summary, failed, maxFailures, recordIndex, record.userKey, e.getResultCode(),
+                                    e.getMessage());
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    summary.error = "Import cancelled, the server is shutting down";
+                    break;
+                }
+            }
+            /* Wait for the outstanding writes */
+            inFlight.acquire(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Import interrupted");
+        }
+
+        summary.processed = index;
+        summary.written = written.get();
+        summary.failed = failed.get();
+        return summary;
+    }
+
+    private static Key toKey(String namespace, String set, Object userKey, RecordKeyType keyType) {
+        if (userKey instanceof byte[]) {
+            return new Key(namespace, set, (byte[]) userKey);
+        }
+        if (keyType == null && (userKey instanceof Long || userKey instanceof Integer)) {
+            return new Key(namespace, set, ((Number) userKey).longValue());
+        }
+        return KeyBuilder.buildKey(namespace, set, userKey.toString(), keyType);
+    }
+
+    private static void fail(RestClientImportSummary summary, AtomicLong failed, int maxFailures, long index,
+                             Object userKey, int resultCode, String message) {
+        failed.incrementAndGet();
+        synchronized (summary) {
+            if (summary.failures.size() < maxFailures) {
+                summary.failures.add(new RestClientImportSummary.Failure(index, userKey, resultCode, message));
+            }
+        }
+    }
+
+    public static ImportHandler create(AerospikeClient client) {
+        return new ImportHandler(client);
+    }
+}
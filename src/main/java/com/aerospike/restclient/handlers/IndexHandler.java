@@ -17,9 +17,11 @@
 package com.aerospike.restclient.handlers;
 
 import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.task.IndexTask;
 
 public class IndexHandler {
 
@@ -29,17 +31,17 @@ public class IndexHandler {
         this.client = client;
     }
 
-    public void createIndex(
+    public IndexTask createIndex(
             Policy policy,
             String namespace,
             String setName,
             String indexName,
             String binName,
             IndexType indexType) {
-        client.createIndex(policy, namespace, setName, indexName, binName, indexType);
+        return client.createIndex(policy, namespace, setName, indexName, binName, indexType);
     }
 
-    public void createIndex(
+    public IndexTask createIndex(
             Policy policy,
             String namespace,
             String setName,
@@ -47,7 +49,19 @@ public class IndexHandler {
             String binName,
             IndexType indexType,
             IndexCollectionType collectionType) {
-        client.createIndex(policy, namespace, setName, indexName, binName, indexType, collectionType);
+        return client.createIndex(policy, namespace, setName, indexName, binName, indexType, collectionType);
+    }
+
+    /*
+     * Waits until the index is built on every node. Returns false if that takes longer than timeoutMillis.
+     */
+    public boolean waitForIndex(IndexTask task, int pollMillis, int timeoutMillis) {
+        try {
+            task.waitTillComplete(pollMillis, timeoutMillis);
+            return true;
+        } catch (AerospikeException.Timeout e) {
+            return false;
+        }
     }
 
     public void deleteIndex(Policy policy, String namespace, String setName, String indexName) {
@@ -22,34 +22,181 @@ import com.aerospike.client.Info;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.cluster.Node;
 import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.restclient.domain.RestClientNodeInfoResponse;
 import com.aerospike.restclient.util.InfoResponseParser;
 import com.aerospike.restclient.util.RestClientErrors;
 import com.aerospike.restclient.util.RestClientErrors.AerospikeRestClientError;
+import com.google.common.util.concurrent.MoreExecutors;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class InfoHandler {
 
     private static final String nsNotFound = "ns_type=unknown";
+    private static final long DEFAULT_TIMEOUT_MILLIS = 1000;
 
     private final AerospikeClient client;
+    private final ExecutorService executor;
 
     public InfoHandler(AerospikeClient client) {
+        this(client, MoreExecutors.newDirectExecutorService());
+    }
+
+    public InfoHandler(AerospikeClient client, ExecutorService executor) {
         this.client = client;
+        this.executor = executor;
     }
 
-    public List<String> infoRequestAll(String request) {
-        List<String> responses = new ArrayList<>();
-        for (Node node : client.getNodes()) {
-            responses.add(Info.request(node, request));
+    /*
+     * Sends the requests to the named nodes, or to every node when nodeNames is null, in parallel.
+     * Each node has policy.timeout to answer, counted from when its request starts running on the
+     * executor. Unknown, failed and late nodes are reported in errors.
+     */
+    public RestClientNodeInfoResponse infoRequestNodes(InfoPolicy policy, List<String> nodeNames, String[] requests) {
+        RestClientNodeInfoResponse nodeInfo = new RestClientNodeInfoResponse();
+        List<Node> nodes = new ArrayList<>();
+        if (nodeNames == null) {
+            nodes.addAll(Arrays.asList(client.getNodes()));
+        } else {
+            for (String nodeName : nodeNames) {
+                try {
+                    nodes.add(client.getNode(nodeName));
+                } catch (AerospikeException e) {
+                    nodeInfo.errors.put(nodeName, e.getMessage());
+                }
+            }
+        }
+
+        for (Map.Entry<Node, NodeResult> entry : fanOut(policy, nodes, requests).entrySet()) {
+            NodeResult result = entry.getValue();
+            if (result.error == null) {
+                nodeInfo.responses.put(entry.getKey().getName(), result.response);
+            } else {
+                nodeInfo.errors.put(entry.getKey().getName(), result.error.getMessage());
+            }
+        }
+
+        return nodeInfo;
+    }
+
+    /*
+     * Sends the requests to all given nodes in parallel and fails if any of them fails.
+     */
+    private Map<Node, Map<String, String>> requestAllNodes(Node[] nodes, String... requests) {
+        Map<Node, Map<String, String>> responses = new LinkedHashMap<>();
+        for (Map.Entry<Node, NodeResult> entry : fanOut(null, Arrays.asList(nodes), requests).entrySet()) {
+            NodeResult result = entry.getValue();
+            if (result.error != null) {
+                throw result.error;
+            }
+            responses.put(entry.getKey(), result.response);
         }
 
         return responses;
     }
 
+    /*
+     * Time spent queued behind other info requests on the shared executor does not count against a node,
+     * its timer starts when its request starts running. A node that has not started yet is waited for
+     * again, running requests end within their own socket timeout so queued ones are reached.
+     */
+    private Map<Node, NodeResult> fanOut(InfoPolicy policy, List<Node> nodes, String[] requests) {
+        InfoPolicy infoPolicy = policy == null ? new InfoPolicy() : policy;
+        long timeoutMillis = infoPolicy.timeout > 0 ? infoPolicy.timeout : DEFAULT_TIMEOUT_MILLIS;
+        long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        Map<Node, NodeRequest> pending = new LinkedHashMap<>();
+        for (Node node : nodes) {
+            NodeRequest request = new NodeRequest(infoPolicy, node, requests);
+            request.future = executor.submit(request);
+            pending.put(node, request);
+        }
+
+        Map<Node, NodeResult> results = new LinkedHashMap<>();
+        for (Map.Entry<Node, NodeRequest> entry : pending.entrySet()) {
+            NodeRequest request = entry.getValue();
+            try {
+                results.put(entry.getKey(), new NodeResult(request.await(timeoutNanos), null));
+            } catch (TimeoutException e) {
+                request.future.cancel(true);
+                results.put(entry.getKey(), new NodeResult(null, new AerospikeException(ResultCode.TIMEOUT,
+                        String.format("Timed out after %d ms", timeoutMillis))));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                results.put(entry.getKey(), new NodeResult(null, cause instanceof RuntimeException
+                        ? (RuntimeException) cause : new AerospikeException(cause)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                request.future.cancel(true);
+                results.put(entry.getKey(), new NodeResult(null, new AerospikeException(e)));
+            }
+        }
+
+        return results;
+    }
+
+    private static class NodeRequest implements Callable<Map<String, String>> {
+        private final InfoPolicy policy;
+        private final Node node;
+        private final String[] requests;
+        private volatile long startNanos;
+        private Future<Map<String, String>> future;
+
+        NodeRequest(InfoPolicy policy, Node node, String[] requests) {
+            this.policy = policy;
+            this.node = node;
+            this.requests = requests;
+        }
+
+        @Override
+        public Map<String, String> call() {
+            startNanos = System.nanoTime();
+            return Info.request(policy, node, requests);
+        }
+
+        /* Waits until timeoutNanos after the request started running */
+        Map<String, String> await(long timeoutNanos) throws InterruptedException, ExecutionException,
+                TimeoutException {
+            while (true) {
+                long started = startNanos;
+                long remaining = started == 0 ? timeoutNanos : started + timeoutNanos - System.nanoTime();
+                try {
+                    return future.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    if (started != 0) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    private static class NodeResult {
+        private final Map<String, String> response;
+        private final RuntimeException error;
+
+        NodeResult(Map<String, String> response, RuntimeException error) {
+            this.response = response;
+            this.error = error;
+        }
+    }
+
     public String singleInfoRequest(InfoPolicy policy, String request) {
         Node[] nodes = client.getNodes();
         if (nodes.length == 0) {
@@ -80,111 +227,113 @@ public class InfoHandler {
         return Info.request(policy, node, requests);
     }
 
-    public List<Map<String, Object>> getNamespaceInfoMaps() {
-        List<Map<String, Object>> namespaceList = new ArrayList<>();
-        for (String ns : getNamespaces()) {
-            namespaceList.add(getNamespaceInfoMap(ns));
-        }
-
-        return namespaceList;
-    }
-
     /*
-     * Returns an array containing all sets in the given namespace:
-     * ["set1", "set2", ...]
+     * Returns a list of namespaces with their sets, object counts, replication factor and secondary indexes.
+     * All nodes are asked in parallel, once for their namespaces and once for the sets, namespace and sindex
+     * information of all of them, instead of once per set.
      */
-    private String[] getSets(String namespace) {
-        String request = "sets/" + namespace;
-
-        String response = singleInfoRequest(null, request);
-
-        if (response.equals(nsNotFound)) {
-            throw new AerospikeException(ResultCode.INVALID_NAMESPACE, String.format("Namespace: %s not found.", namespace));
+    public List<Map<String, Object>> getNamespaceInfoMaps() {
+        Node[] nodes = client.getNodes();
+        if (nodes.length == 0) {
+            throw new RestClientErrors.ClusterUnstableError("Cluster unstable, unable to return cluster information");
         }
-        return InfoResponseParser.getSetsFromResponse(response);
-    }
-
-    /*
-     * Returns an array ["namespace1", "namespace2",...]
-     */
-    private String[] getNamespaces() {
-        String response = singleInfoRequest(null, "namespaces");
-        return InfoResponseParser.getNamespacesFromResponse(response);
-    }
-
-    /*
-     * Extracts the replication factor from a namespace;
-     */
-    private int getReplicationFactor(String namespace) {
-        String request = "namespace/" + namespace;
-        String response = singleInfoRequest(null, request);
-        return InfoResponseParser.getReplicationFactor(response, namespace);
-    }
-
-    /*
-     * Returns the number of objects in a specific Namespace/set
-     */
-    private long getSetRecordCount(String namespace, String set) {
-        int replFactor = getReplicationFactor(namespace);
-
-        long objects = 0;
-        boolean found = false;
-
-        String setInfoRequest = "sets/" + namespace + "/" + set;
-        List<String> responses = infoRequestAll(setInfoRequest);
 
-        for (String response : responses) {
-            if (!response.trim().isEmpty()) {
-                found = true;
+        Set<String> namespaces = new TreeSet<>();
+        for (Map<String, String> response : requestAllNodes(nodes, "namespaces").values()) {
+            for (String ns : InfoResponseParser.getNamespacesFromResponse(response.getOrDefault("namespaces", ""))) {
+                if (!ns.isEmpty()) {
+                    namespaces.add(ns);
+                }
             }
-            objects += InfoResponseParser.getSetObjectCountFromResponse(response);
         }
 
-        if (responses.size() == 0 || replFactor == 0) {
-            throw new RestClientErrors.ClusterUnstableError("Cluster unstable, unable to return cluster information");
+        if (namespaces.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        if (found) {
-            return objects / Math.min(responses.size(), replFactor);
+        String[] requests = new String[namespaces.size() * 3];
+        int i = 0;
+        for (String ns : namespaces) {
+            requests[i++] = "sets/" + ns;
+            requests[i++] = "namespace/" + ns;
+            requests[i++] = "sindex/" + ns;
         }
 
-        throw new AerospikeException(ResultCode.INVALID_NAMESPACE, String.format("Namspace/Set: %s/%s not found", namespace, set));
-    }
+        Map<String, Map<String, Long>> setObjects = new HashMap<>();
+        Map<String, Integer> replFactors = new HashMap<>();
+        Map<String, List<Map<String, String>>> sindexes = new HashMap<>();
+        for (Map<String, String> responses : requestAllNodes(nodes, requests).values()) {
+            for (String ns : namespaces) {
+                String setsResponse = responses.get("sets/" + ns);
+                if (setsResponse == null || setsResponse.startsWith(nsNotFound)) {
+                    continue;
+                }
+                Map<String, Long> objects = setObjects.computeIfAbsent(ns, k -> new TreeMap<>());
+                InfoResponseParser.getSetObjectCounts(setsResponse).forEach((set, count) -> objects.merge(set, count, Long::sum));
+                replFactors.merge(ns, nodeReplicationFactor(responses.get("namespace/" + ns), ns), Math::max);
+                if (!sindexes.containsKey(ns)) {
+                    nodeIndexes(responses.get("sindex/" + ns)).ifPresent(indexes -> sindexes.put(ns, indexes));
+                }
+            }
+        }
 
-    private Map<String, Object> getNamespaceInfoMap(String ns) {
-        Map<String, Object> nsMap = new HashMap<>();
-        nsMap.put("name", ns);
-        nsMap.put("sets", getSetInfoMaps(ns));
+        List<Map<String, Object>> namespaceList = new ArrayList<>();
+        for (String ns : namespaces) {
+            int replFactor = replFactors.getOrDefault(ns, 0);
+            if (replFactor == 0) {
+                throw new RestClientErrors.ClusterUnstableError("Cluster unstable, unable to return cluster information");
+            }
 
-        return nsMap;
-    }
+            List<Map<String, Object>> setList = new ArrayList<>();
+            for (Map.Entry<String, Long> entry : setObjects.getOrDefault(ns, Collections.emptyMap()).entrySet()) {
+                Map<String, Object> setMap = new HashMap<>();
+                setMap.put("name", entry.getKey());
+                setMap.put("objectCount", entry.getValue() / Math.min(nodes.length, replFactor));
+                setList.add(setMap);
+            }
 
-    /*
-     * returns a list [{"name": "setName", "objectCount": #}, {"name": "setName2", "objectCount": #}..]
-     */
-    private List<Map<String, Object>> getSetInfoMaps(String ns) {
-        List<Map<String, Object>> setList = new ArrayList<>();
-        for (String set : getSets(ns)) {
-            setList.add(getSetInfo(ns, set));
+            Map<String, Object> nsMap = new HashMap<>();
+            nsMap.put("name", ns);
+            nsMap.put("replicationFactor", replFactor);
+            nsMap.put("sets", setList);
+            nsMap.put("sindexes", sindexes.getOrDefault(ns, Collections.emptyList()));
+            namespaceList.add(nsMap);
         }
 
-        return setList;
+        return namespaceList;
+    }
+
+    private int nodeReplicationFactor(String response, String namespace) {
+        if (response == null) {
+            return 0;
+        }
+        try {
+            return InfoResponseParser.getReplicationFactor(response, namespace);
+        } catch (AerospikeException e) {
+            return 0;
+        }
     }
 
     /*
-     * returns a map {"name": "setName", "objectCount": #}
-     *
+     * Secondary index definitions are the same on every node, so the first readable response is used.
      */
-    private Map<String, Object> getSetInfo(String ns, String set) {
-        Map<String, Object> setMap = new HashMap<>();
-        setMap.put("objectCount", getSetRecordCount(ns, set));
-        setMap.put("name", set);
-
-        return setMap;
+    private Optional<List<Map<String, String>>> nodeIndexes(String response) {
+        if (response == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(InfoResponseParser.getIndexInformation(response));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
     }
 
     public static InfoHandler create(AerospikeClient client) {
         return new InfoHandler(client);
     }
 
+    public static InfoHandler create(AerospikeClient client, ExecutorService executor) {
+        return new InfoHandler(client, executor);
+    }
+
 }
@@ -43,6 +43,10 @@ public class RecordHandler {
         return client.get(policy, key);
     }
 
+    public Record getRecordHeader(Policy policy, Key key) {
+        return client.getHeader(policy, key);
+    }
+
     public void putRecord(WritePolicy policy, Key key, Bin... bins) {
         client.put(policy, key, bins);
     }
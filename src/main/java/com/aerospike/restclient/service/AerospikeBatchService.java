@@ -17,14 +17,30 @@
 package com.aerospike.restclient.service;
 
 import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientBatchReadBody;
 import com.aerospike.restclient.domain.RestClientBatchReadResponse;
+import com.aerospike.restclient.domain.RestClientBatchWriteBody;
+import com.aerospike.restclient.domain.RestClientBatchWriteResponse;
+import com.aerospike.restclient.domain.RestClientRecordHeader;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface AerospikeBatchService {
 
     List<RestClientBatchReadResponse> batchGet(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys,
                                                BatchPolicy policy);
+
+    void batchGet(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys, BatchPolicy policy,
+                  Consumer<RestClientBatchReadResponse> consumer);
+
+    boolean[] batchExists(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys, BatchPolicy policy);
+
+    List<RestClientRecordHeader> batchGetHeader(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys,
+                                                BatchPolicy policy);
+
+    List<RestClientBatchWriteResponse> batchWrite(AuthDetails authDetails, List<RestClientBatchWriteBody> entries,
+                                                  WritePolicy policy);
 }
@@ -16,17 +16,37 @@
  */
 package com.aerospike.restclient.service;
 
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.BatchRead;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
 import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientBatchReadBody;
 import com.aerospike.restclient.domain.RestClientBatchReadResponse;
+import com.aerospike.restclient.domain.RestClientBatchWriteBody;
+import com.aerospike.restclient.domain.RestClientBatchWriteResponse;
+import com.aerospike.restclient.domain.RestClientRecordHeader;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.handlers.BatchHandler;
 import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.NegativeLookupCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,13 +55,179 @@ public class AerospikeBatchServiceV1 implements AerospikeBatchService {
     @Autowired
     private AerospikeClientPool clientPool;
 
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    private BinCompressor binCompressor;
+
+    @Autowired
+    @Qualifier("batchWriteExecutor")
+    private ExecutorService batchWriteExecutor;
+
+    @Autowired
+    @Qualifier("batchReadExecutor")
+    private ExecutorService batchReadExecutor;
+
+    @Value("${aerospike.restclient.batch.read.chunkSize:5000}")
+    private int chunkSize;
+
+    @Value("${aerospike.restclient.batch.write.maxInFlight:16}")
+    private int writeMaxInFlight;
+
     @Override
     public List<RestClientBatchReadResponse> batchGet(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys,
                                                       BatchPolicy policy) {
+        List<RestClientBatchReadResponse> responses = new ArrayList<>(batchKeys.size());
+        batchGet(authDetails, batchKeys, policy, responses::add);
+
+        return responses;
+    }
+
+    /*
+     * Duplicate reads are fetched once. Batches larger than the chunk size are split into chunks which
+     * run in parallel on the batch read pool, and results are handed to the consumer in request order
+     * as soon as the chunk holding each record has completed.
+     */
+    @Override
+    public void batchGet(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys, BatchPolicy policy,
+                         Consumer<RestClientBatchReadResponse> consumer) {
         List<BatchRead> batchReads = batchKeys.stream().map(RestClientBatchReadBody::toBatchRead)
                 .collect(Collectors.toList());
-        BatchHandler.create(clientPool.getClient(authDetails)).batchRead(policy, batchReads);
 
-        return batchReads.stream().map(RestClientBatchReadResponse::new).collect(Collectors.toList());
+        Map<BatchReadIdentity, Integer> uniqueIndexes = new HashMap<>();
+        List<BatchRead> uniqueReads = new ArrayList<>();
+        int[] requestToUnique = new int[batchReads.size()];
+        for (int i = 0; i < batchReads.size(); i++) {
+            BatchRead batchRead = batchReads.get(i);
+            Integer index = uniqueIndexes.putIfAbsent(new BatchReadIdentity(batchRead), uniqueReads.size());
+            if (index == null) {
+                index = uniqueReads.size();
+                uniqueReads.add(batchRead);
+            }
+            requestToUnique[i] = index;
+        }
+
+        BatchHandler handler = BatchHandler.create(clientPool.getClient(authDetails));
+        if (uniqueReads.size() <= chunkSize) {
+            handler.batchRead(policy, uniqueReads);
+            for (int index : requestToUnique) {
+                consumer.accept(toResponse(uniqueReads.get(index)));
+            }
+            return;
+        }
+
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int start = 0; start < uniqueReads.size(); start += chunkSize) {
+            List<BatchRead> chunk = uniqueReads.subList(start, Math.min(start + chunkSize, uniqueReads.size()));
+            chunks.add(batchReadExecutor.submit(() -> handler.batchRead(policy, chunk)));
+        }
+
+        try {
+            for (int index : requestToUnique) {
+                chunks.get(index / chunkSize).get();
+                consumer.accept(toResponse(uniqueReads.get(index)));
+            }
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Batch read interrupted");
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AerospikeException(e.getCause());
+        } catch (RuntimeException e) {
+            /* The consumer failed, most likely the client went away */
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean[] batchExists(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys,
+                                 BatchPolicy policy) {
+        Key[] keys = batchKeys.stream().map(RestClientBatchReadBody::toKey).toArray(Key[]::new);
+
+        return BatchHandler.create(clientPool.getClient(authDetails)).exists(policy, keys);
+    }
+
+    @Override
+    public List<RestClientRecordHeader> batchGetHeader(AuthDetails authDetails, List<RestClientBatchReadBody> batchKeys,
+                                                       BatchPolicy policy) {
+        Key[] keys = batchKeys.stream().map(RestClientBatchReadBody::toKey).toArray(Key[]::new);
+        Record[] headers = BatchHandler.create(clientPool.getClient(authDetails)).getHeaders(policy, keys);
+
+        /* A missing record has a null header */
+        List<RestClientRecordHeader> responses = new ArrayList<>(headers.length);
+        for (Record header : headers) {
+            responses.add(header != null ? new RestClientRecordHeader(header) : null);
+        }
+        return responses;
+    }
+
+    @Override
+    public List<RestClientBatchWriteResponse> batchWrite(AuthDetails authDetails, List<RestClientBatchWriteBody> entries,
+                                                         WritePolicy policy) {
+        /* Reject structurally invalid entries before any write is issued */
+        entries.forEach(RestClientBatchWriteBody::validate);
+
+        List<RestClientBatchWriteResponse> responses = BatchHandler.create(clientPool.getClient(authDetails))
+                .batchWrite(policy, entries, binCompressor, batchWriteExecutor, writeMaxInFlight);
+        for (RestClientBatchWriteResponse response : responses) {
+            if (response.key != null && response.record != null) {
+                binCompressor.decompress(response.key.namespace, response.key.setName, response.record.bins);
+            }
+        }
+        if (negativeCache.isEnabled()) {
+            for (int i = 0; i < entries.size(); i++) {
+                RestClientBatchWriteBody entry = entries.get(i);
+                /* Entries with an invalid key have no key in their response and wrote nothing */
+                if (entry.type != RestClientBatchWriteBody.BatchWriteType.DELETE && responses.get(i).key != null) {
+                    negativeCache.invalidate(entry.toKey());
+                }
+            }
+        }
+        return responses;
+    }
+
+    /* Duplicate reads share one BatchRead, decompressing it again leaves the values as they are */
+    private RestClientBatchReadResponse toResponse(BatchRead batchRead) {
+        if (batchRead.record != null) {
+            binCompressor.decompress(batchRead.key.namespace, batchRead.key.setName, batchRead.record.bins);
+        }
+        return new RestClientBatchReadResponse(batchRead);
+    }
+
+    /* Two reads are duplicates when they target the same record and bins */
+    private static final class BatchReadIdentity {
+        private final Key key;
+        private final boolean readAllBins;
+        private final List<String> binNames;
+
+        BatchReadIdentity(BatchRead batchRead) {
+            key = batchRead.key;
+            readAllBins = batchRead.readAllBins;
+            binNames = batchRead.binNames == null ? null : Arrays.asList(batchRead.binNames);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchReadIdentity)) {
+                return false;
+            }
+            BatchReadIdentity other = (BatchReadIdentity) o;
+            return readAllBins == other.readAllBins && key.equals(other.key)
+                    && Objects.equals(binNames, other.binNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, readAllBins, binNames);
+        }
     }
 }
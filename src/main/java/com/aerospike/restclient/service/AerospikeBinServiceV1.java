@@ -0,0 +1,368 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.cdt.ListReturnType;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapReturnType;
+import com.aerospike.client.operation.BitOperation;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientCdtPage;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.OperateHandler;
+import com.aerospike.restclient.handlers.RecordHandler;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.aerospike.restclient.util.RestClientErrors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AerospikeBinServiceV1 implements AerospikeBinService {
+
+    /* Cursor prefixes: list offset, map rank, integer map key, string map key */
+    private static final String OFFSET_CURSOR = "o:";
+    private static final String RANK_CURSOR = "r:";
+    private static final String INTEGER_KEY_CURSOR = "ki:";
+    private static final String STRING_KEY_CURSOR = "ks:";
+
+    @Autowired
+    private AerospikeClientPool clientPool;
+
+    @Autowired
+    private Resilience4JCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    private BinCompressor binCompressor;
+
+    @Value("${aerospike.restclient.cdt.maxPageSize:1000}")
+    private int maxPageSize;
+
+    @Override
+    public RestClientCdtPage getListPage(AuthDetails authDetails, String namespace, String set, String key,
+                                         RecordKeyType keyType, String binName, Integer offset, Integer count,
+                                         String cursor, Policy policy) {
+        int pageSize = pageSize(count);
+        int start = offset == null ? 0 : offset;
+        if (cursor != null) {
+            start = (int) parseCursorNumber(decodeCursor(cursor, OFFSET_CURSOR));
+        }
+        if (start < 0) {
+            throw new RestClientErrors.InvalidOperationError("offset must not be negative");
+        }
+
+        List<?> results = readBin(authDetails, namespace, set, key, keyType, binName, policy,
+                ListOperation.size(binName),
+                ListOperation.getByIndexRange(binName, start, pageSize, ListReturnType.VALUE));
+        if (results == null) {
+            return new RestClientCdtPage(Collections.emptyList(), 0, null);
+        }
+
+        long size = ((Number) results.get(0)).longValue();
+        List<?> values = (List<?>) results.get(1);
+        long next = start + values.size();
+        return new RestClientCdtPage(values, size, next < size ? encodeCursor(OFFSET_CURSOR + next) : null);
+    }
+
+    @Override
+    public RestClientCdtPage getMapPage(AuthDetails authDetails, String namespace, String set, String key,
+                                        RecordKeyType keyType, String binName, String keyBegin, String keyEnd,
+                                        String mapKeyType, Integer rank, Integer count, String cursor,
+                                        Policy policy) {
+        int pageSize = pageSize(count);
+        String decodedCursor = cursor == null ? null : decodeCursor(cursor, null);
+
+        if (rank != null || (decodedCursor != null && decodedCursor.startsWith(RANK_CURSOR))) {
+            int startRank = rank != null ? rank
+                    : (int) parseCursorNumber(decodedCursor.substring(RANK_CURSOR.length()));
+            List<?> results = readBin(authDetails, namespace, set, key, keyType, binName, policy,
+                    MapOperation.size(binName),
+                    MapOperation.getByRankRange(binName, startRank, pageSize, MapReturnType.KEY),
+                    MapOperation.getByRankRange(binName, startRank, pageSize, MapReturnType.VALUE));
+            if (results == null) {
+                return new RestClientCdtPage(Collections.emptyMap(), 0, null);
+            }
+            long size = ((Number) results.get(0)).longValue();
+            Map<Object, Object> values = new LinkedHashMap<>();
+            toEntries(results.get(1), results.get(2)).forEach(entry -> values.put(entry.getKey(), entry.getValue()));
+            long next = startRank + values.size();
+            return new RestClientCdtPage(values, size, next < size ? encodeCursor(RANK_CURSOR + next) : null);
+        }
+
+        /* Key order paging resumes after the last key of the previous page, even if it was removed since */
+        Object lastKey = decodedCursor == null ? null : parseCursorKey(decodedCursor);
+        Object beginKey = lastKey != null ? lastKey : parseMapKey(keyBegin, mapKeyType);
+        Object endKey = parseMapKey(keyEnd, mapKeyType);
+        int fetchCount = lastKey != null ? pageSize + 1 : pageSize;
+
+        List<?> results = readBin(authDetails, namespace, set, key, keyType, binName, policy,
+                MapOperation.size(binName),
+                keyRange(binName, beginKey, fetchCount, MapReturnType.KEY),
+                keyRange(binName, beginKey, fetchCount, MapReturnType.VALUE));
+        if (results == null) {
+            return new RestClientCdtPage(Collections.emptyMap(), 0, null);
+        }
+
+        long size = ((Number) results.get(0)).longValue();
+        List<Map.Entry<Object, Object>> entries = toEntries(results.get(1), results.get(2));
+        if (lastKey != null && !entries.isEmpty() && lastKey.equals(entries.get(0).getKey())) {
+            entries = entries.subList(1, entries.size());
+        }
+
+        boolean more = entries.size() >= pageSize;
+        Map<Object, Object> values = new LinkedHashMap<>();
+        Object pageLastKey = null;
+        for (Map.Entry<Object, Object> entry : entries) {
+            if (values.size() == pageSize) {
+                break;
+            }
+            if (endKey != null && compareMapKeys(entry.getKey(), endKey) >= 0) {
+                more = false;
+                break;
+            }
+            values.put(entry.getKey(), entry.getValue());
+            pageLastKey = entry.getKey();
+        }
+        return new RestClientCdtPage(values, size, more && pageLastKey != null ? encodeKeyCursor(pageLastKey) : null);
+    }
+
+    @Override
+    public byte[] getBlob(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType,
+                          String binName, Policy policy) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        Record record = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                .getRecord(policy, asKey, new String[]{binName}));
+        if (record == null) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        binCompressor.decompress(namespace, set, record.bins);
+        return toBlob(record, binName);
+    }
+
+    /*
+     * Reads only the requested bytes on the server. Returns null if the range reaches past the end of
+     * the bin or the bin is missing, the caller then falls back to reading the whole bin. Values of
+     * compressed sets are also read whole, since the stored bytes are not the ones requested.
+     */
+    @Override
+    public byte[] getBlobRange(AuthDetails authDetails, String namespace, String set, String key,
+                               RecordKeyType keyType, String binName, long offset, long length, Policy policy) {
+        if ((offset + length) * 8 > Integer.MAX_VALUE || binCompressor.isEnabled(namespace, set)) {
+            return null;
+        }
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        WritePolicy readPolicy = new WritePolicy(policy);
+        Operation bitGet = BitOperation.get(binName, (int) (offset * 8), (int) (length * 8));
+        Record record = circuitBreaker.run(() -> {
+            try {
+                return OperateHandler.create(clientPool.getClient(authDetails)).operate(readPolicy, asKey,
+                        new Operation[]{bitGet});
+            } catch (AerospikeException e) {
+                if (e.getResultCode() == ResultCode.PARAMETER_ERROR
+                        || e.getResultCode() == ResultCode.OP_NOT_APPLICABLE
+                        || e.getResultCode() == ResultCode.BIN_NOT_FOUND) {
+                    return null;
+                }
+                throw e;
+            }
+        });
+        return record == null ? null : toBlob(record, binName);
+    }
+
+    @Override
+    public void storeBlob(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType,
+                          String binName, byte[] blob, WritePolicy policy) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        Bin[] bins = binCompressor.compress(namespace, set, new Bin[]{new Bin(binName, blob)});
+
+        try {
+            circuitBreaker.run(() -> {
+                RecordHandler.create(clientPool.getClient(authDetails)).putRecord(policy, asKey, bins);
+                return null;
+            });
+        } finally {
+            negativeCache.invalidate(asKey);
+        }
+    }
+
+    private static byte[] toBlob(Record record, String binName) {
+        Object value = record.getValue(binName);
+        if (value == null) {
+            throw new RestClientErrors.RecordNotFoundError("Bin not found");
+        }
+        if (!(value instanceof byte[])) {
+            throw new RestClientErrors.InvalidOperationError(String.format("Bin %s is not a byte array", binName));
+        }
+        return (byte[]) value;
+    }
+
+    private List<?> readBin(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType,
+                            String binName, Policy policy, Operation... operations) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        WritePolicy readPolicy = new WritePolicy(policy);
+        Record record = circuitBreaker.run(() -> OperateHandler.create(clientPool.getClient(authDetails))
+                .operate(readPolicy, asKey, operations));
+        if (record == null) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        /* All operations target the same bin, so their results come back as a list */
+        List<?> results = record.getList(binName);
+        if (results == null || results.get(0) == null) {
+            return null;
+        }
+        return results;
+    }
+
+    private int pageSize(Integer count) {
+        if (count == null) {
+            return maxPageSize;
+        }
+        if (count <= 0) {
+            throw new RestClientErrors.InvalidOperationError("count must be positive");
+        }
+        return Math.min(count, maxPageSize);
+    }
+
+    private static Operation keyRange(String binName, Object beginKey, int count, int returnType) {
+        return beginKey == null
+                ? MapOperation.getByIndexRange(binName, 0, count, returnType)
+                : MapOperation.getByKeyRelativeIndexRange(binName, com.aerospike.client.Value.get(beginKey), 0,
+                count, returnType);
+    }
+
+    /*
+     * A KEY_VALUE result of an unordered map can come back as a hash map, which loses the range order.
+     * Keys and values are read as two lists instead, both in range order, and paired up here.
+     */
+    private static List<Map.Entry<Object, Object>> toEntries(Object keys, Object values) {
+        if (keys == null || values == null) {
+            return Collections.emptyList();
+        }
+        List<?> keyList = (List<?>) keys;
+        List<?> valueList = (List<?>) values;
+        List<Map.Entry<Object, Object>> entries = new ArrayList<>(keyList.size());
+        for (int i = 0; i < keyList.size() && i < valueList.size(); i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(keyList.get(i), valueList.get(i)));
+        }
+        return entries;
+    }
+
+    /* Server map key order: integers sort before strings */
+    private static int compareMapKeys(Object mapKey, Object endKey) {
+        if (mapKey instanceof Long && endKey instanceof Long) {
+            return Long.compare((Long) mapKey, (Long) endKey);
+        }
+        if (mapKey instanceof String && endKey instanceof String) {
+            return ((String) mapKey).compareTo((String) endKey);
+        }
+        if (mapKey instanceof Long && endKey instanceof String) {
+            return -1;
+        }
+        return 1;
+    }
+
+    private static Object parseMapKey(String mapKey, String mapKeyType) {
+        if (mapKey == null) {
+            return null;
+        }
+        if (mapKeyType == null || mapKeyType.equalsIgnoreCase("STRING")) {
+            return mapKey;
+        }
+        if (mapKeyType.equalsIgnoreCase("INTEGER")) {
+            try {
+                return Long.parseLong(mapKey);
+            } catch (NumberFormatException e) {
+                throw new RestClientErrors.InvalidOperationError(String.format("Invalid integer map key: %s", mapKey));
+            }
+        }
+        throw new RestClientErrors.InvalidOperationError(String.format("Unsupported map key type: %s", mapKeyType));
+    }
+
+    private static String encodeKeyCursor(Object mapKey) {
+        if (mapKey instanceof Long) {
+            return encodeCursor(INTEGER_KEY_CURSOR + mapKey);
+        }
+        if (mapKey instanceof String) {
+            return encodeCursor(STRING_KEY_CURSOR + mapKey);
+        }
+        /* Keys of other types cannot be resumed from a query parameter */
+        return null;
+    }
+
+    private static Object parseCursorKey(String decodedCursor) {
+        if (decodedCursor.startsWith(INTEGER_KEY_CURSOR)) {
+            return parseCursorNumber(decodedCursor.substring(INTEGER_KEY_CURSOR.length()));
+        }
+        if (decodedCursor.startsWith(STRING_KEY_CURSOR)) {
+            return decodedCursor.substring(STRING_KEY_CURSOR.length());
+        }
+        throw new RestClientErrors.InvalidOperationError("Invalid cursor");
+    }
+
+    private static long parseCursorNumber(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new RestClientErrors.InvalidOperationError("Invalid cursor");
+        }
+    }
+
+    private static String encodeCursor(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor, String expectedPrefix) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new RestClientErrors.InvalidOperationError("Invalid cursor");
+        }
+        if (expectedPrefix == null) {
+            return decoded;
+        }
+        if (!decoded.startsWith(expectedPrefix)) {
+            throw new RestClientErrors.InvalidOperationError("Invalid cursor");
+        }
+        return decoded.substring(expectedPrefix.length());
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientRecord;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.OperateHandler;
+import com.aerospike.restclient.handlers.RecordHandler;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.aerospike.restclient.util.converters.BinConverter;
+import com.google.common.util.concurrent.Striped;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.Lock;
+
+/*
+ * Runs the read / apply / write cycle inside the REST client, so a conflicting update costs another
+ * round trip to the cluster instead of another HTTP request. Contenders within this instance queue
+ * on a striped lock, so only writers on other instances or clients cause retries.
+ */
+@Service
+public class AerospikeCasServiceV1 implements AerospikeCasService {
+
+    @Autowired
+    private AerospikeClientPool clientPool;
+
+    @Autowired
+    private Resilience4JCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    private BinCompressor binCompressor;
+
+    private final int maxRetries;
+    private final long backoffMillis;
+    private final Striped<Lock> locks;
+
+    public AerospikeCasServiceV1(@Value("${aerospike.restclient.cas.maxRetries:8}") int maxRetries,
+                                 @Value("${aerospike.restclient.cas.backoffMillis:2}") long backoffMillis,
+                                 @Value("${aerospike.restclient.cas.lockStripes:256}") int lockStripes) {
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+        this.locks = lockStripes > 0 ? Striped.lazyWeakLock(lockStripes) : null;
+    }
+
+    @Override
+    public RestClientRecord mergePatch(AuthDetails authDetails, String namespace, String set, String key,
+                                       RecordKeyType keyType, Map<String, Object> patch, WritePolicy policy) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        Lock lock = locks == null ? null : locks.get(Arrays.hashCode(asKey.digest));
+        if (lock != null) {
+            lock.lock();
+        }
+        try {
+            Record written = mergePatch(authDetails, asKey, patch, policy);
+            binCompressor.decompress(namespace, set, written.bins);
+            return new RestClientRecord(written);
+        } finally {
+            negativeCache.invalidate(asKey);
+            if (lock != null) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Record mergePatch(AuthDetails authDetails, Key key, Map<String, Object> patch, WritePolicy policy) {
+        /* A caller supplied generation is a precondition, retrying with a newer one would defeat it */
+        boolean conditional = policy.generationPolicy != GenerationPolicy.NONE;
+        int attempts = conditional ? 1 : maxRetries + 1;
+
+        for (int attempt = 1; ; attempt++) {
+            Record current = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                    .getRecord(policy, key));
+            Map<String, Object> bins = current == null ? new LinkedHashMap<>() :
+                    binCompressor.decompress(key.namespace, key.setName, current.bins);
+
+            Map<String, Object> changed = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : patch.entrySet()) {
+                changed.put(entry.getKey(), mergeValue(bins.get(entry.getKey()), entry.getValue()));
+            }
+            Bin[] newBins = BinConverter.binsFromMap(changed, key.namespace, key.setName, binCompressor);
+            Operation[] operations = new Operation[newBins.length + 1];
+            for (int i = 0; i < newBins.length; i++) {
+                operations[i] = Operation.put(newBins[i]);
+            }
+            operations[newBins.length] = Operation.get();
+
+            WritePolicy writePolicy = casPolicy(policy, current, conditional);
+            boolean retry = attempt < attempts;
+            /* The breaker wraps what it throws, so a conflict is recognized inside it and reported as null */
+            Record written = circuitBreaker.run(() -> {
+                try {
+                    return OperateHandler.create(clientPool.getClient(authDetails)).operate(writePolicy, key,
+                            operations);
+                } catch (AerospikeException e) {
+                    if (retry && isConflict(e.getResultCode())) {
+                        return null;
+                    }
+                    throw e;
+                }
+            });
+            if (written != null) {
+                return written;
+            }
+            backoff(attempt);
+        }
+    }
+
+    private static WritePolicy casPolicy(WritePolicy policy, Record current, boolean conditional) {
+        WritePolicy writePolicy = new WritePolicy(policy);
+        if (conditional) {
+            return writePolicy;
+        }
+        if (current == null) {
+            writePolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        } else {
+            writePolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
+            writePolicy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+            writePolicy.generation = current.generation;
+        }
+        return writePolicy;
+    }
+
+    /* The record changed, was created or was deleted between the read and the write */
+    private static boolean isConflict(int resultCode) {
+        return resultCode == ResultCode.GENERATION_ERROR
+                || resultCode == ResultCode.KEY_EXISTS_ERROR
+                || resultCode == ResultCode.KEY_NOT_FOUND_ERROR;
+    }
+
+    /* Full jitter over an exponentially growing window, so retrying writers spread out */
+    private void backoff(int attempt) {
+        long window = backoffMillis << Math.min(attempt - 1, 10);
+        if (window <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(window + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Merge patch interrupted");
+        }
+    }
+
+    /* RFC 7386: objects merge member by member, null removes a member, anything else replaces */
+    @SuppressWarnings("unchecked")
+    static Object mergeValue(Object target, Object patch) {
+        if (!(patch instanceof Map)) {
+            return patch;
+        }
+        Map<Object, Object> merged = target instanceof Map ? new LinkedHashMap<>((Map<Object, Object>) target) :
+                new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) patch).entrySet()) {
+            if (entry.getValue() == null) {
+                merged.remove(entry.getKey());
+            } else {
+                merged.put(entry.getKey(), mergeValue(merged.get(entry.getKey()), entry.getValue()));
+            }
+        }
+        return merged;
+    }
+}
@@ -17,13 +17,11 @@
 package com.aerospike.restclient.service;
 
 import com.aerospike.restclient.domain.auth.AuthDetails;
-import com.aerospike.restclient.handlers.ClusterHandler;
-import com.aerospike.restclient.handlers.InfoHandler;
 import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.ClusterMetadataCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Service
@@ -32,6 +30,9 @@ public class AerospikeClusterServiceV1 implements AerospikeClusterService {
     @Autowired
     private AerospikeClientPool clientPool;
 
+    @Autowired
+    private ClusterMetadataCache metadataCache;
+
     /*
      * Returns an object showing cluster information
      * {
@@ -44,19 +45,16 @@ public class AerospikeClusterServiceV1 implements AerospikeClusterService {
      *  			"name" : "ns1",
      *  			"sets" : [
      *  				{"name" :"set1", "objectCount": #},
-     *  			]
+     *  			],
+     *  			"replicationFactor": #,
+     *  			"sindexes": [{"indexname": "index1", ...}]
      *  		}, ...
-     *  ]
-     *
+     *  ],
+     *  "snapshot": {"refreshedAt": #, "ageMillis": #, "stale": false}
      * }
      */
     @Override
     public Map<String, Object> getClusterInfo(AuthDetails authDetails) {
-        Map<String, Object> clusterInfo = new HashMap<>();
-
-        clusterInfo.put("nodes", ClusterHandler.create(clientPool.getClient(authDetails)).getNodeMaps());
-        clusterInfo.put("namespaces", InfoHandler.create(clientPool.getClient(authDetails)).getNamespaceInfoMaps());
-
-        return clusterInfo;
+        return metadataCache.getClusterInfo(clientPool.getClient(authDetails));
     }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.service;
+
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientCounter;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.BatchHandler;
+import com.aerospike.restclient.handlers.OperateHandler;
+import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * A counter is stored as shards sub-records keyed <counter>:<shard>, each holding a partial count.
+ * Increments go to a random shard, so concurrent writers spread over several partitions instead
+ * of queueing on one hot key. Reads sum all shards with one batch read.
+ *
+ * Cached totals are kept per set of credentials, so a total is only served to callers that could
+ * read it themselves. Each total is stored with the stamp of its counter taken before the read, and
+ * every increment bumps that stamp. A cached total is only served while its stamp is current, so
+ * neither a total cached before an increment nor one read while an increment ran is returned later.
+ */
+@Service
+public class AerospikeCounterServiceV1 implements AerospikeCounterService {
+
+    public static final String COUNT_BIN = "count";
+
+    private static final int STAMP_STRIPES = 256;
+
+    @Autowired
+    private AerospikeClientPool clientPool;
+
+    @Autowired
+    private Resilience4JCircuitBreaker circuitBreaker;
+
+    private final int defaultShards;
+    private final int maxShards;
+    private final Cache<String, CachedTotal> totals;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public AerospikeCounterServiceV1(@Value("${aerospike.restclient.counter.shards:16}") int defaultShards,
+                                     @Value("${aerospike.restclient.counter.maxShards:1024}") int maxShards,
+                                     @Value("${aerospike.restclient.counter.cacheMillis:0}") long cacheMillis) {
+        this.defaultShards = defaultShards;
+        this.maxShards = maxShards;
+        this.totals = cacheMillis > 0
+                ? CacheBuilder.newBuilder().expireAfterWrite(cacheMillis, TimeUnit.MILLISECONDS).maximumSize(10000).build()
+                : null;
+    }
+
+    @Override
+    public void increment(AuthDetails authDetails, String namespace, String set, String counter, Integer shards,
+                          long incr, WritePolicy policy) {
+        int shardCount = shardCount(shards);
+        Key shardKey = shardKey(namespace, set, counter, ThreadLocalRandom.current().nextInt(shardCount));
+        Operation[] operations = new Operation[]{Operation.add(new Bin(COUNT_BIN, incr))};
+
+        circuitBreaker.run(() -> OperateHandler.create(clientPool.getClient(authDetails))
+                .operate(policy, shardKey, operations));
+        if (totals != null) {
+            stamps.incrementAndGet(stripe(counterKey(namespace, set, counter, shardCount)));
+        }
+    }
+
+    @Override
+    public RestClientCounter getCounter(AuthDetails authDetails, String namespace, String set, String counter,
+                                        Integer shards, BatchPolicy policy) {
+        int shardCount = shardCount(shards);
+        String counterKey = counterKey(namespace, set, counter, shardCount);
+        String cacheKey = String.join("/", credentialsKey(authDetails), counterKey);
+        long stamp = stamps.get(stripe(counterKey));
+        CachedTotal cached = totals == null ? null : totals.getIfPresent(cacheKey);
+        if (cached != null && cached.stamp == stamp) {
+            return new RestClientCounter(counter, shardCount, cached.total);
+        }
+
+        List<BatchRead> reads = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            reads.add(new BatchRead(shardKey(namespace, set, counter, shard), new String[]{COUNT_BIN}));
+        }
+        circuitBreaker.run(() -> {
+            BatchHandler.create(clientPool.getClient(authDetails)).batchRead(policy, reads);
+            return null;
+        });
+
+        long total = 0;
+        for (BatchRead read : reads) {
+            if (read.record != null) {
+                total += read.record.getLong(COUNT_BIN);
+            }
+        }
+        if (totals != null && stamps.get(stripe(counterKey)) == stamp) {
+            totals.put(cacheKey, new CachedTotal(stamp, total));
+        }
+        return new RestClientCounter(counter, shardCount, total);
+    }
+
+    private int shardCount(Integer shards) {
+        if (shards == null) {
+            return defaultShards;
+        }
+        if (shards < 1 || shards > maxShards) {
+            throw new RestClientErrors.InvalidOperationError(
+                    String.format("shards must be between 1 and %d", maxShards));
+        }
+        return shards;
+    }
+
+    private static String counterKey(String namespace, String set, String counter, int shards) {
+        return String.join("/", namespace, String.valueOf(set), counter, String.valueOf(shards));
+    }
+
+    /* Hashed like the client pool key, so the password is not kept in the cache */
+    private static String credentialsKey(AuthDetails authDetails) {
+        if (authDetails == null) {
+            return "";
+        }
+        return Hashing.sha256().hashString(authDetails.toString(), StandardCharsets.UTF_8).toString();
+    }
+
+    private static int stripe(String counterKey) {
+        return (counterKey.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+
+    private static Key shardKey(String namespace, String set, String counter, int shard) {
+        return new Key(namespace, set, counter + ":" + shard);
+    }
+
+    private static final class CachedTotal {
+        private final long stamp;
+        private final long total;
+
+        private CachedTotal(long stamp, long total) {
+            this.stamp = stamp;
+            this.total = total;
+        }
+    }
+}
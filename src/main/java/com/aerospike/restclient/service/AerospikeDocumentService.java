@@ -16,19 +16,31 @@
  */
 package com.aerospike.restclient.service;
 
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientDocumentReadBody;
+import com.aerospike.restclient.domain.RestClientDocumentReadResponse;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.util.AerospikeAPIConstants;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface AerospikeDocumentService {
 
     Map<String, Object> getObject(AuthDetails authDetails, String namespace, String set, String key, List<String> bins,
                                   String jsonPath, AerospikeAPIConstants.RecordKeyType keyType, Policy policy);
 
+    VersionedDocument getVersionedObject(AuthDetails authDetails, String namespace, String set, String key,
+                                         List<String> bins, String jsonPath,
+                                         AerospikeAPIConstants.RecordKeyType keyType, Policy policy);
+
+    /* Results are handed to the consumer as each entry completes, not in request order */
+    void getObjects(AuthDetails authDetails, List<RestClientDocumentReadBody> entries, BatchPolicy policy,
+                    Consumer<RestClientDocumentReadResponse> consumer);
+
     void putObject(AuthDetails authDetails, String namespace, String set, String key, List<String> bins,
                    String jsonPath, Object jsonObject, AerospikeAPIConstants.RecordKeyType keyType, WritePolicy policy);
 
@@ -37,4 +49,19 @@ public interface AerospikeDocumentService {
 
     void deleteObject(AuthDetails authDetails, String namespace, String set, String key, List<String> bins,
                       String jsonPath, AerospikeAPIConstants.RecordKeyType keyType, WritePolicy policy);
+
+    /* A document with the generation and ttl of the record. Consistent if the document was read from that generation */
+    class VersionedDocument {
+        public final Map<String, Object> document;
+        public final int generation;
+        public final int ttl;
+        public final boolean consistent;
+
+        public VersionedDocument(Map<String, Object> document, int generation, int ttl, boolean consistent) {
+            this.document = document;
+            this.generation = generation;
+            this.ttl = ttl;
+            this.consistent = consistent;
+        }
+    }
 }
@@ -16,52 +16,189 @@
  */
 package com.aerospike.restclient.service;
 
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientDocumentReadBody;
+import com.aerospike.restclient.domain.RestClientDocumentReadResponse;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.handlers.DocumentHandler;
+import com.aerospike.restclient.handlers.RecordHandler;
 import com.aerospike.restclient.util.AerospikeAPIConstants;
 import com.aerospike.restclient.util.AerospikeClientPool;
 import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.NegativeLookupCache;
 import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.converters.CompiledJsonPath;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 public class AerospikeDocumentServiceV1 implements AerospikeDocumentService {
 
+    private static final int VERSIONED_READ_ATTEMPTS = 3;
+
     @Autowired
     private AerospikeClientPool clientPool;
 
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    @Qualifier("batchReadExecutor")
+    private ExecutorService batchReadExecutor;
+
+    @Value("${aerospike.restclient.document.batch.maxInFlight:16}")
+    private int maxInFlight;
+
+    /*
+     * Keyed by the path as received, so a cached path is neither decoded nor parsed again. Query
+     * parameter paths are URL encoded and request body paths are not, so they are cached apart.
+     */
+    private final Cache<String, CompiledJsonPath> compiledPaths;
+    private final Cache<String, CompiledJsonPath> compiledBodyPaths;
+
+    public AerospikeDocumentServiceV1(@Value("${aerospike.restclient.document.pathCacheSize:10000}") long cacheSize) {
+        this.compiledPaths = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        this.compiledBodyPaths = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+    }
+
     @Override
     public Map<String, Object> getObject(AuthDetails authDetails, String namespace, String set, String key, List<String> bins,
                                          String jsonPath, AerospikeAPIConstants.RecordKeyType keyType, Policy policy) {
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
         return DocumentHandler.create(clientPool.getClient(authDetails)).getObject(asKey,
-                bins, decodeJsonPath(jsonPath), policy);
+                bins, compile(jsonPath), policy);
+    }
+
+    /*
+     * A compiled path returns the generation with the document. The document client does not, so its
+     * read is bracketed by header reads and retried while the generation changes underneath it.
+     */
+    @Override
+    public VersionedDocument getVersionedObject(AuthDetails authDetails, String namespace, String set, String key,
+                                                List<String> bins, String jsonPath,
+                                                AerospikeAPIConstants.RecordKeyType keyType, Policy policy) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        AerospikeClient client = clientPool.getClient(authDetails);
+        DocumentHandler handler = DocumentHandler.create(client);
+        CompiledJsonPath compiled = compile(jsonPath);
+
+        Record record = handler.getObjectRecord(asKey, bins, compiled, policy);
+        if (record != null) {
+            return new VersionedDocument(record.bins, record.generation, record.getTimeToLive(), true);
+        }
+
+        RecordHandler recordHandler = RecordHandler.create(client);
+        Map<String, Object> document = null;
+        Record after = null;
+        for (int attempt = 0; attempt < VERSIONED_READ_ATTEMPTS; attempt++) {
+            Record before = recordHandler.getRecordHeader(policy, asKey);
+            document = handler.getObject(asKey, bins, compiled.getPath(), policy);
+            after = recordHandler.getRecordHeader(policy, asKey);
+            if (before != null && after != null && before.generation == after.generation) {
+                return new VersionedDocument(document, after.generation, after.getTimeToLive(), true);
+            }
+        }
+        if (after == null) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        return new VersionedDocument(document, after.generation, after.getTimeToLive(), false);
+    }
+
+    /*
+     * Each entry is one operate call on the batch read pool, evaluating all of its paths. The client
+     * has no batch command that returns several results for one bin, so entries are fanned out
+     * instead of being sent as one batch. A failed entry is reported in its response.
+     */
+    @Override
+    public void getObjects(AuthDetails authDetails, List<RestClientDocumentReadBody> entries, BatchPolicy policy,
+                           Consumer<RestClientDocumentReadResponse> consumer) {
+        entries.forEach(RestClientDocumentReadBody::validate);
+
+        DocumentHandler handler = DocumentHandler.create(clientPool.getClient(authDetails));
+        CompletionService<RestClientDocumentReadResponse> completion =
+                new ExecutorCompletionService<>(batchReadExecutor);
+        List<Future<RestClientDocumentReadResponse>> reads = new ArrayList<>(entries.size());
+
+        /* At most maxInFlight entries of one request are queued or running, the next is submitted as one completes */
+        int taken = 0;
+        try {
+            for (int index = 0; index < entries.size(); index++) {
+                if (reads.size() - taken >= maxInFlight) {
+                    consumer.accept(completion.take().get());
+                    taken++;
+                }
+                int entryIndex = index;
+                RestClientDocumentReadBody entry = entries.get(index);
+                reads.add(completion.submit(() -> readEntry(handler, entryIndex, entry, policy)));
+            }
+            for (; taken < reads.size(); taken++) {
+                consumer.accept(completion.take().get());
+            }
+        } catch (InterruptedException e) {
+            reads.forEach(read -> read.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Document read interrupted");
+        } catch (ExecutionException e) {
+            reads.forEach(read -> read.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AerospikeException(e.getCause());
+        } catch (RuntimeException e) {
+            /* The consumer failed, most likely the client went away */
+            reads.forEach(read -> read.cancel(true));
+            throw e;
+        }
     }
 
     @Override
     public void putObject(AuthDetails authDetails, String namespace, String set, String key, List<String> bins,
                           String jsonPath, Object jsonObject, AerospikeAPIConstants.RecordKeyType keyType, WritePolicy policy) {
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
-        DocumentHandler.create(clientPool.getClient(authDetails)).putObject(asKey,
-                bins, decodeJsonPath(jsonPath), jsonObject, policy);
+        try {
+            DocumentHandler.create(clientPool.getClient(authDetails)).putObject(asKey,
+                    bins, compile(jsonPath), jsonObject, policy);
+        } finally {
+            negativeCache.invalidate(asKey);
+        }
     }
 
     @Override
     public void appendObject(AuthDetails authDetails, String namespace, String set, String key, List<String> bins,
                              String jsonPath, Object jsonObject, AerospikeAPIConstants.RecordKeyType keyType, WritePolicy policy) {
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
-        DocumentHandler.create(clientPool.getClient(authDetails)).appendObject(asKey,
-                bins, decodeJsonPath(jsonPath), jsonObject, policy);
+        try {
+            DocumentHandler.create(clientPool.getClient(authDetails)).appendObject(asKey,
+                    bins, compile(jsonPath), jsonObject, policy);
+        } finally {
+            negativeCache.invalidate(asKey);
+        }
     }
 
     @Override
@@ -69,7 +206,43 @@ public class AerospikeDocumentServiceV1 implements AerospikeDocumentService {
                              String jsonPath, AerospikeAPIConstants.RecordKeyType keyType, WritePolicy policy) {
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
         DocumentHandler.create(clientPool.getClient(authDetails)).deleteObject(asKey,
-                bins, decodeJsonPath(jsonPath), policy);
+                bins, compile(jsonPath), policy);
+    }
+
+    private RestClientDocumentReadResponse readEntry(DocumentHandler handler, int index,
+                                                     RestClientDocumentReadBody entry, BatchPolicy policy) {
+        Key key = entry.toKey();
+        List<CompiledJsonPath> jsonPaths = Arrays.stream(entry.jsonPaths)
+                .map(this::compileUnencoded)
+                .collect(Collectors.toList());
+        try {
+            return new RestClientDocumentReadResponse(index, key,
+                    handler.getObjects(key, Arrays.asList(entry.bins), jsonPaths, policy));
+        } catch (AerospikeException e) {
+            return new RestClientDocumentReadResponse(index, key, e);
+        } catch (RestClientErrors.AerospikeRestClientError e) {
+            int resultCode = e instanceof RestClientErrors.RecordNotFoundError ? ResultCode.KEY_NOT_FOUND_ERROR :
+                    ResultCode.PARAMETER_ERROR;
+            return new RestClientDocumentReadResponse(index, key, resultCode, e.getErrorMessage());
+        }
+    }
+
+    private CompiledJsonPath compileUnencoded(String jsonPath) {
+        CompiledJsonPath compiled = compiledBodyPaths.getIfPresent(jsonPath);
+        if (compiled == null) {
+            compiled = CompiledJsonPath.compile(jsonPath);
+            compiledBodyPaths.put(jsonPath, compiled);
+        }
+        return compiled;
+    }
+
+    private CompiledJsonPath compile(String jsonPath) {
+        CompiledJsonPath compiled = compiledPaths.getIfPresent(jsonPath);
+        if (compiled == null) {
+            compiled = CompiledJsonPath.compile(decodeJsonPath(jsonPath));
+            compiledPaths.put(jsonPath, compiled);
+        }
+        return compiled;
     }
 
     private String decodeJsonPath(String jsonPath) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.service;
+
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientImportSummary;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.ImportHandler;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.BinCompressor;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.aerospike.restclient.util.deserializers.ImportRecordReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ExecutorService;
+
+@Service
+public class AerospikeImportServiceV1 implements AerospikeImportService {
+
+    @Autowired
+    private AerospikeClientPool clientPool;
+
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    private BinCompressor binCompressor;
+
+    @Autowired
+    @Qualifier("batchWriteExecutor")
+    private ExecutorService writeExecutor;
+
+    @Value("${aerospike.restclient.import.maxInFlight:64}")
+    private int maxInFlight;
+
+    @Value("${aerospike.restclient.import.maxReportedFailures:100}")
+    private int maxReportedFailures;
+
+    @Override
+    public RestClientImportSummary importRecords(AuthDetails authDetails, String namespace, String set,
+                                                 RecordKeyType keyType, ImportRecordReader reader, WritePolicy policy) {
+        try {
+            return ImportHandler.create(clientPool.getClient(authDetails))
+                    .importRecords(policy, namespace, set, keyType, reader, binCompressor, writeExecutor,
+                            maxInFlight, maxReportedFailures);
+        } finally {
+            negativeCache.invalidateSet(namespace, set);
+        }
+    }
+}
@@ -17,8 +17,10 @@
 package com.aerospike.restclient.service;
 
 import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.restclient.domain.RestClientNodeInfoResponse;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 
+import java.util.List;
 import java.util.Map;
 
 public interface AerospikeInfoService {
@@ -26,4 +28,6 @@ public interface AerospikeInfoService {
     Map<String, String> infoAny(AuthDetails authDetails, String[] requests, InfoPolicy policy);
 
     Map<String, String> infoNodeName(AuthDetails authDetails, String nodeName, String[] requests, InfoPolicy policy);
+
+    RestClientNodeInfoResponse infoNodes(AuthDetails authDetails, List<String> nodeNames, String[] requests, InfoPolicy policy);
 }
\ No newline at end of file
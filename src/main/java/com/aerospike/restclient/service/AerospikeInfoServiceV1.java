@@ -17,13 +17,17 @@
 package com.aerospike.restclient.service;
 
 import com.aerospike.client.policy.InfoPolicy;
+import com.aerospike.restclient.domain.RestClientNodeInfoResponse;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.handlers.InfoHandler;
 import com.aerospike.restclient.util.AerospikeClientPool;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 @Service
 public class AerospikeInfoServiceV1 implements AerospikeInfoService {
@@ -31,6 +35,10 @@ public class AerospikeInfoServiceV1 implements AerospikeInfoService {
     @Autowired
     private AerospikeClientPool clientPool;
 
+    @Autowired
+    @Qualifier("infoExecutor")
+    private ExecutorService infoExecutor;
+
     @Override
     public Map<String, String> infoAny(AuthDetails authDetails, String[] requests, InfoPolicy policy) {
         return InfoHandler.create(clientPool.getClient(authDetails)).multiInfoRequest(policy, requests);
@@ -40,4 +48,9 @@ public class AerospikeInfoServiceV1 implements AerospikeInfoService {
     public Map<String, String> infoNodeName(AuthDetails authDetails, String nodeName, String[] requests, InfoPolicy policy) {
         return InfoHandler.create(clientPool.getClient(authDetails)).multiInfoRequest(policy, nodeName, requests);
     }
+
+    @Override
+    public RestClientNodeInfoResponse infoNodes(AuthDetails authDetails, List<String> nodeNames, String[] requests, InfoPolicy policy) {
+        return InfoHandler.create(clientPool.getClient(authDetails), infoExecutor).infoRequestNodes(policy, nodeNames, requests);
+    }
 }
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRead;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.Policy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.BatchHandler;
+import com.aerospike.restclient.handlers.RecordHandler;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.aerospike.restclient.util.RestClientErrors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/*
+ * An object is stored as a manifest record under the caller's key and a run of chunk records under
+ * keys derived from the manifest digest and an upload version. A new upload writes its chunks under
+ * a fresh version, then swaps the manifest with a generation check, so readers see either the old
+ * or the new object and never a mix. Chunks of the replaced version are removed afterwards.
+ */
+@Service
+public class AerospikeObjectServiceV1 implements AerospikeObjectService {
+
+    public static final String SIZE_BIN = "size";
+    public static final String CHUNKS_BIN = "chunks";
+    public static final String VERSION_BIN = "version";
+    public static final String TYPE_BIN = "type";
+    public static final String DATA_BIN = "data";
+
+    private static final Logger logger = LoggerFactory.getLogger(AerospikeObjectServiceV1.class);
+
+    @Autowired
+    private AerospikeClientPool clientPool;
+
+    @Autowired
+    private Resilience4JCircuitBreaker circuitBreaker;
+
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    @Qualifier("batchWriteExecutor")
+    private ExecutorService chunkWriteExecutor;
+
+    @Autowired
+    @Qualifier("batchReadExecutor")
+    private ExecutorService chunkReadExecutor;
+
+    private final int chunkSize;
+    private final long maxBytes;
+    private final int maxChunksInFlight;
+
+    public AerospikeObjectServiceV1(@Value("${aerospike.restclient.objects.chunkSize:1000000}") int chunkSize,
+                                    @Value("${aerospike.restclient.objects.maxBytes:268435456}") long maxBytes,
+                                    @Value("${aerospike.restclient.objects.maxChunksInFlight:8}") int maxChunksInFlight) {
+        this.chunkSize = chunkSize;
+        this.maxBytes = maxBytes;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    @Override
+    public void storeObject(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType,
+                            String contentType, InputStream body, WritePolicy policy) throws IOException {
+        Key manifestKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        Record previous = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                .getRecord(policy, manifestKey));
+        String version = UUID.randomUUID().toString();
+        WritePolicy chunkPolicy = chunkPolicy(policy);
+
+        /* At most maxChunksInFlight chunks are buffered or being written, the rest of the body is not read yet */
+        Deque<Future<?>> writes = new ArrayDeque<>();
+        int chunkCount = 0;
+        long size = 0;
+        try {
+            byte[] chunk;
+            while ((chunk = readChunk(body)) != null) {
+                size += chunk.length;
+                if (size > maxBytes) {
+                    throw new RestClientErrors.PayloadTooLargeError(
+                            String.format("Object is larger than %d bytes", maxBytes));
+                }
+                if (writes.size() >= maxChunksInFlight) {
+                    await(writes.poll());
+                }
+                Key chunkKey = chunkKey(manifestKey, version, chunkCount++);
+                Bin data = new Bin(DATA_BIN, chunk);
+                writes.add(chunkWriteExecutor.submit(() -> circuitBreaker.run(() -> {
+                    RecordHandler.create(clientPool.getClient(authDetails)).putRecord(chunkPolicy, chunkKey, data);
+                    return null;
+                })));
+            }
+            while (!writes.isEmpty()) {
+                await(writes.poll());
+            }
+        } catch (IOException | RuntimeException e) {
+            writes.forEach(write -> write.cancel(true));
+            deleteChunks(authDetails, manifestKey, version, chunkCount);
+            throw e;
+        }
+
+        WritePolicy manifestPolicy = manifestPolicy(policy, previous);
+        Bin[] manifest = {
+                new Bin(SIZE_BIN, size),
+                new Bin(CHUNKS_BIN, chunkCount),
+                new Bin(VERSION_BIN, version),
+                new Bin(TYPE_BIN, contentType)
+        };
+        try {
+            circuitBreaker.run(() -> {
+                RecordHandler.create(clientPool.getClient(authDetails)).putRecord(manifestPolicy, manifestKey,
+                        manifest);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            /* Another upload won the cut-over, or the write failed. Either way these chunks are unreachable */
+            deleteChunks(authDetails, manifestKey, version, chunkCount);
+            throw e;
+        } finally {
+            negativeCache.invalidate(manifestKey);
+        }
+
+        if (previous != null && previous.getString(VERSION_BIN) != null) {
+            deleteChunks(authDetails, manifestKey, previous.getString(VERSION_BIN), previous.getInt(CHUNKS_BIN));
+        }
+    }
+
+    /*
+     * Chunks are read ahead in batches of maxChunksInFlight, one batch call each. The next batch is read
+     * on the batch read threads while the current one is written to the sink, so at most two batches are
+     * held in memory. A concurrent upload may remove the chunks of the manifest that was just read. If
+     * the first chunk is gone, the manifest is read again so the caller gets the newer object instead of
+     * an error. Once the sink has been opened the response is committed, and a later missing chunk fails
+     * the transfer part way.
+     */
+    @Override
+    public void getObject(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType,
+                          Policy policy, ObjectSink sink) throws IOException {
+        Key manifestKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        BatchPolicy batchPolicy = new BatchPolicy(policy);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Record manifest = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                    .getRecord(policy, manifestKey));
+            if (manifest == null) {
+                throw new RestClientErrors.RecordNotFoundError();
+            }
+            String version = manifest.getString(VERSION_BIN);
+            if (version == null) {
+                throw new RestClientErrors.InvalidOperationError("Record is not a chunked object");
+            }
+
+            int chunkCount = manifest.getInt(CHUNKS_BIN);
+            List<byte[]> chunks = fetchChunks(authDetails, batchPolicy, manifestKey, version, 0,
+                    Math.min(chunkCount, maxChunksInFlight));
+            if (!chunks.isEmpty() && chunks.get(0) == null) {
+                continue;
+            }
+            OutputStream out = sink.open(manifest.getString(TYPE_BIN), manifest.getLong(SIZE_BIN),
+                    manifest.generation);
+            Future<List<byte[]>> next = null;
+            try {
+                for (int from = maxChunksInFlight; ; from += maxChunksInFlight) {
+                    if (from < chunkCount) {
+                        int nextFrom = from;
+                        int nextCount = Math.min(maxChunksInFlight, chunkCount - from);
+                        next = chunkReadExecutor.submit(() -> fetchChunks(authDetails, batchPolicy, manifestKey,
+                                version, nextFrom, nextCount));
+                    }
+                    for (byte[] chunk : chunks) {
+                        if (chunk == null) {
+                            throw new RestClientErrors.RecordNotFoundError("Object chunk not found");
+                        }
+                        out.write(chunk);
+                    }
+                    if (next == null) {
+                        return;
+                    }
+                    chunks = await(next);
+                    next = null;
+                }
+            } finally {
+                if (next != null) {
+                    next.cancel(true);
+                }
+            }
+        }
+        throw new RestClientErrors.RecordNotFoundError("Object chunk not found");
+    }
+
+    @Override
+    public void deleteObject(AuthDetails authDetails, String namespace, String set, String key,
+                             RecordKeyType keyType, WritePolicy policy) {
+        Key manifestKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        Record manifest = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                .getRecord(policy, manifestKey));
+        if (manifest == null) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+
+        WritePolicy deletePolicy = new WritePolicy(policy);
+        if (deletePolicy.generationPolicy == GenerationPolicy.NONE) {
+            deletePolicy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+            deletePolicy.generation = manifest.generation;
+        }
+        boolean deleted = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                .deleteRecord(deletePolicy, manifestKey));
+        if (!deleted) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        if (manifest.getString(VERSION_BIN) != null) {
+            deleteChunks(authDetails, manifestKey, manifest.getString(VERSION_BIN), manifest.getInt(CHUNKS_BIN));
+        }
+    }
+
+    /* Fill a whole chunk from the body. Returns a shorter array for the last chunk and null at the end */
+    private byte[] readChunk(InputStream body) throws IOException {
+        byte[] chunk = new byte[chunkSize];
+        int read = 0;
+        int count;
+        while (read < chunk.length && (count = body.read(chunk, read, chunk.length - read)) >= 0) {
+            read += count;
+        }
+        if (read == 0) {
+            return null;
+        }
+        return read == chunk.length ? chunk : Arrays.copyOf(chunk, read);
+    }
+
+    /* Read count chunks starting at index from with one batch call. Missing chunks are null */
+    private List<byte[]> fetchChunks(AuthDetails authDetails, BatchPolicy policy, Key manifestKey, String version,
+                                     int from, int count) {
+        List<BatchRead> reads = new ArrayList<>(count);
+        for (int index = from; index < from + count; index++) {
+            reads.add(new BatchRead(chunkKey(manifestKey, version, index), new String[]{DATA_BIN}));
+        }
+        if (!reads.isEmpty()) {
+            circuitBreaker.run(() -> {
+                BatchHandler.create(clientPool.getClient(authDetails)).batchRead(policy, reads);
+                return null;
+            });
+        }
+        List<byte[]> chunks = new ArrayList<>(count);
+        for (BatchRead read : reads) {
+            chunks.add(read.record == null ? null : (byte[]) read.record.getValue(DATA_BIN));
+        }
+        return chunks;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Object transfer interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new AerospikeException(e.getCause());
+        }
+    }
+
+    /* Best effort, a chunk left behind is only wasted space */
+    private void deleteChunks(AuthDetails authDetails, Key manifestKey, String version, int chunkCount) {
+        RecordHandler handler = RecordHandler.create(clientPool.getClient(authDetails));
+        for (int index = 0; index < chunkCount; index++) {
+            try {
+                handler.deleteRecord(null, chunkKey(manifestKey, version, index));
+            } catch (AerospikeException e) {
+                logger.warn("Failed to delete object chunk {} of version {}: {}", index, version, e.getMessage());
+            }
+        }
+    }
+
+    /* Chunks are plain writes, only the manifest carries the caller's existence and generation checks */
+    private static WritePolicy chunkPolicy(WritePolicy policy) {
+        WritePolicy chunkPolicy = new WritePolicy(policy);
+        chunkPolicy.generationPolicy = GenerationPolicy.NONE;
+        chunkPolicy.recordExistsAction = RecordExistsAction.REPLACE;
+        chunkPolicy.filterExp = null;
+        return chunkPolicy;
+    }
+
+    private static WritePolicy manifestPolicy(WritePolicy policy, Record previous) {
+        WritePolicy manifestPolicy = new WritePolicy(policy);
+        manifestPolicy.recordExistsAction = RecordExistsAction.REPLACE;
+        if (manifestPolicy.generationPolicy != GenerationPolicy.NONE) {
+            return manifestPolicy;
+        }
+        if (previous == null) {
+            manifestPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        } else {
+            manifestPolicy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+            manifestPolicy.generation = previous.generation;
+        }
+        return manifestPolicy;
+    }
+
+    private static Key chunkKey(Key manifestKey, String version, int index) {
+        return new Key(manifestKey.namespace, manifestKey.setName,
+                Buffer.bytesToHexString(manifestKey.digest) + ":" + version + ":" + index);
+    }
+}
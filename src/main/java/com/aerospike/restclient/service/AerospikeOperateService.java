@@ -16,6 +16,7 @@
  */
 package com.aerospike.restclient.service;
 
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientOperation;
@@ -24,12 +25,16 @@ import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
 
 import java.util.List;
+import java.util.Map;
 
 public interface AerospikeOperateService {
 
+    /* Returns null if the operations were ADDs queued by the write coalescer */
     RestClientRecord operate(AuthDetails authDetails, String namespace, String set, String key,
-                                    List<RestClientOperation> opsList, RecordKeyType keyType, WritePolicy policy);
+                                    List<RestClientOperation> opsList, Map<String, Expression> computed,
+                                    RecordKeyType keyType, WritePolicy policy);
 
     RestClientRecord[] operate(AuthDetails authDetails, String namespace, String set, String[] keys,
-                                      List<RestClientOperation> opsList, RecordKeyType keyType, BatchPolicy policy);
+                                      List<RestClientOperation> opsList, Map<String, Expression> computed,
+                                      RecordKeyType keyType, BatchPolicy policy);
 }
@@ -19,6 +19,7 @@ package com.aerospike.restclient.service;
 import com.aerospike.client.Key;
 import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientOperation;
@@ -27,8 +28,11 @@ import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.handlers.OperateHandler;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
 import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.BinCompressor;
 import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.NegativeLookupCache;
 import com.aerospike.restclient.util.RestClientErrors;
+import com.aerospike.restclient.util.WriteCoalescer;
 import com.aerospike.restclient.util.converters.OperationsConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
@@ -48,35 +52,63 @@ public class AerospikeOperateServiceV1 implements AerospikeOperateService {
     @Autowired
     private Resilience4JCircuitBreaker circuitBreaker;
 
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    private WriteCoalescer writeCoalescer;
+
+    @Autowired
+    private BinCompressor binCompressor;
+
     @Override
     public RestClientRecord operate(AuthDetails authDetails, String namespace, String set, String key,
-                                    List<RestClientOperation> opsList, RecordKeyType keyType, WritePolicy policy) {
+                                    List<RestClientOperation> opsList, Map<String, Expression> computed,
+                                    RecordKeyType keyType, WritePolicy policy) {
 
         List<Map<String, Object>> opsMapsList = opsList.stream().map(RestClientOperation::toMap)
                 .collect(Collectors.toList());
 
-        Operation[] operations = OperationsConverter.mapListToOperationsArray(opsMapsList);
+        Operation[] operations = OperationsConverter.withComputedFields(
+                OperationsConverter.mapListToOperationsArray(opsMapsList), computed);
         Key opKey = KeyBuilder.buildKey(namespace, set, key, keyType);
-        Record fetchedRecord = circuitBreaker.run(() -> OperateHandler.create(clientPool.getClient(authDetails))
-                .operate(policy, opKey, operations));
+        if (writeCoalescer.add(authDetails, policy, opKey, operations)) {
+            negativeCache.invalidate(opKey);
+            return null;
+        }
+        Record fetchedRecord;
+        try {
+            fetchedRecord = circuitBreaker.run(() -> OperateHandler.create(clientPool.getClient(authDetails))
+                    .operate(policy, opKey, operations));
+        } finally {
+            negativeCache.invalidate(opKey);
+        }
         if (fetchedRecord == null) {
             throw new RestClientErrors.RecordNotFoundError();
         }
 
+        binCompressor.decompress(namespace, set, fetchedRecord.bins);
         return new RestClientRecord(fetchedRecord);
     }
 
     @Override
     public RestClientRecord[] operate(AuthDetails authDetails, String namespace, String set, String[] keys,
-                                      List<RestClientOperation> opsList, RecordKeyType keyType, BatchPolicy policy) {
+                                      List<RestClientOperation> opsList, Map<String, Expression> computed,
+                                      RecordKeyType keyType, BatchPolicy policy) {
 
         List<Map<String, Object>> opsMapsList = opsList.stream().map(RestClientOperation::toMap)
                 .collect(Collectors.toList());
 
-        Operation[] operations = OperationsConverter.mapListToOperationsArray(opsMapsList);
+        Operation[] operations = OperationsConverter.withComputedFields(
+                OperationsConverter.mapListToOperationsArray(opsMapsList), computed);
         Key[] opKeys = Arrays.stream(keys).map(k -> KeyBuilder.buildKey(namespace, set, k, keyType)).toArray(Key[]::new);
         Record[] fetchedRecords = circuitBreaker.run(() -> OperateHandler.create(clientPool.getClient(authDetails))
                 .operate(policy, opKeys, operations));
+        for (Record fetchedRecord : fetchedRecords) {
+            if (fetchedRecord != null) {
+                binCompressor.decompress(namespace, set, fetchedRecord.bins);
+            }
+        }
 
         return Arrays.stream(fetchedRecords).map(RestClientRecord::new).toArray(RestClientRecord[]::new);
     }
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.service;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.restclient.RestClientErrorHandler;
+import com.aerospike.restclient.domain.RestClientBatchReadBody;
+import com.aerospike.restclient.domain.RestClientError;
+import com.aerospike.restclient.domain.RestClientKey;
+import com.aerospike.restclient.domain.RestClientOperation;
+import com.aerospike.restclient.domain.RestClientPipelineRequest;
+import com.aerospike.restclient.domain.RestClientPipelineResponse;
+import com.aerospike.restclient.domain.RestClientRecord;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
+import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.RequestParamHandler;
+import com.aerospike.restclient.util.RestClientErrors;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/*
+ * Executes a list of independent sub-requests concurrently against the record, operate and document
+ * services. Each sub-request reports the status code and body its standalone endpoint would have returned.
+ * As with the standalone endpoints, a GET of /v1/kvs/{namespace}/{set} with key parameters is a batch read
+ * of those keys rather than a read of the record named by the last path segment.
+ */
+@Service
+public class AerospikePipelineServiceV1 implements AerospikePipelineService {
+
+    private static final String KVS_SET_PATH = "/v1/kvs/{namespace}/{set}/{key}";
+    private static final String KVS_KEYS_PATH = "/v1/kvs/{namespace}/{set}";
+    private static final String KVS_PATH = "/v1/kvs/{namespace}/{key}";
+    private static final String OPERATE_SET_PATH = "/v1/operate/{namespace}/{set}/{key}";
+    private static final String OPERATE_PATH = "/v1/operate/{namespace}/{key}";
+    private static final String DOCUMENT_SET_PATH = "/v1/document/{namespace}/{set}/{key}";
+    private static final String DOCUMENT_PATH = "/v1/document/{namespace}/{key}";
+
+    private static final TypeReference<Map<String, Object>> binsType = new TypeReference<Map<String, Object>>() {};
+    private static final TypeReference<List<RestClientOperation>> operationsType =
+            new TypeReference<List<RestClientOperation>>() {};
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Autowired
+    private AerospikeRecordService recordService;
+
+    @Autowired
+    private AerospikeOperateService operateService;
+
+    @Autowired
+    private AerospikeDocumentService documentService;
+
+    @Autowired
+    private AerospikeBatchService batchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("pipelineExecutor")
+    private ExecutorService pipelineExecutor;
+
+    @Value("${aerospike.restclient.pipeline.maxRequests:64}")
+    private int maxRequests;
+
+    @Override
+    public List<RestClientPipelineResponse> execute(AuthDetails authDetails, List<RestClientPipelineRequest> requests) {
+        if (requests.size() > maxRequests) {
+            throw new RestClientErrors.InvalidOperationError(
+                    String.format("A pipeline may contain at most %d requests", maxRequests));
+        }
+
+        List<Future<RestClientPipelineResponse>> futures = new ArrayList<>(requests.size());
+        for (RestClientPipelineRequest request : requests) {
+            futures.add(pipelineExecutor.submit(() -> dispatch(authDetails, request)));
+        }
+
+        List<RestClientPipelineResponse> responses = new ArrayList<>(requests.size());
+        try {
+            for (Future<RestClientPipelineResponse> future : futures) {
+                responses.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new AerospikeException("Pipeline interrupted");
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw new AerospikeException(e.getCause());
+        }
+        return responses;
+    }
+
+    private RestClientPipelineResponse dispatch(AuthDetails authDetails, RestClientPipelineRequest request) {
+        try {
+            return route(authDetails, request);
+        } catch (Exception e) {
+            return errorResponse(e);
+        }
+    }
+
+    private RestClientPipelineResponse route(AuthDetails authDetails, RestClientPipelineRequest request) {
+        if (request.method == null || request.path == null) {
+            throw new RestClientErrors.InvalidOperationError("Pipeline requests require a method and a path");
+        }
+        HttpMethod method = HttpMethod.resolve(request.method.toUpperCase());
+        UriComponents uri = UriComponentsBuilder.fromUriString(request.path).build();
+        String path = uri.getPath() == null ? "" : uri.getPath();
+
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        uri.getQueryParams().forEach((name, values) -> values.forEach(value -> params.add(decode(name),
+                value == null ? null : decode(value))));
+        if (request.params != null) {
+            request.params.forEach(params::set);
+        }
+
+        Map<String, String> pathVars;
+        if (method == HttpMethod.GET && params.containsKey(AerospikeAPIConstants.RECORD_KEY)
+                && (pathVars = match(KVS_KEYS_PATH, path)) != null) {
+            return kvsKeys(authDetails, pathVars, params);
+        }
+        if ((pathVars = match(KVS_SET_PATH, path)) != null || (pathVars = match(KVS_PATH, path)) != null) {
+            return kvs(authDetails, method, pathVars, params, request.body);
+        }
+        if ((pathVars = match(OPERATE_SET_PATH, path)) != null || (pathVars = match(OPERATE_PATH, path)) != null) {
+            return operate(authDetails, method, pathVars, params, request.body);
+        }
+        if ((pathVars = match(DOCUMENT_SET_PATH, path)) != null || (pathVars = match(DOCUMENT_PATH, path)) != null) {
+            return document(authDetails, method, pathVars, params);
+        }
+        return new RestClientPipelineResponse(HttpStatus.NOT_FOUND,
+                new RestClientError(String.format("Unsupported pipeline path: %s", path)));
+    }
+
+    private RestClientPipelineResponse kvs(AuthDetails authDetails, HttpMethod method, Map<String, String> pathVars,
+                                           MultiValueMap<String, String> params, Object body) {
+        String namespace = pathVars.get("namespace");
+        String set = pathVars.get("set");
+        String key = pathVars.get("key");
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(params);
+        Map<String, String> singleParams = params.toSingleValueMap();
+
+        if (method == null) {
+            return methodNotAllowed();
+        }
+        switch (method) {
+            case GET:
+                return new RestClientPipelineResponse(HttpStatus.OK, recordService.fetchRecord(authDetails, namespace,
+                        set, key, RequestParamHandler.getBinsFromMap(params),
+                        RequestParamHandler.getComputedFromMap(params), keyType,
+                        RequestParamHandler.getPolicy(params)));
+            case HEAD:
+                return new RestClientPipelineResponse(recordService.recordExists(authDetails, namespace, set, key,
+                        keyType) ? HttpStatus.OK : HttpStatus.NOT_FOUND);
+            case PUT:
+                recordService.storeRecord(authDetails, namespace, set, key, toBins(body), keyType,
+                        RequestParamHandler.getWritePolicy(singleParams, RecordExistsAction.REPLACE_ONLY));
+                return new RestClientPipelineResponse(HttpStatus.NO_CONTENT);
+            case POST:
+                recordService.storeRecord(authDetails, namespace, set, key, toBins(body), keyType,
+                        RequestParamHandler.getWritePolicy(singleParams, RecordExistsAction.CREATE_ONLY));
+                return new RestClientPipelineResponse(HttpStatus.CREATED);
+            case PATCH:
+                recordService.storeRecord(authDetails, namespace, set, key, toBins(body), keyType,
+                        RequestParamHandler.getWritePolicy(singleParams, RecordExistsAction.UPDATE_ONLY));
+                return new RestClientPipelineResponse(HttpStatus.NO_CONTENT);
+            case DELETE:
+                recordService.deleteRecord(authDetails, namespace, set, key, keyType,
+                        RequestParamHandler.getWritePolicy(singleParams));
+                return new RestClientPipelineResponse(HttpStatus.NO_CONTENT);
+            default:
+                return methodNotAllowed();
+        }
+    }
+
+    private RestClientPipelineResponse kvsKeys(AuthDetails authDetails, Map<String, String> pathVars,
+                                               MultiValueMap<String, String> params) {
+        String[] bins = RequestParamHandler.getBinsFromMap(params);
+        RecordKeyType keyType = RequestParamHandler.getKeyTypeFromMap(params);
+
+        List<RestClientBatchReadBody> batchKeys = new ArrayList<>();
+        for (String key : RequestParamHandler.getKeysFromMap(params)) {
+            RestClientBatchReadBody batchKey = new RestClientBatchReadBody();
+            batchKey.key = new RestClientKey();
+            batchKey.key.namespace = pathVars.get("namespace");
+            batchKey.key.setName = pathVars.get("set");
+            batchKey.key.userKey = key;
+            batchKey.key.keyType = keyType;
+            batchKey.readAllBins = bins.length == 0;
+            batchKey.binNames = bins.length == 0 ? null : bins;
+            batchKeys.add(batchKey);
+        }
+        return new RestClientPipelineResponse(HttpStatus.OK, batchService.batchGet(authDetails, batchKeys,
+                RequestParamHandler.getBatchPolicy(params.toSingleValueMap())));
+    }
+
+    private RestClientPipelineResponse operate(AuthDetails authDetails, HttpMethod method, Map<String, String> pathVars,
+                                               MultiValueMap<String, String> params, Object body) {
+        if (method != HttpMethod.POST) {
+            return methodNotAllowed();
+        }
+        if (body == null) {
+            throw new RestClientErrors.InvalidOperationError("Operate requires a list of operations");
+        }
+        List<RestClientOperation> operations = objectMapper.convertValue(body, operationsType);
+
+        RestClientRecord record = operateService.operate(authDetails, pathVars.get("namespace"),
+                pathVars.get("set"), pathVars.get("key"), operations, RequestParamHandler.getComputedFromMap(params),
+                RequestParamHandler.getKeyTypeFromMap(params),
+                RequestParamHandler.getWritePolicy(params.toSingleValueMap()));
+        return record == null ? new RestClientPipelineResponse(HttpStatus.ACCEPTED)
+                : new RestClientPipelineResponse(HttpStatus.OK, record);
+    }
+
+    private RestClientPipelineResponse document(AuthDetails authDetails, HttpMethod method,
+                                                Map<String, String> pathVars, MultiValueMap<String, String> params) {
+        if (method != HttpMethod.GET) {
+            return methodNotAllowed();
+        }
+        return new RestClientPipelineResponse(HttpStatus.OK, documentService.getObject(authDetails,
+                pathVars.get("namespace"), pathVars.get("set"), pathVars.get("key"),
+                Arrays.asList(RequestParamHandler.getBinsFromMap(params)),
+                RequestParamHandler.getJsonPathFromMap(params), RequestParamHandler.getKeyTypeFromMap(params),
+                RequestParamHandler.getPolicy(params)));
+    }
+
+    private Map<String, Object> toBins(Object body) {
+        if (body == null) {
+            throw new RestClientErrors.InvalidOperationError("Record writes require a map of bins");
+        }
+        return objectMapper.convertValue(body, binsType);
+    }
+
+    private Map<String, String> match(String pattern, String path) {
+        if (!pathMatcher.match(pattern, path)) {
+            return null;
+        }
+        Map<String, String> pathVars = pathMatcher.extractUriTemplateVariables(pattern, path);
+        pathVars.replaceAll((name, value) -> decode(value));
+        return pathVars;
+    }
+
+    private static String decode(String value) {
+        return UriUtils.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static RestClientPipelineResponse methodNotAllowed() {
+        return new RestClientPipelineResponse(HttpStatus.METHOD_NOT_ALLOWED,
+                new RestClientError("Method not supported for this path"));
+    }
+
+    /* Mirrors RestClientErrorHandler, looking through wrapping exceptions for a known cause */
+    private static RestClientPipelineResponse errorResponse(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof AerospikeException) {
+                AerospikeException ae = (AerospikeException) cause;
+                return new RestClientPipelineResponse(RestClientErrorHandler.getStatusCodeFromException(ae),
+                        new RestClientError(ae));
+            }
+            if (cause instanceof RestClientErrors.AerospikeRestClientError) {
+                RestClientErrors.AerospikeRestClientError re = (RestClientErrors.AerospikeRestClientError) cause;
+                return new RestClientPipelineResponse(re.getStatusCode(), new RestClientError(re));
+            }
+            if (cause instanceof IllegalArgumentException) {
+                /* Body conversion failures */
+                return new RestClientPipelineResponse(HttpStatus.BAD_REQUEST, new RestClientError(cause.getMessage()));
+            }
+        }
+        return new RestClientPipelineResponse(HttpStatus.INTERNAL_SERVER_ERROR, new RestClientError(e.getMessage()));
+    }
+}
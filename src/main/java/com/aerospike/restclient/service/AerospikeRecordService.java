@@ -16,9 +16,11 @@
  */
 package com.aerospike.restclient.service;
 
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientRecord;
+import com.aerospike.restclient.domain.RestClientRecordHeader;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
 
@@ -29,9 +31,19 @@ public interface AerospikeRecordService {
     void storeRecord(AuthDetails authDetails, String namespace, String set, String key, Map<String, Object> binMap,
                 RecordKeyType keyType, WritePolicy policy);
 
+    /* Validate the write and queue it, it is sent to the cluster after the request completes */
+    void storeRecordAsync(AuthDetails authDetails, String namespace, String set, String key,
+                Map<String, Object> binMap, RecordKeyType keyType, WritePolicy policy);
+
     RestClientRecord fetchRecord(AuthDetails authDetails, String namespace, String set, String key, String[] bins,
                 RecordKeyType keyType, Policy policy);
 
+    RestClientRecord fetchRecord(AuthDetails authDetails, String namespace, String set, String key, String[] bins,
+                Map<String, Expression> computed, RecordKeyType keyType, Policy policy);
+
+    RestClientRecordHeader fetchRecordHeader(AuthDetails authDetails, String namespace, String set, String key,
+                                             RecordKeyType keyType, Policy policy);
+
     void deleteRecord(AuthDetails authDetails, String namespace, String set, String key,
                  RecordKeyType keyType, WritePolicy policy);
 
@@ -18,21 +18,30 @@ package com.aerospike.restclient.service;
 
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
 import com.aerospike.client.Record;
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.RestClientRecord;
+import com.aerospike.restclient.domain.RestClientRecordHeader;
 import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.OperateHandler;
 import com.aerospike.restclient.handlers.RecordHandler;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
 import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.AsyncWriteQueue;
+import com.aerospike.restclient.util.BinCompressor;
 import com.aerospike.restclient.util.KeyBuilder;
+import com.aerospike.restclient.util.NegativeLookupCache;
 import com.aerospike.restclient.util.RestClientErrors;
 import com.aerospike.restclient.util.converters.BinConverter;
+import com.aerospike.restclient.util.converters.OperationsConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
 import java.util.Map;
 
 @Service
@@ -44,11 +53,24 @@ public class AerospikeRecordServiceV1 implements AerospikeRecordService {
     @Autowired
     private Resilience4JCircuitBreaker circuitBreaker;
 
+    @Autowired
+    private NegativeLookupCache negativeCache;
+
+    @Autowired
+    private AsyncWriteQueue asyncWriteQueue;
+
+    @Autowired
+    private BinCompressor binCompressor;
+
     @Override
     public RestClientRecord fetchRecord(AuthDetails authDetails, String namespace, String set, String key,
                                         String[] bins, RecordKeyType keyType, Policy policy) {
         Record fetchedRecord;
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        if (negativeCache.isKnownMissing(asKey)) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        long stamp = negativeCache.stamp(asKey);
 
         if (bins != null && bins.length > 0) {
             fetchedRecord = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
@@ -58,14 +80,70 @@ public class AerospikeRecordServiceV1 implements AerospikeRecordService {
                     .getRecord(policy, asKey));
         }
         /* If the record doesn't exist, getRecord returns Null and does not raise an exception, we
-         * want this to be a 404
+         * want this to be a 404. A filter expression also returns Null for a record it rejected,
+         * which must not be cached as missing.
          */
         if (fetchedRecord == null) {
+            if (policy.filterExp == null) {
+                negativeCache.recordMissing(asKey, stamp);
+            }
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        binCompressor.decompress(namespace, set, fetchedRecord.bins);
+        return new RestClientRecord(fetchedRecord);
+    }
+
+    @Override
+    public RestClientRecord fetchRecord(AuthDetails authDetails, String namespace, String set, String key,
+                                        String[] bins, Map<String, Expression> computed, RecordKeyType keyType,
+                                        Policy policy) {
+        if (computed == null || computed.isEmpty()) {
+            return fetchRecord(authDetails, namespace, set, key, bins, keyType, policy);
+        }
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        if (negativeCache.isKnownMissing(asKey)) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+
+        /* Read the requested bins and evaluate the computed fields in a single operate call */
+        Operation[] reads = bins != null && bins.length > 0
+                ? Arrays.stream(bins).map(Operation::get).toArray(Operation[]::new)
+                : new Operation[]{Operation.get()};
+        Operation[] operations = OperationsConverter.withComputedFields(reads, computed);
+        long stamp = negativeCache.stamp(asKey);
+        Record fetchedRecord = circuitBreaker.run(() -> OperateHandler.create(clientPool.getClient(authDetails))
+                .operate(new WritePolicy(policy), asKey, operations));
+        if (fetchedRecord == null) {
+            /* Also returned for a record rejected by a filter expression, which is not cached as missing */
+            if (policy.filterExp == null) {
+                negativeCache.recordMissing(asKey, stamp);
+            }
             throw new RestClientErrors.RecordNotFoundError();
         }
+        binCompressor.decompress(namespace, set, fetchedRecord.bins);
         return new RestClientRecord(fetchedRecord);
     }
 
+    @Override
+    public RestClientRecordHeader fetchRecordHeader(AuthDetails authDetails, String namespace, String set, String key,
+                                                    RecordKeyType keyType, Policy policy) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        if (negativeCache.isKnownMissing(asKey)) {
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+
+        long stamp = negativeCache.stamp(asKey);
+        Record header = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+                .getRecordHeader(policy, asKey));
+        if (header == null) {
+            if (policy.filterExp == null) {
+                negativeCache.recordMissing(asKey, stamp);
+            }
+            throw new RestClientErrors.RecordNotFoundError();
+        }
+        return new RestClientRecordHeader(header);
+    }
+
     @Override
     public void deleteRecord(AuthDetails authDetails, String namespace, String set, String key,
                              RecordKeyType keyType, WritePolicy policy) {
@@ -85,20 +163,43 @@ public class AerospikeRecordServiceV1 implements AerospikeRecordService {
     public void storeRecord(AuthDetails authDetails, String namespace, String set, String key, Map<String,
             Object> binMap, RecordKeyType keyType, WritePolicy policy) {
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
-        Bin[] recordBins = BinConverter.binsFromMap(binMap);
+        Bin[] recordBins = BinConverter.binsFromMap(binMap, namespace, set, binCompressor);
+
+        /* Invalidated even on failure, a write that timed out may still have been applied */
+        try {
+            circuitBreaker.run(() -> {
+                RecordHandler.create(clientPool.getClient(authDetails))
+                        .putRecord(policy, asKey, recordBins);
+                return null;
+            });
+        } finally {
+            negativeCache.invalidate(asKey);
+        }
+    }
+
+    @Override
+    public void storeRecordAsync(AuthDetails authDetails, String namespace, String set, String key,
+                                 Map<String, Object> binMap, RecordKeyType keyType, WritePolicy policy) {
+        Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
+        Bin[] recordBins = BinConverter.binsFromMap(binMap, namespace, set, binCompressor);
 
-        circuitBreaker.run(() -> {
-            RecordHandler.create(clientPool.getClient(authDetails))
-                    .putRecord(policy, asKey, recordBins);
-            return null;
-        });
+        asyncWriteQueue.submit(authDetails, policy, asKey, recordBins);
     }
 
     @Override
     public boolean
     recordExists(AuthDetails authDetails, String namespace, String set, String key, RecordKeyType keyType) {
         Key asKey = KeyBuilder.buildKey(namespace, set, key, keyType);
-        return circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
+        if (negativeCache.isKnownMissing(asKey)) {
+            return false;
+        }
+
+        long stamp = negativeCache.stamp(asKey);
+        boolean exists = circuitBreaker.run(() -> RecordHandler.create(clientPool.getClient(authDetails))
                 .existsRecord(null, asKey));
+        if (!exists) {
+            negativeCache.recordMissing(asKey, stamp);
+        }
+        return exists;
     }
 }
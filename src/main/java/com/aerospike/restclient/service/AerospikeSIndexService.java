@@ -19,6 +19,7 @@ package com.aerospike.restclient.service;
 import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.restclient.domain.RestClientIndex;
+import com.aerospike.restclient.domain.RestClientIndexProgress;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 
 import java.util.List;
@@ -28,9 +29,11 @@ public interface AerospikeSIndexService {
 
     List<RestClientIndex> getIndexList(AuthDetails authDetails, String namespace, InfoPolicy policy);
 
-    void createIndex(AuthDetails authDetails, RestClientIndex indexModel, Policy policy);
+    boolean createIndex(AuthDetails authDetails, RestClientIndex indexModel, Policy policy, boolean wait, int waitTimeoutMillis);
 
     void dropIndex(AuthDetails authDetails, String namespace, String indexName, Policy policy);
 
     Map<String, String> indexStats(AuthDetails authDetails, String namespace, String name, InfoPolicy policy);
+
+    RestClientIndexProgress indexProgress(AuthDetails authDetails, String namespace, String name, InfoPolicy policy);
 }
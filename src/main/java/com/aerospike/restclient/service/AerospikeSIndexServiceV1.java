@@ -20,17 +20,25 @@ import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
+import com.aerospike.client.task.IndexTask;
 import com.aerospike.restclient.domain.RestClientIndex;
+import com.aerospike.restclient.domain.RestClientIndexNodeStats;
+import com.aerospike.restclient.domain.RestClientIndexProgress;
+import com.aerospike.restclient.domain.RestClientNodeInfoResponse;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.handlers.IndexHandler;
 import com.aerospike.restclient.handlers.InfoHandler;
 import com.aerospike.restclient.util.AerospikeClientPool;
 import com.aerospike.restclient.util.InfoResponseParser;
+import com.aerospike.restclient.util.RestClientErrors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,9 +47,24 @@ public class AerospikeSIndexServiceV1 implements AerospikeSIndexService {
     @Autowired
     private AerospikeClientPool clientPool;
 
+    @Autowired
+    @Qualifier("infoExecutor")
+    private ExecutorService infoExecutor;
+
+    @Value("${aerospike.restclient.index.waitTimeoutMillis:30000}")
+    private int maxWaitMillis;
+
+    @Value("${aerospike.restclient.index.pollMillis:500}")
+    private int pollMillis;
+
     /* Index Methods using index methods from client */
+
+    /*
+     * Returns true when the caller asked to wait and the index was built on every node within the timeout.
+     */
     @Override
-    public void createIndex(AuthDetails authDetails, RestClientIndex indexModel, Policy policy) {
+    public boolean createIndex(AuthDetails authDetails, RestClientIndex indexModel, Policy policy, boolean wait,
+                               int waitTimeoutMillis) {
         String indexName = indexModel.getName();
         String binName = indexModel.getBin();
         String namespace = indexModel.getNamespace();
@@ -50,11 +73,18 @@ public class AerospikeSIndexServiceV1 implements AerospikeSIndexService {
         IndexCollectionType collectionType = indexModel.getCollectionType();
 
         IndexHandler indexHandler = IndexHandler.create(clientPool.getClient(authDetails));
+        IndexTask task;
         if (collectionType == null) {
-            indexHandler.createIndex(policy, namespace, setName, indexName, binName, indexType);
+            task = indexHandler.createIndex(policy, namespace, setName, indexName, binName, indexType);
         } else {
-            indexHandler.createIndex(policy, namespace, setName, indexName, binName, indexType, collectionType);
+            task = indexHandler.createIndex(policy, namespace, setName, indexName, binName, indexType, collectionType);
+        }
+
+        if (!wait) {
+            return false;
         }
+        int timeoutMillis = waitTimeoutMillis > 0 ? Math.min(waitTimeoutMillis, maxWaitMillis) : maxWaitMillis;
+        return indexHandler.waitForIndex(task, pollMillis, timeoutMillis);
     }
 
     @Override
@@ -82,6 +112,38 @@ public class AerospikeSIndexServiceV1 implements AerospikeSIndexService {
         return InfoResponseParser.getIndexStatInfo(response);
     }
 
+    @Override
+    public RestClientIndexProgress indexProgress(AuthDetails authDetails, String namespace, String name, InfoPolicy policy) {
+        String[] requests = new String[]{"sindex/" + namespace + "/" + name};
+        RestClientNodeInfoResponse nodeInfo = InfoHandler.create(clientPool.getClient(authDetails), infoExecutor)
+                .infoRequestNodes(policy, null, requests);
+
+        RestClientIndexProgress progress = new RestClientIndexProgress(namespace, name);
+        progress.errors.putAll(nodeInfo.errors);
+        RuntimeException parseError = null;
+        for (Map.Entry<String, Map<String, String>> entry : nodeInfo.responses.entrySet()) {
+            try {
+                Map<String, String> stats = InfoResponseParser.getIndexStatInfo(entry.getValue().getOrDefault(requests[0], ""));
+                progress.nodes.put(entry.getKey(), new RestClientIndexNodeStats(stats));
+            } catch (RuntimeException e) {
+                parseError = e;
+                progress.errors.put(entry.getKey(), e.getMessage() == null ? e.toString() : e.getMessage());
+            }
+        }
+
+        /* Only fail the request when no node could report on the index */
+        if (progress.nodes.isEmpty()) {
+            if (parseError != null) {
+                throw parseError;
+            }
+            throw new RestClientErrors.ClusterUnstableError("Unable to read index statistics from any node");
+        }
+        progress.loadPct = progress.nodes.values().stream().mapToInt(stats -> stats.loadPct).min().orElse(0);
+        progress.ready = progress.errors.isEmpty() && progress.loadPct >= 100;
+
+        return progress;
+    }
+
     private String getSindexListCommand(String namespace) {
         return (namespace == null || namespace.isEmpty()) ? "sindex" : "sindex/" + namespace;
     }
@@ -17,11 +17,13 @@
 package com.aerospike.restclient.service;
 
 import com.aerospike.client.policy.ScanPolicy;
+import com.aerospike.restclient.domain.RestClientKeyRecord;
 import com.aerospike.restclient.domain.auth.AuthDetails;
 import com.aerospike.restclient.domain.scanmodels.RestClientScanResponse;
 import com.aerospike.restclient.handlers.ScanHandler;
 import com.aerospike.restclient.util.AerospikeAPIConstants;
 import com.aerospike.restclient.util.AerospikeClientPool;
+import com.aerospike.restclient.util.BinCompressor;
 import com.aerospike.restclient.util.converters.PolicyValueConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,9 @@ public class AerospikeScanServiceV1 implements AerospikeScanService {
     @Autowired
     private AerospikeClientPool clientPool;
 
+    @Autowired
+    private BinCompressor binCompressor;
+
     @Override
     public RestClientScanResponse scan(AuthDetails authDetails, String[] binNames, Map<String, String> requestParams,
                                        ScanPolicy policy, String namespace, String set) {
@@ -47,8 +52,12 @@ public class AerospikeScanServiceV1 implements AerospikeScanService {
             maxRecords = PolicyValueConverter.getLongValue(requestParams.get(AerospikeAPIConstants.MAX_RECORDS));
         }
 
-        return ScanHandler.create(clientPool.getClient(authDetails))
+        RestClientScanResponse response = ScanHandler.create(clientPool.getClient(authDetails))
                 .scanPartition(checkSendKey(policy, requestParams), namespace, set, maxRecords, fromToken, binNames);
+        for (RestClientKeyRecord record : response.getRecords()) {
+            binCompressor.decompress(namespace, set, record.bins);
+        }
+        return response;
     }
 
     private ScanPolicy checkSendKey(ScanPolicy policy, Map<String, String> requestParams) {
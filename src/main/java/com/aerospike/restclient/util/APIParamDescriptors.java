@@ -8,4 +8,7 @@ public class APIParamDescriptors {
 			+ "Value can be a String, integer, floating point number, list, map, bytearray, or GeoJSON value. Bytearrays and GeoJSON can "
 			+ "only be sent using MessagePack\n "
 			+ "example: {\"bin1\":5, \"bin2\":\"hello\", \"bin3\": [1,2,3], \"bin4\": {\"one\": 1}}";
+	public static final String COMPUTED_NOTES = "Computed field evaluated on the server and returned as an extra bin, "
+			+ "in the form name:expression. The expression is a base64url encoded filter expression string, "
+			+ "e.g. price * qty, or a base64url encoded wire expression. Repeat the parameter once per field.";
 }
@@ -27,6 +27,7 @@ public final class AerospikeAPIConstants {
 	public static final String RECORD_EXPIRATION = "expiration";
 	public static final String RECORD_TTL = "ttl";
 	public static final String JSON_PATH = "jsonPath";
+	public static final String COMPUTED = "computed";
 
 	// Entries in a JSON representation of a key
 	public static final String PRIMARY_KEY = "pk";
@@ -68,6 +69,7 @@ public final class AerospikeAPIConstants {
 	public static final String READ_MODE_SC = "readModeSC";
 	public static final String PRED_EXP = "predexp";
 	public static final String FILTER_EXP = "filterexp";
+	public static final String FILTER_EXP_BASE64 = "filterexpbase64";
 	public static final String COMPRESS = "compress";
 
 	// WRITE POLICY KEYS
@@ -97,6 +99,13 @@ public final class AerospikeAPIConstants {
 	// INFO POLICY KEYS
 	public static final String TIMEOUT = "timeout";
 
+	// INDEX CREATION KEYS
+	public static final String WAIT = "wait";
+	public static final String WAIT_TIMEOUT = "waitTimeout";
+
+	// Request headers
+	public static final String FILTER_EXP_HEADER = "X-Aerospike-Filter-Exp";
+
 	// Operation Fields
 	public static final String OPERATION_FIELD = "operation";
 	public static final String OPERATION_VALUES_FIELD = "opValues";
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientAsyncWriteStats;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.RecordHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreaker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Bounded queue of record writes that were answered with 202 before reaching the cluster.
+ * Workers drain the queue in batches and retry transient errors. A full queue refuses new writes
+ * with 503 instead of growing. Queued writes are lost if the process dies; on a normal shutdown
+ * the queue is drained first. Writes go through the same circuit breaker as synchronous requests,
+ * and a rejection by an open circuit is retried like a transient error.
+ */
+public class AsyncWriteQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncWriteQueue.class);
+    private static final long POLL_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final AerospikeClientPool clientPool;
+    private final Resilience4JCircuitBreaker circuitBreaker;
+    private final NegativeLookupCache negativeCache;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final int maxRetries;
+    private final long retryDelayMillis;
+    private final ExecutorService workers;
+    private volatile boolean stopped;
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public AsyncWriteQueue(AerospikeClientPool clientPool, Resilience4JCircuitBreaker circuitBreaker,
+                           NegativeLookupCache negativeCache, int capacity, int workerCount, int batchSize,
+                           int maxRetries, long retryDelayMillis) {
+        this.clientPool = clientPool;
+        this.circuitBreaker = circuitBreaker;
+        this.negativeCache = negativeCache;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = retryDelayMillis;
+        this.workers = Executors.newFixedThreadPool(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::drain);
+        }
+    }
+
+    /*
+     * Only writes whose outcome does not depend on the stored record are queued. A generation check, a
+     * filter expression or a create, update or replace only write could fail after the 202 is sent.
+     */
+    public static boolean isUnconditional(WritePolicy policy) {
+        return policy.generationPolicy == GenerationPolicy.NONE
+                && policy.filterExp == null
+                && (policy.recordExistsAction == RecordExistsAction.UPDATE
+                || policy.recordExistsAction == RecordExistsAction.REPLACE);
+    }
+
+    public void submit(AuthDetails authDetails, WritePolicy policy, Key key, Bin[] bins) {
+        if (!isUnconditional(policy)) {
+            throw new RestClientErrors.InvalidPolicyValueError("Conditional writes cannot be queued, "
+                    + "respond-async requires recordExistsAction UPDATE or REPLACE and no If-Match or filter");
+        }
+        if (stopped || !queue.offer(new PendingWrite(authDetails, policy, key, bins))) {
+            rejected.incrementAndGet();
+            throw new RestClientErrors.ServiceUnavailableError("Asynchronous write queue is full");
+        }
+        accepted.incrementAndGet();
+    }
+
+    public RestClientAsyncWriteStats getStats() {
+        PendingWrite oldest = queue.peek();
+        long oldestAge = oldest == null ? 0 : System.currentTimeMillis() - oldest.enqueuedAt;
+        return new RestClientAsyncWriteStats(queue.size(), capacity, oldestAge, accepted.get(), written.get(),
+                retried.get(), failed.get(), rejected.get());
+    }
+
+    public void shutdown() {
+        stopped = true;
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Timed out draining asynchronous writes on shutdown, {} writes lost", queue.size());
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (true) {
+            try {
+                PendingWrite first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (stopped) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (PendingWrite write : batch) {
+                    write(write);
+                }
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /*
+     * The key is invalidated in the negative cache once the write is done, whatever its outcome, so a miss
+     * cached by a read while the write was queued or in doubt does not outlive it.
+     */
+    private void write(PendingWrite write) throws InterruptedException {
+        try {
+            writeWithRetries(write);
+        } finally {
+            negativeCache.invalidate(write.key);
+        }
+    }
+
+    private void writeWithRetries(PendingWrite write) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                circuitBreaker.run(() -> {
+                    RecordHandler.create(clientPool.getClient(write.authDetails))
+                            .putRecord(write.policy, write.key, write.bins);
+                    return null;
+                });
+                written.incrementAndGet();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxRetries || !isTransient(e)) {
+                    failed.incrementAndGet();
+                    logger.error("Dropped asynchronous write for {}: {}", write.key, e.getMessage());
+                    return;
+                }
+                retried.incrementAndGet();
+                Thread.sleep(retryDelayMillis << attempt);
+            }
+        }
+    }
+
+    /*
+     * The circuit breaker wraps what the write throws, so the cluster error is looked up in the causes.
+     * Without one the error comes from the circuit breaker itself, open or timed out.
+     */
+    private static boolean isTransient(RuntimeException error) {
+        AerospikeException e = null;
+        for (Throwable cause = error; cause != null && e == null; cause = cause.getCause()) {
+            if (cause instanceof AerospikeException) {
+                e = (AerospikeException) cause;
+            }
+        }
+        if (e == null) {
+            return true;
+        }
+        switch (e.getResultCode()) {
+            case ResultCode.TIMEOUT:
+            case ResultCode.KEY_BUSY:
+            case ResultCode.DEVICE_OVERLOAD:
+            case ResultCode.SERVER_NOT_AVAILABLE:
+            case ResultCode.NO_MORE_CONNECTIONS:
+            case ResultCode.PARTITION_UNAVAILABLE:
+                return true;
+            default:
+                return e instanceof AerospikeException.Connection || e instanceof AerospikeException.Timeout;
+        }
+    }
+
+    private static final class PendingWrite {
+        private final AuthDetails authDetails;
+        private final WritePolicy policy;
+        private final Key key;
+        private final Bin[] bins;
+        private final long enqueuedAt = System.currentTimeMillis();
+
+        PendingWrite(AuthDetails authDetails, WritePolicy policy, Key key, Bin[] bins) {
+            this.authDetails = authDetails;
+            this.policy = policy;
+            this.key = key;
+            this.bins = bins;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Value;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.restclient.domain.RestClientCompressionStats;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/*
+ * Compresses large string and blob bins written to the configured sets, so they take less device and
+ * memory space on the cluster. A compressed value is stored as a blob starting with a tag that holds
+ * the codec, the original type and length. Reads of the configured sets decompress tagged blobs, so
+ * compressed and plain values can live side by side. Values in other sets are returned as stored.
+ */
+public class BinCompressor {
+
+    private static final byte[] TAG = {0, 'A', 'S', 'Z'};
+    private static final int HEADER_SIZE = TAG.length + 6;
+    private static final byte BLOB = 0;
+    private static final byte STRING = 1;
+
+    public enum Codec {
+        DEFLATE(1, false),
+        ZLIB(2, true);
+
+        private final byte id;
+        private final boolean wrapped;
+
+        Codec(int id, boolean wrapped) {
+            this.id = (byte) id;
+            this.wrapped = wrapped;
+        }
+
+        static Codec fromId(byte id) {
+            for (Codec codec : values()) {
+                if (codec.id == id) {
+                    return codec;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Set<String> sets;
+    private final int minBytes;
+    private final Codec codec;
+    private final int level;
+
+    private final LongAdder compressedValues = new LongAdder();
+    private final LongAdder skippedValues = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder compressNanos = new LongAdder();
+    private final LongAdder decompressedValues = new LongAdder();
+    private final LongAdder decompressNanos = new LongAdder();
+
+    public BinCompressor(String sets, int minBytes, String codec, int level) {
+        this.sets = sets == null ? Collections.emptySet() : Arrays.stream(sets.split(","))
+                .map(String::trim)
+                .filter(set -> !set.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+        this.minBytes = minBytes;
+        try {
+            this.codec = Codec.valueOf(codec.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(String.format("Unsupported compression codec: %s", codec));
+        }
+        this.level = level;
+    }
+
+    public boolean isEnabled(String namespace, String set) {
+        return sets.contains(set == null ? namespace : namespace + "." + set);
+    }
+
+    /* Replace large string and blob bins with their compressed form, if that is smaller */
+    public Bin[] compress(String namespace, String set, Bin[] bins) {
+        if (!isEnabled(namespace, set)) {
+            return bins;
+        }
+        Bin[] result = bins;
+        for (int i = 0; i < bins.length; i++) {
+            Value value = bins[i].value;
+            byte[] plain;
+            byte type;
+            if (value.getType() == ParticleType.STRING) {
+                plain = ((String) value.getObject()).getBytes(StandardCharsets.UTF_8);
+                type = STRING;
+            } else if (value.getType() == ParticleType.BLOB && value.getObject() instanceof byte[]) {
+                plain = (byte[]) value.getObject();
+                type = BLOB;
+            } else {
+                continue;
+            }
+            if (plain.length < minBytes || plain.length <= HEADER_SIZE) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            byte[] packed = pack(plain, type);
+            compressNanos.add(System.nanoTime() - start);
+            if (packed == null) {
+                skippedValues.increment();
+                continue;
+            }
+            compressedValues.increment();
+            bytesIn.add(plain.length);
+            bytesOut.add(packed.length);
+            if (result == bins) {
+                result = bins.clone();
+            }
+            result[i] = new Bin(bins[i].name, packed);
+        }
+        return result;
+    }
+
+    /*
+     * Decompress tagged values of a record in the configured sets in place. Values that do not carry a
+     * valid tag are left untouched, as are the records of other sets.
+     */
+    public Map<String, Object> decompress(String namespace, String set, Map<String, Object> bins) {
+        if (bins == null || !isEnabled(namespace, set)) {
+            return bins;
+        }
+        for (Map.Entry<String, Object> entry : bins.entrySet()) {
+            if (entry.getValue() instanceof byte[] && isTagged((byte[]) entry.getValue())) {
+                long start = System.nanoTime();
+                Object plain = unpack((byte[]) entry.getValue());
+                if (plain != null) {
+                    entry.setValue(plain);
+                    decompressedValues.increment();
+                    decompressNanos.add(System.nanoTime() - start);
+                }
+            }
+        }
+        return bins;
+    }
+
+    public RestClientCompressionStats getStats() {
+        return new RestClientCompressionStats(sets, codec.name(), minBytes, compressedValues.sum(),
+                skippedValues.sum(), bytesIn.sum(), bytesOut.sum(), compressNanos.sum(), decompressedValues.sum(),
+                decompressNanos.sum());
+    }
+
+    /* Returns null when the compressed value would not be smaller than the original */
+    private byte[] pack(byte[] plain, byte type) {
+        Deflater deflater = new Deflater(level, !codec.wrapped);
+        try {
+            deflater.setInput(plain);
+            deflater.finish();
+            byte[] buffer = new byte[plain.length - HEADER_SIZE];
+            int length = 0;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            if (!deflater.finished()) {
+                return null;
+            }
+            return ByteBuffer.allocate(HEADER_SIZE + length)
+                    .put(TAG)
+                    .put(codec.id)
+                    .put(type)
+                    .putInt(plain.length)
+                    .put(buffer, 0, length)
+                    .array();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static boolean isTagged(byte[] value) {
+        if (value.length < HEADER_SIZE) {
+            return false;
+        }
+        for (int i = 0; i < TAG.length; i++) {
+            if (value[i] != TAG[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object unpack(byte[] packed) {
+        ByteBuffer header = ByteBuffer.wrap(packed, TAG.length, HEADER_SIZE - TAG.length);
+        Codec codec = Codec.fromId(header.get());
+        byte type = header.get();
+        int length = header.getInt();
+        if (codec == null || length < 0 || (type != BLOB && type != STRING)) {
+            return null;
+        }
+
+        Inflater inflater = new Inflater(!codec.wrapped);
+        try {
+            inflater.setInput(packed, HEADER_SIZE, packed.length - HEADER_SIZE);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+            byte[] buffer = new byte[Math.min(Math.max(length, 1), 65536)];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    return null;
+                }
+                out.write(buffer, 0, count);
+            }
+            if (out.size() != length) {
+                return null;
+            }
+            return type == STRING ? new String(out.toByteArray(), StandardCharsets.UTF_8) : out.toByteArray();
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+}
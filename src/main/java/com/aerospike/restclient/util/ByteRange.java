@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * A single range of a Range: bytes= request header. Either first or last may be absent:
+ * "bytes=10-" has no last position and "bytes=-10" is a suffix of the last 10 bytes.
+ */
+public final class ByteRange {
+
+    private static final Pattern RANGE_PATTERN = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    public final Long first;
+    public final Long last;
+
+    private ByteRange(Long first, Long last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /* Returns null when there is no range, or a multi-range request which is served in full */
+    public static ByteRange parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        Matcher matcher = RANGE_PATTERN.matcher(header.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            Long first = matcher.group(1).isEmpty() ? null : Long.parseLong(matcher.group(1));
+            Long last = matcher.group(2).isEmpty() ? null : Long.parseLong(matcher.group(2));
+            if (first != null && last != null && last < first) {
+                return null;
+            }
+            return new ByteRange(first, last);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /* The range can be read without knowing the total length */
+    public boolean isBounded() {
+        return first != null && last != null;
+    }
+
+    public long getStart(long totalLength) {
+        return first != null ? first : Math.max(0, totalLength - last);
+    }
+
+    public long getEnd(long totalLength) {
+        return first != null && last != null ? Math.min(last, totalLength - 1) : totalLength - 1;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.restclient.handlers.ClusterHandler;
+import com.aerospike.restclient.handlers.InfoHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Snapshot of the cluster nodes, namespaces, sets and secondary indexes, refreshed in the background with
+ * the default client so that polling /v1/cluster does not send info requests to the cluster.
+ * Without a default client, or when the snapshot is older than the stale limit, the next request refreshes
+ * it with the caller's client. If that fails, the old snapshot is returned and marked stale.
+ */
+public class ClusterMetadataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterMetadataCache.class);
+
+    private final AerospikeClientPool clientPool;
+    private final ExecutorService infoExecutor;
+    private final long refreshMillis;
+    private final long staleMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Object refreshLock = new Object();
+    private volatile Snapshot snapshot;
+
+    public ClusterMetadataCache(AerospikeClientPool clientPool, ExecutorService infoExecutor, long refreshMillis,
+                                long staleMillis) {
+        this.clientPool = clientPool;
+        this.infoExecutor = infoExecutor;
+        this.refreshMillis = refreshMillis;
+        this.staleMillis = staleMillis;
+        if (refreshMillis > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor();
+            scheduler.scheduleWithFixedDelay(this::refreshInBackground, 0, refreshMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public Map<String, Object> getClusterInfo(AerospikeClient client) {
+        if (refreshMillis <= 0) {
+            return gather(client).toMap(false);
+        }
+
+        Snapshot current = snapshot;
+        if (current != null && current.age() <= staleMillis) {
+            return current.toMap(false);
+        }
+
+        synchronized (refreshLock) {
+            current = snapshot;
+            if (current != null && current.age() <= staleMillis) {
+                return current.toMap(false);
+            }
+            try {
+                current = gather(client);
+                snapshot = current;
+                return current.toMap(false);
+            } catch (RuntimeException e) {
+                if (current == null) {
+                    throw e;
+                }
+                logger.warn("Cluster metadata refresh failed, returning a stale snapshot: {}", e.getMessage());
+                return current.toMap(true);
+            }
+        }
+    }
+
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void refreshInBackground() {
+        AerospikeClient client;
+        try {
+            client = clientPool.getClient();
+        } catch (RestClientErrors.UnauthorizedError e) {
+            return;
+        }
+        try {
+            Snapshot refreshed = gather(client);
+            synchronized (refreshLock) {
+                snapshot = refreshed;
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Cluster metadata refresh failed: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot gather(AerospikeClient client) {
+        List<Map<String, Object>> nodes = ClusterHandler.create(client).getNodeMaps();
+        List<Map<String, Object>> namespaces = InfoHandler.create(client, infoExecutor).getNamespaceInfoMaps();
+        return new Snapshot(nodes, namespaces, System.currentTimeMillis());
+    }
+
+    private class Snapshot {
+        private final List<Map<String, Object>> nodes;
+        private final List<Map<String, Object>> namespaces;
+        private final long refreshedAt;
+
+        Snapshot(List<Map<String, Object>> nodes, List<Map<String, Object>> namespaces, long refreshedAt) {
+            this.nodes = nodes;
+            this.namespaces = namespaces;
+            this.refreshedAt = refreshedAt;
+        }
+
+        long age() {
+            return System.currentTimeMillis() - refreshedAt;
+        }
+
+        Map<String, Object> toMap(boolean refreshFailed) {
+            long age = age();
+            Map<String, Object> snapshotInfo = new HashMap<>();
+            snapshotInfo.put("refreshedAt", refreshedAt);
+            snapshotInfo.put("ageMillis", age);
+            snapshotInfo.put("stale", refreshFailed || age > staleMillis);
+
+            Map<String, Object> clusterInfo = new HashMap<>();
+            clusterInfo.put("nodes", nodes);
+            clusterInfo.put("namespaces", namespaces);
+            clusterInfo.put("snapshot", snapshotInfo);
+            return clusterInfo;
+        }
+    }
+}
@@ -16,13 +16,31 @@
  */
 package com.aerospike.restclient.util;
 
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.domain.auth.AuthDetails;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import javax.servlet.http.HttpServletResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 
 public final class HeaderHandler {
 
+    public static final MediaType MSGPACK = new MediaType("application", "msgpack");
+    public static final String PREFER = "Prefer";
+    public static final String PREFERENCE_APPLIED = "Preference-Applied";
+    public static final String RESPOND_ASYNC = "respond-async";
+    public static final String ACCEPTED_ATTRIBUTE = HeaderHandler.class.getName() + ".ACCEPTED";
+
     private HeaderHandler() {
     }
 
@@ -42,4 +60,105 @@ public final class HeaderHandler {
             throw new RestClientErrors.UnauthorizedError();
         }
     }
+
+    /* Whether the Accept header explicitly asks for MessagePack */
+    public static boolean acceptsMsgPack(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream().anyMatch(MSGPACK::includes);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /* The record generation is used as the entity tag of a record */
+    public static String generationETag(int generation) {
+        return "\"" + generation + "\"";
+    }
+
+    /*
+     * The entity tag of one representation of a record. A response holding a selection of the record, or
+     * MessagePack instead of JSON, appends a hash of the selection and media type to the generation, so
+     * every byte-exact representation has its own strong tag. If-Match only compares the generation.
+     */
+    public static String generationETag(int generation, String selection, String accept) {
+        String variant = acceptsMsgPack(accept) ? "msgpack&" + selection : selection;
+        if (variant.isEmpty()) {
+            return generationETag(generation);
+        }
+        return "\"" + generation + "-" + Integer.toHexString(variant.hashCode()) + "\"";
+    }
+
+    public static String weakGenerationETag(int generation, String selection, String accept) {
+        return "W/" + generationETag(generation, selection, accept);
+    }
+
+    /* Set the ETag and let caches keep the record until it expires. The body depends on the Accept header */
+    public static void setRecordCacheHeaders(HttpServletResponse response, String eTag, int ttl) {
+        response.setHeader(HttpHeaders.ETAG, eTag);
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        CacheControl cacheControl = ttl > 0 ? CacheControl.maxAge(ttl, TimeUnit.SECONDS) : CacheControl.noCache();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+    }
+
+    /* The request being handled on this thread, or null outside of a servlet request */
+    public static ServletWebRequest currentWebRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        ServletRequestAttributes servletAttributes = (ServletRequestAttributes) attributes;
+        return new ServletWebRequest(servletAttributes.getRequest(), servletAttributes.getResponse());
+    }
+
+    /* Whether a Prefer header asks for respond-async, RFC 7240 */
+    public static boolean prefersRespondAsync(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        return Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";")[0].trim())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+
+    /* Mark the current request as accepted for later processing, answered with 202 */
+    public static void markAccepted() {
+        ServletWebRequest webRequest = currentWebRequest();
+        if (webRequest != null) {
+            webRequest.setAttribute(ACCEPTED_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /*
+     * Map an If-Match header holding a generation ETag onto an expected generation write. The tag of any
+     * representation of the record matches, since only its generation is compared. If-Match uses the
+     * strong comparison of RFC 7232, so a weak ETag never matches.
+     */
+    public static void applyIfMatch(WritePolicy policy, String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            throw new RestClientErrors.PreconditionFailedError(
+                    String.format("If-Match does not match a weak entity tag: %s", ifMatch));
+        }
+        if (tag.length() > 1 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        int variant = tag.indexOf('-');
+        if (variant > 0) {
+            tag = tag.substring(0, variant);
+        }
+        try {
+            policy.generation = Integer.parseInt(tag);
+        } catch (NumberFormatException e) {
+            throw new RestClientErrors.PreconditionFailedError(String.format("If-Match does not match: %s", ifMatch));
+        }
+        policy.generationPolicy = GenerationPolicy.EXPECT_GEN_EQUAL;
+    }
 }
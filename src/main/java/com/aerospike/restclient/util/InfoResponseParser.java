@@ -75,6 +75,34 @@ public class InfoResponseParser {
 		return matches;
 	}
 
+	/* Convert a "sets/<ns>" response "ns=test:set=s1:objects=3:...;ns=test:set=s2:objects=0:..." into {s1: 3, s2: 0} */
+	public static Map<String, Long> getSetObjectCounts(String response) {
+		Map<String, Long> counts = new HashMap<>();
+		for (String setInfo : response.trim().split(";")) {
+			String set = null;
+			long objects = 0;
+			for (String kvPair : setInfo.split(":")) {
+				int eq = kvPair.indexOf('=');
+				if (eq < 0) {
+					continue;
+				}
+				String name = kvPair.substring(0, eq);
+				if (name.equals("set") || name.equals("set_name")) {
+					set = kvPair.substring(eq + 1);
+				} else if (name.equals("objects") || name.equals("n_objects")) {
+					try {
+						objects = Long.parseLong(kvPair.substring(eq + 1));
+					} catch (NumberFormatException ignore) {
+					}
+				}
+			}
+			if (set != null) {
+				counts.put(set, objects);
+			}
+		}
+		return counts;
+	}
+
 	public static int getNamespaceCountFromResponse(String response) {
 		return InfoResponseParser.getNamespacesFromResponse(response).length;
 	}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util;
+
+import com.aerospike.client.Key;
+import com.aerospike.restclient.domain.RestClientNegativeCacheStats;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/*
+ * Remembers keys that were recently read and not found, so repeated lookups of missing records in the
+ * configured sets are answered without a round trip to the cluster. Writes through this instance
+ * invalidate their keys, writes through other clients are only seen once an entry expires.
+ *
+ * A read takes a stamp before going to the cluster and records its miss against that stamp. Every
+ * invalidation bumps the stamp of its key's stripe, so a miss observed before a concurrent write
+ * was invalidated is discarded rather than cached.
+ */
+public class NegativeLookupCache {
+
+    private static final int STAMP_STRIPES = 256;
+
+    private final Set<String> sets;
+    private final Cache<Key, Long> missingKeys;
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+
+    public NegativeLookupCache(String sets, long ttlMillis, long maxSize) {
+        this.sets = sets == null ? Collections.emptySet() : Arrays.stream(sets.split(","))
+                .map(String::trim)
+                .filter(set -> !set.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+        this.missingKeys = CacheBuilder.newBuilder()
+                .expireAfterWrite(ttlMillis, TimeUnit.MILLISECONDS)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return !sets.isEmpty();
+    }
+
+    public boolean isKnownMissing(Key key) {
+        return isCached(key) && missingKeys.getIfPresent(key) != null;
+    }
+
+    /* Taken before a lookup, and passed to recordMissing if the lookup finds nothing */
+    public long stamp(Key key) {
+        return stamps.get(stripe(key));
+    }
+
+    public void recordMissing(Key key, long stamp) {
+        if (!isCached(key) || stamps.get(stripe(key)) != stamp) {
+            return;
+        }
+        Long value = stamp;
+        missingKeys.put(key, value);
+        /* An invalidation may have run between the check and the put */
+        if (stamps.get(stripe(key)) != stamp) {
+            missingKeys.asMap().remove(key, value);
+        }
+    }
+
+    public void invalidate(Key key) {
+        if (isCached(key)) {
+            stamps.incrementAndGet(stripe(key));
+            missingKeys.invalidate(key);
+        }
+    }
+
+    public void invalidateSet(String namespace, String set) {
+        if (isEnabled() && sets.contains(setName(namespace, set))) {
+            for (int i = 0; i < STAMP_STRIPES; i++) {
+                stamps.incrementAndGet(i);
+            }
+            missingKeys.asMap().keySet()
+                    .removeIf(key -> key.namespace.equals(namespace) && Objects.equals(key.setName, set));
+        }
+    }
+
+    public RestClientNegativeCacheStats getStats() {
+        return new RestClientNegativeCacheStats(sets, missingKeys.size(), missingKeys.stats());
+    }
+
+    private boolean isCached(Key key) {
+        return isEnabled() && sets.contains(setName(key.namespace, key.setName));
+    }
+
+    private static int stripe(Key key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+
+    private static String setName(String namespace, String set) {
+        return set == null ? namespace : namespace + "." + set;
+    }
+}
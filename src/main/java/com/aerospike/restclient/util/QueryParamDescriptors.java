@@ -52,6 +52,10 @@ public class QueryParamDescriptors {
     public static final String POLICY_FILTER_EXP_NOTES = "Optional Filter Expression (introduced in Aerospike Database 5.2.0) " +
             "in infix notation DSL.";
 
+    public static final String POLICY_FILTER_EXP_BASE64_NOTES = "Optional prebuilt Filter Expression in the base64 wire format " +
+            "produced by an Aerospike client (Exp.build(...).getBase64()). It is attached to the policy without parsing " +
+            "and takes precedence over filterexp. May also be sent using the X-Aerospike-Filter-Exp header.";
+
     public static final String POLICY_COMPRESS_NOTES = "Use zlib compression on command buffers sent to the server and responses received " +
             "from the server when the buffer size is greater than 128 bytes.";
 
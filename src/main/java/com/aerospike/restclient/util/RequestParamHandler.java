@@ -16,6 +16,7 @@
  */
 package com.aerospike.restclient.util;
 
+import com.aerospike.client.exp.Expression;
 import com.aerospike.client.policy.BatchPolicy;
 import com.aerospike.client.policy.InfoPolicy;
 import com.aerospike.client.policy.Policy;
@@ -23,6 +24,7 @@ import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.ScanPolicy;
 import com.aerospike.client.policy.WritePolicy;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
+import com.aerospike.restclient.util.converters.PolicyValueConverter;
 import com.aerospike.restclient.util.converters.policyconverters.BatchPolicyConverter;
 import com.aerospike.restclient.util.converters.policyconverters.InfoPolicyConverter;
 import com.aerospike.restclient.util.converters.policyconverters.PolicyConverter;
@@ -30,6 +32,7 @@ import com.aerospike.restclient.util.converters.policyconverters.ScanPolicyConve
 import com.aerospike.restclient.util.converters.policyconverters.WritePolicyConverter;
 import org.springframework.util.MultiValueMap;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -58,6 +61,36 @@ public final class RequestParamHandler {
         return requestParams.getFirst(AerospikeAPIConstants.JSON_PATH);
     }
 
+    /* The parameters selecting what a read returns, empty for the whole record */
+    public static String getSelectionFromMap(MultiValueMap<String, String> requestParams) {
+        StringBuilder selection = new StringBuilder();
+        for (String name : new String[]{AerospikeAPIConstants.RECORD_BINS, AerospikeAPIConstants.COMPUTED,
+                AerospikeAPIConstants.JSON_PATH}) {
+            List<String> values = requestParams.get(name);
+            if (values != null) {
+                selection.append(name).append('=').append(String.join(",", values)).append('&');
+            }
+        }
+        return selection.toString();
+    }
+
+    public static Map<String, Expression> getComputedFromMap(MultiValueMap<String, String> requestParams) {
+        List<String> fields = requestParams.get(AerospikeAPIConstants.COMPUTED);
+        Map<String, Expression> computed = new LinkedHashMap<>();
+        if (fields == null) {
+            return computed;
+        }
+        for (String field : fields) {
+            int sep = field.indexOf(':');
+            if (sep < 1 || sep == field.length() - 1) {
+                throw new RestClientErrors.InvalidPolicyValueError(
+                        String.format("Invalid computed field, expected name:expression: %s", field));
+            }
+            computed.put(field.substring(0, sep), PolicyValueConverter.getFilterExp(field.substring(sep + 1)));
+        }
+        return computed;
+    }
+
     public static RecordKeyType getKeyTypeFromMap(MultiValueMap<String, String> requestParams) {
         String keyTypeStr = requestParams.getFirst(AerospikeAPIConstants.KEY_TYPE);
         if (keyTypeStr == null) {
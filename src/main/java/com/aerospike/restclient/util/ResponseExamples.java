@@ -78,9 +78,16 @@ public final class ResponseExamples {
             "               \"name\": \"otherset\"\n" +
             "            }\n" +
             "         ],\n" +
+            "         \"replicationFactor\": 1,\n" +
+            "         \"sindexes\": [],\n" +
             "         \"name\": \"test\"\n" +
             "      }\n" +
-            "   ]\n" +
+            "   ],\n" +
+            "   \"snapshot\": {\n" +
+            "      \"refreshedAt\": 1666094400000,\n" +
+            "      \"ageMillis\": 1250,\n" +
+            "      \"stale\": false\n" +
+            "   }\n" +
             "}";
 
     // document api
@@ -103,8 +110,35 @@ public final class ResponseExamples {
     // info
     public static final String SUCCESS_INFO_NAME = "Info response example";
     public static final String SUCCESS_INFO_VALUE = "{\"edition\": \"Aerospike Enterprise Edition\", \"name\":\"BB9DE9B1B270008\"}";
+    public static final String SUCCESS_INFO_NODES_NAME = "Info response from several nodes example";
+    public static final String SUCCESS_INFO_NODES_VALUE = "{\n" +
+            "   \"responses\": {\n" +
+            "      \"BB9DE9B1B270008\": {\"edition\": \"Aerospike Enterprise Edition\"}\n" +
+            "   },\n" +
+            "   \"errors\": {\n" +
+            "      \"BB9DE9B1B270009\": \"Timed out after 1000 ms\"\n" +
+            "   }\n" +
+            "}";
 
     // secondary indexes
+    public static final String SINDEX_PROGRESS_NAME = "Secondary index progress response example";
+    public static final String SINDEX_PROGRESS_VALUE = "{\n" +
+            "   \"namespace\": \"test\",\n" +
+            "   \"name\": \"ageIndex\",\n" +
+            "   \"ready\": false,\n" +
+            "   \"loadPct\": 65,\n" +
+            "   \"nodes\": {\n" +
+            "      \"BB9020011AC4202\": {\n" +
+            "         \"loadPct\": 65,\n" +
+            "         \"entries\": 78000,\n" +
+            "         \"memoryUsed\": 12582912,\n" +
+            "         \"queries\": 0,\n" +
+            "         \"queryErrors\": 0,\n" +
+            "         \"stats\": {\"load_pct\": \"65\", \"entries\": \"78000\", \"memory_used\": \"12582912\"}\n" +
+            "      }\n" +
+            "   },\n" +
+            "   \"errors\": {}\n" +
+            "}";
     public static final String SINDEX_STATS_NAME = "Secondary index response example";
     public static final String SINDEX_STATS_VALUE = "{\n" +
             "   \"loadtime\": 0,\n" +
@@ -148,6 +148,12 @@ public class RestClientErrors {
 			super(reason);
 			this.message = reason;
 		}
+
+		/* Missing records are an expected outcome, skip capturing the stack trace on the hot 404 path */
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
 	}
 
 	public static class InvalidDateFormat extends AerospikeRestClientError {
@@ -184,4 +190,72 @@ public class RestClientErrors {
 		}
 	}
 
+	public static class MalformedBodyError extends AerospikeRestClientError {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.BAD_REQUEST;
+		}
+
+		public MalformedBodyError() {
+			this("Unable to read request body");
+		}
+
+		public MalformedBodyError(String message) {
+			super(message);
+		}
+	}
+
+	public static class PreconditionFailedError extends AerospikeRestClientError {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.PRECONDITION_FAILED;
+		}
+
+		public PreconditionFailedError() {
+			this("Precondition failed");
+		}
+
+		public PreconditionFailedError(String message) {
+			super(message);
+		}
+	}
+
+	public static class PayloadTooLargeError extends AerospikeRestClientError {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.PAYLOAD_TOO_LARGE;
+		}
+
+		public PayloadTooLargeError() {
+			this("Request body too large");
+		}
+
+		public PayloadTooLargeError(String message) {
+			super(message);
+		}
+	}
+
+	public static class ServiceUnavailableError extends AerospikeRestClientError {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public HttpStatus getStatusCode() {
+			return HttpStatus.SERVICE_UNAVAILABLE;
+		}
+
+		public ServiceUnavailableError() {
+			this("Service unavailable");
+		}
+
+		public ServiceUnavailableError(String message) {
+			super(message);
+		}
+	}
+
 }
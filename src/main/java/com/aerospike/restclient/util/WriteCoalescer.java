@@ -0,0 +1,341 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.policy.CommitLevel;
+import com.aerospike.client.policy.GenerationPolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.aerospike.restclient.domain.RestClientCoalescerStats;
+import com.aerospike.restclient.domain.auth.AuthDetails;
+import com.aerospike.restclient.handlers.OperateHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/*
+ * Merges ADD operations on the same record of the configured sets that arrive within a short window,
+ * and writes them as one operate call per record. Coalesced increments are acknowledged before they
+ * reach the cluster, so at most one window of increments is lost if this instance dies. Pending
+ * increments are written on shutdown.
+ *
+ * Only requests with the same write policy settings are merged. Merged writes waiting for or being
+ * written to the cluster are bounded by maxQueued; once reached, new records are not coalesced and
+ * their increments are written by the caller. Transient errors are retried unless the outcome of the
+ * failed attempt is in doubt, and increments that still fail are counted as failed.
+ */
+public class WriteCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteCoalescer.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final AerospikeClientPool clientPool;
+    private final Set<String> sets;
+    private final long windowMillis;
+    private final int maxPending;
+    private final int maxQueued;
+    private final int maxRetries;
+    private final long retryDelayMillis;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService flushExecutor;
+
+    private Map<PendingKey, PendingWrite> pending = new HashMap<>();
+    private int queued;
+    private boolean stopped;
+
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong bypassed = new AtomicLong();
+
+    public WriteCoalescer(AerospikeClientPool clientPool, String sets, long windowMillis, int maxPending,
+                          int maxQueued, int concurrency, int maxRetries, long retryDelayMillis) {
+        this.clientPool = clientPool;
+        this.sets = sets == null ? Collections.emptySet() : Arrays.stream(sets.split(","))
+                .map(String::trim)
+                .filter(set -> !set.isEmpty())
+                .collect(Collectors.toCollection(HashSet::new));
+        this.windowMillis = windowMillis;
+        this.maxPending = maxPending;
+        this.maxQueued = maxQueued;
+        this.maxRetries = maxRetries;
+        this.retryDelayMillis = retryDelayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor();
+        /* add() keeps pending and queued writes within maxQueued, so the queue never overflows */
+        this.flushExecutor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxQueued), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public boolean isEnabled() {
+        return !sets.isEmpty();
+    }
+
+    /*
+     * Queue the increments of an operate call made only of integer or float ADD operations.
+     * Returns false if the call is not eligible and has to be sent to the cluster as is.
+     */
+    public boolean add(AuthDetails authDetails, WritePolicy policy, Key key, Operation[] operations) {
+        if (!isCoalesced(key) || !isPlainWrite(policy) || !isIncrementOnly(operations)) {
+            return false;
+        }
+
+        boolean schedule = false;
+        boolean flushNow;
+        synchronized (this) {
+            if (stopped) {
+                return false;
+            }
+            PendingKey pendingKey = new PendingKey(authDetails, policy, key);
+            PendingWrite write = pending.get(pendingKey);
+            if (write == null) {
+                if (pending.size() + queued >= maxQueued) {
+                    bypassed.incrementAndGet();
+                    return false;
+                }
+                write = new PendingWrite(authDetails, policy, key);
+                pending.put(pendingKey, write);
+                schedule = pending.size() == 1;
+            } else if (!write.accepts(operations)) {
+                return false;
+            }
+            write.merge(operations);
+            coalesced.incrementAndGet();
+            flushNow = pending.size() >= maxPending;
+        }
+
+        if (flushNow) {
+            scheduler.execute(this::flush);
+        } else if (schedule) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    public void flush() {
+        Map<PendingKey, PendingWrite> writes;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            writes = pending;
+            pending = new HashMap<>();
+            queued += writes.size();
+        }
+        for (PendingWrite entry : writes.values()) {
+            flushExecutor.execute(() -> write(entry));
+        }
+    }
+
+    public RestClientCoalescerStats getStats() {
+        int pendingCount;
+        int queuedCount;
+        synchronized (this) {
+            pendingCount = pending.size();
+            queuedCount = queued;
+        }
+        return new RestClientCoalescerStats(pendingCount, queuedCount, maxQueued, coalesced.get(), written.get(),
+                retried.get(), failed.get(), bypassed.get());
+    }
+
+    public void shutdown() {
+        synchronized (this) {
+            stopped = true;
+        }
+        scheduler.shutdownNow();
+        flush();
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warn("Timed out writing coalesced increments on shutdown");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write(PendingWrite write) {
+        try {
+            for (int attempt = 0; ; attempt++) {
+                try {
+                    OperateHandler.create(clientPool.getClient(write.authDetails))
+                            .operate(write.policy, write.key, write.toOperations());
+                    written.incrementAndGet();
+                    return;
+                } catch (AerospikeException e) {
+                    /* Repeating an increment that may have been applied would count it twice */
+                    if (attempt >= maxRetries || e.getInDoubt() || !isTransient(e)) {
+                        failed.incrementAndGet();
+                        logger.error("Failed to write coalesced increments for {}: {}", write.key, e.getMessage());
+                        return;
+                    }
+                    retried.incrementAndGet();
+                    Thread.sleep(retryDelayMillis << attempt);
+                }
+            }
+        } catch (InterruptedException e) {
+            failed.incrementAndGet();
+            logger.error("Interrupted writing coalesced increments for {}", write.key);
+            Thread.currentThread().interrupt();
+        } finally {
+            synchronized (this) {
+                queued--;
+            }
+        }
+    }
+
+    private static boolean isTransient(AerospikeException e) {
+        switch (e.getResultCode()) {
+            case ResultCode.TIMEOUT:
+            case ResultCode.KEY_BUSY:
+            case ResultCode.DEVICE_OVERLOAD:
+            case ResultCode.SERVER_NOT_AVAILABLE:
+            case ResultCode.NO_MORE_CONNECTIONS:
+            case ResultCode.PARTITION_UNAVAILABLE:
+                return true;
+            default:
+                return e instanceof AerospikeException.Connection || e instanceof AerospikeException.Timeout;
+        }
+    }
+
+    private boolean isCoalesced(Key key) {
+        return isEnabled() && sets.contains(key.setName == null ? key.namespace : key.namespace + "." + key.setName);
+    }
+
+    /* Conditional writes depend on the record state at the time of the request and are never merged */
+    private static boolean isPlainWrite(WritePolicy policy) {
+        return policy.generationPolicy == GenerationPolicy.NONE
+                && policy.recordExistsAction == RecordExistsAction.UPDATE
+                && policy.filterExp == null;
+    }
+
+    private static boolean isIncrementOnly(Operation[] operations) {
+        return operations.length > 0 && Arrays.stream(operations).allMatch(op -> op.type == Operation.Type.ADD
+                && (op.value.getType() == ParticleType.INTEGER || op.value.getType() == ParticleType.DOUBLE));
+    }
+
+    /* Requests are merged per record, credentials and the policy settings that change the stored record */
+    private static final class PendingKey {
+        private final Key key;
+        private final String user;
+        private final String password;
+        private final int expiration;
+        private final boolean sendKey;
+        private final boolean durableDelete;
+        private final CommitLevel commitLevel;
+
+        PendingKey(AuthDetails authDetails, WritePolicy policy, Key key) {
+            this.key = key;
+            this.user = authDetails == null ? null : authDetails.getUser();
+            this.password = authDetails == null ? null : authDetails.getPassword();
+            this.expiration = policy.expiration;
+            this.sendKey = policy.sendKey;
+            this.durableDelete = policy.durableDelete;
+            this.commitLevel = policy.commitLevel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PendingKey)) {
+                return false;
+            }
+            PendingKey other = (PendingKey) o;
+            return key.equals(other.key) && Objects.equals(user, other.user)
+                    && Objects.equals(password, other.password) && expiration == other.expiration
+                    && sendKey == other.sendKey && durableDelete == other.durableDelete
+                    && commitLevel == other.commitLevel;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(key, user, password, expiration, sendKey, durableDelete, commitLevel);
+        }
+    }
+
+    /* Summed increments per bin, integer and float bins are kept apart as the server requires */
+    private static final class PendingWrite {
+        private final AuthDetails authDetails;
+        private final WritePolicy policy;
+        private final Key key;
+        private final Map<String, Number> increments = new LinkedHashMap<>();
+
+        PendingWrite(AuthDetails authDetails, WritePolicy policy, Key key) {
+            this.authDetails = authDetails;
+            this.policy = policy;
+            this.key = key;
+        }
+
+        boolean accepts(Operation[] operations) {
+            for (Operation op : operations) {
+                Number current = increments.get(op.binName);
+                if (current != null && (current instanceof Double) != isFloat(op)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void merge(Operation[] operations) {
+            for (Operation op : operations) {
+                if (isFloat(op)) {
+                    increments.merge(op.binName, ((Number) op.value.getObject()).doubleValue(),
+                            (a, b) -> a.doubleValue() + b.doubleValue());
+                } else {
+                    increments.merge(op.binName, ((Number) op.value.getObject()).longValue(),
+                            (a, b) -> a.longValue() + b.longValue());
+                }
+            }
+        }
+
+        Operation[] toOperations() {
+            return increments.entrySet().stream()
+                    .map(entry -> Operation.add(entry.getValue() instanceof Double
+                            ? new Bin(entry.getKey(), entry.getValue().doubleValue())
+                            : new Bin(entry.getKey(), entry.getValue().longValue())))
+                    .toArray(Operation[]::new);
+        }
+
+        private static boolean isFloat(Operation op) {
+            return op.value.getType() == ParticleType.DOUBLE;
+        }
+    }
+}
@@ -91,6 +91,11 @@ import java.lang.annotation.Target;
                 description = QueryParamDescriptors.POLICY_FILTER_EXP_NOTES,
                 schema = @Schema(type = "string"),
                 in = ParameterIn.QUERY),
+        @Parameter(
+                name = AerospikeAPIConstants.FILTER_EXP_BASE64,
+                description = QueryParamDescriptors.POLICY_FILTER_EXP_BASE64_NOTES,
+                schema = @Schema(type = "string"),
+                in = ParameterIn.QUERY),
         @Parameter(
                 name = AerospikeAPIConstants.COMPRESS,
                 description = QueryParamDescriptors.POLICY_COMPRESS_NOTES,
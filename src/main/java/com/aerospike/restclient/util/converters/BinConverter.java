@@ -18,6 +18,7 @@ package com.aerospike.restclient.util.converters;
 
 import com.aerospike.client.Bin;
 import com.aerospike.client.Value;
+import com.aerospike.restclient.util.BinCompressor;
 import gnu.crypto.util.Base64;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -49,6 +50,12 @@ public class BinConverter {
         return binArray;
     }
 
+    /* Convert the bins and compress the large ones, if the compressor is enabled for the set */
+    public static Bin[] binsFromMap(Map<String, Object> binMap, String namespace, String set,
+                                    BinCompressor compressor) {
+        return compressor.compress(namespace, set, binsFromMap(binMap));
+    }
+
     private static final String specifiedTypeKey = "type";
     private static final String specifiedValueKey = "value";
 
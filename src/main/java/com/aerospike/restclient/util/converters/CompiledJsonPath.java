@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util.converters;
+
+import com.aerospike.client.Operation;
+import com.aerospike.client.Value;
+import com.aerospike.client.cdt.CTX;
+import com.aerospike.client.cdt.ListOperation;
+import com.aerospike.client.cdt.ListReturnType;
+import com.aerospike.client.cdt.MapOperation;
+import com.aerospike.client.cdt.MapPolicy;
+import com.aerospike.client.cdt.MapReturnType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/*
+ * A JSONPath limited to child steps, list indexes, a trailing slice and a trailing length(), compiled
+ * into CDT operations on the addressed element. Anything else, such as wildcards, filters or deep
+ * scans, does not compile and is left to the document client.
+ */
+public class CompiledJsonPath {
+
+    private final String path;
+    private final boolean compiled;
+    private final List<Object> steps;
+    private final Integer sliceStart;
+    private final Integer sliceEnd;
+    private final boolean slice;
+    private final boolean length;
+
+    private CompiledJsonPath(String path, boolean compiled, List<Object> steps, boolean slice, Integer sliceStart,
+                             Integer sliceEnd, boolean length) {
+        this.path = path;
+        this.compiled = compiled;
+        this.steps = steps;
+        this.slice = slice;
+        this.sliceStart = sliceStart;
+        this.sliceEnd = sliceEnd;
+        this.length = length;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isCompiled() {
+        return compiled;
+    }
+
+    public boolean isLength() {
+        return length;
+    }
+
+    /* Whether the path addresses a single element that can be written */
+    public boolean isWritable() {
+        return compiled && !slice && !length && !steps.isEmpty();
+    }
+
+    /* Whether the path addresses a single list that can be appended to */
+    public boolean isAppendable() {
+        return compiled && !slice && !length;
+    }
+
+    public static CompiledJsonPath compile(String path) {
+        CompiledJsonPath parsed = parse(path);
+        return parsed != null ? parsed : new CompiledJsonPath(path, false, Collections.emptyList(), false, null, null,
+                false);
+    }
+
+    /*
+     * Read the addressed element of a bin. For length() the type of the element is not known up front,
+     * asMap selects between the list and map size operations.
+     */
+    public Operation readOperation(String bin, boolean asMap) {
+        if (length) {
+            CTX[] ctx = context(steps.size());
+            return asMap ? MapOperation.size(bin, ctx) : ListOperation.size(bin, ctx);
+        }
+        if (slice) {
+            CTX[] ctx = context(steps.size());
+            if (sliceEnd == null) {
+                return ListOperation.getByIndexRange(bin, sliceStart, ListReturnType.VALUE, ctx);
+            }
+            return ListOperation.getByIndexRange(bin, sliceStart, Math.max(0, sliceEnd - sliceStart),
+                    ListReturnType.VALUE, ctx);
+        }
+        if (steps.isEmpty()) {
+            return Operation.get(bin);
+        }
+        CTX[] ctx = context(steps.size() - 1);
+        Object last = steps.get(steps.size() - 1);
+        if (last instanceof Integer) {
+            return ListOperation.getByIndex(bin, (Integer) last, ListReturnType.VALUE, ctx);
+        }
+        return MapOperation.getByKey(bin, Value.get(last), MapReturnType.VALUE, ctx);
+    }
+
+    public Operation putOperation(String bin, Object value) {
+        CTX[] ctx = context(steps.size() - 1);
+        Object last = steps.get(steps.size() - 1);
+        if (last instanceof Integer) {
+            return ListOperation.set(bin, (Integer) last, Value.get(value), ctx);
+        }
+        return MapOperation.put(MapPolicy.Default, bin, Value.get(last), Value.get(value), ctx);
+    }
+
+    public Operation appendOperation(String bin, Object value) {
+        return ListOperation.append(bin, Value.get(value), context(steps.size()));
+    }
+
+    public Operation deleteOperation(String bin) {
+        CTX[] ctx = context(steps.size() - 1);
+        Object last = steps.get(steps.size() - 1);
+        if (last instanceof Integer) {
+            return ListOperation.removeByIndex(bin, (Integer) last, ListReturnType.NONE, ctx);
+        }
+        return MapOperation.removeByKey(bin, Value.get(last), MapReturnType.NONE, ctx);
+    }
+
+    private CTX[] context(int depth) {
+        CTX[] ctx = new CTX[depth];
+        for (int i = 0; i < depth; i++) {
+            Object step = steps.get(i);
+            ctx[i] = step instanceof Integer ? CTX.listIndex((Integer) step) : CTX.mapKey(Value.get(step));
+        }
+        return ctx;
+    }
+
+    /* Returns null for any path outside the supported subset */
+    private static CompiledJsonPath parse(String path) {
+        if (path == null || !path.startsWith("$")) {
+            return null;
+        }
+        List<Object> steps = new ArrayList<>();
+        int pos = 1;
+        while (pos < path.length()) {
+            char c = path.charAt(pos);
+            if (c == '.') {
+                int end = pos + 1;
+                while (end < path.length() && ".[]()*?@,'\"".indexOf(path.charAt(end)) < 0) {
+                    end++;
+                }
+                String name = path.substring(pos + 1, end);
+                if (name.equals("length") && path.substring(end).equals("()")) {
+                    return new CompiledJsonPath(path, true, steps, false, null, null, true);
+                }
+                if (name.isEmpty() || end < path.length() && ".[".indexOf(path.charAt(end)) < 0) {
+                    return null;
+                }
+                steps.add(name);
+                pos = end;
+            } else if (c == '[') {
+                int close = path.indexOf(']', pos);
+                if (close < 0) {
+                    return null;
+                }
+                String inner = path.substring(pos + 1, close).trim();
+                pos = close + 1;
+                if (inner.length() >= 2 && (inner.startsWith("'") && inner.endsWith("'")
+                        || inner.startsWith("\"") && inner.endsWith("\""))) {
+                    String key = inner.substring(1, inner.length() - 1);
+                    if (key.indexOf('\'') >= 0 || key.indexOf('"') >= 0) {
+                        return null;
+                    }
+                    steps.add(key);
+                } else if (inner.indexOf(':') >= 0) {
+                    return parseSlice(path, steps, inner, path.substring(pos));
+                } else {
+                    Integer index = parseIndex(inner);
+                    if (index == null) {
+                        return null;
+                    }
+                    steps.add(index);
+                }
+            } else {
+                return null;
+            }
+        }
+        return new CompiledJsonPath(path, true, steps, false, null, null, false);
+    }
+
+    /* A slice has to end the path. Bounds of mixed sign depend on the list size and are not compiled */
+    private static CompiledJsonPath parseSlice(String path, List<Object> steps, String inner, String rest) {
+        if (!rest.isEmpty()) {
+            return null;
+        }
+        String[] bounds = inner.split(":", -1);
+        if (bounds.length != 2) {
+            return null;
+        }
+        Integer start = bounds[0].trim().isEmpty() ? Integer.valueOf(0) : parseIndex(bounds[0].trim());
+        Integer end = bounds[1].trim().isEmpty() ? null : parseIndex(bounds[1].trim());
+        if (start == null || (end == null && !bounds[1].trim().isEmpty())) {
+            return null;
+        }
+        if (end != null && (start < 0) != (end < 0)) {
+            return null;
+        }
+        return new CompiledJsonPath(path, true, steps, true, start, end, false);
+    }
+
+    private static Integer parseIndex(String text) {
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
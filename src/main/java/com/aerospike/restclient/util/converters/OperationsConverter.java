@@ -17,9 +17,13 @@
 package com.aerospike.restclient.util.converters;
 
 import com.aerospike.client.Operation;
+import com.aerospike.client.exp.ExpOperation;
+import com.aerospike.client.exp.ExpReadFlags;
+import com.aerospike.client.exp.Expression;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public class OperationsConverter {
 
@@ -28,4 +32,14 @@ public class OperationsConverter {
         return ops.stream()
                 .map(OperationConverter::convertMapToOperation).toArray(Operation[]::new);
     }
+
+    /* Append an expression read for each computed field, returned under the field name */
+    public static Operation[] withComputedFields(Operation[] operations, Map<String, Expression> computed) {
+        if (computed == null || computed.isEmpty()) {
+            return operations;
+        }
+        return Stream.concat(Stream.of(operations), computed.entrySet().stream()
+                .map(field -> ExpOperation.read(field.getKey(), field.getValue(), ExpReadFlags.DEFAULT)))
+                .toArray(Operation[]::new);
+    }
 }
@@ -71,6 +71,14 @@ public class PolicyValueConverter {
         }
     }
 
+    public static Expression getFilterExpBase64(String filterExp) {
+        try {
+            return Expression.fromBase64(filterExp);
+        } catch (Exception e) {
+            throw new RestClientErrors.InvalidPolicyValueError("Invalid base64 Filter Expression: " + filterExp);
+        }
+    }
+
     public static boolean getCompress(String compress) {
         return getBoolValue(compress);
     }
@@ -3,10 +3,13 @@ package com.aerospike.restclient.util.converters.exp;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public abstract class BaseExpFactory {
 
+    private static final Pattern floatPattern = Pattern.compile("^[-+]?(\\d+\\.\\d*|\\.\\d+)([eE][-+]?\\d+)?$");
+
     protected String stripQuotes(String str) {
         if (str.length() >= 2 && str.charAt(0) == '"' && str.charAt(str.length() - 1) == '"') {
             return str.substring(1, str.length() - 1);
@@ -29,4 +32,28 @@ public abstract class BaseExpFactory {
         }
         return Optional.of(i);
     }
+
+    protected Optional<Long> parseLong(String s) {
+        long l;
+        try {
+            l = Long.parseLong(s);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+        return Optional.of(l);
+    }
+
+    protected Optional<Double> parseDouble(String s) {
+        if (!floatPattern.matcher(s).matches()) {
+            return Optional.empty();
+        }
+        return Optional.of(Double.parseDouble(s));
+    }
+
+    protected Optional<Boolean> parseBoolean(String s) {
+        if (s.equalsIgnoreCase("true") || s.equalsIgnoreCase("false")) {
+            return Optional.of(Boolean.parseBoolean(s));
+        }
+        return Optional.empty();
+    }
 }
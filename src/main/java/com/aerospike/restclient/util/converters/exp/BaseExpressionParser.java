@@ -14,6 +14,7 @@ public abstract class BaseExpressionParser<T> {
         Stack<String> simpleOperators;
         Stack<String> logicOperators;
         Stack<String> unaryLogicOperators;
+        Stack<String> arithmeticOperators;
         Stack<String> operands;
         Stack<T> filters;
 
@@ -21,6 +22,7 @@ public abstract class BaseExpressionParser<T> {
             simpleOperators = new Stack<>();
             logicOperators = new Stack<>();
             unaryLogicOperators = new Stack<>();
+            arithmeticOperators = new Stack<>();
             operands = new Stack<>();
             filters = new Stack<>();
         }
@@ -2,6 +2,7 @@ package com.aerospike.restclient.util.converters.exp;
 
 import com.aerospike.client.cdt.ListReturnType;
 import com.aerospike.client.cdt.MapReturnType;
+import com.aerospike.client.command.ParticleType;
 import com.aerospike.client.exp.Exp;
 import com.aerospike.client.exp.ListExp;
 import com.aerospike.client.exp.MapExp;
@@ -9,11 +10,18 @@ import com.aerospike.client.query.RegexFlag;
 import com.google.common.base.Preconditions;
 
 import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public class FilterExpFactory extends BaseExpFactory {
 
+    private static final Pattern typedBinPattern = Pattern.compile("(.+):(int|float|bool)", Pattern.CASE_INSENSITIVE);
+
     public Exp getLogicalExp(String name, Exp[] exps) {
         final Operator.Logic op = Operator.Logic.fromString(name);
         Preconditions.checkNotNull(op, "getLogicalExp operator fromString");
@@ -38,17 +46,165 @@ public class FilterExpFactory extends BaseExpFactory {
         }
     }
 
+    /**
+     * Create a comparison of a bin with a value. An integer value compares the bin as INT and any other
+     * value as STRING, unless the bin is declared as name:int, name:float or name:bool. A declared bin
+     * must be compared with a value of its type, or for numeric types with another declared bin.
+     * Example:
+     * <pre>
+     * age >= 21
+     * score:float > 9.5
+     * active:bool == true
+     */
     public Exp getCompareExp(String c1, String op, String c2) {
-        Exp exp;
-        Optional<Integer> intVal = parseInt(c2);
-        if (intVal.isPresent()) {
-            exp = getSimpleExp(op, Exp.bin(c1, Exp.Type.INT), Exp.val(intVal.get()));
-        } else {
-            exp = getSimpleExp(op, Exp.bin(c1, Exp.Type.STRING), Exp.val(stripQuotes(c2)));
+        Optional<Exp.Type> declared = getDeclaredType(c1);
+        if (declared.isPresent()) {
+            return getDeclaredCompareExp(c1, declared.get(), op, c2);
+        }
+        Optional<Long> longVal = parseLong(c2);
+        if (longVal.isPresent()) {
+            return getSimpleExp(op, Exp.bin(c1, Exp.Type.INT), Exp.val(longVal.get()));
+        }
+        return getSimpleExp(op, Exp.bin(c1, Exp.Type.STRING), Exp.val(stripQuotes(c2)));
+    }
+
+    private Exp getDeclaredCompareExp(String c1, Exp.Type type, String op, String c2) {
+        if (type == Exp.Type.BOOL) {
+            Optional<Boolean> boolVal = parseBoolean(c2);
+            if (!boolVal.isPresent()) {
+                throw new InvalidParameterException(String.format("Expected true or false to compare with %s", c1));
+            }
+            return getSimpleExp(op, Exp.bin(getBinName(c1), Exp.Type.BOOL), Exp.val(boolVal.get()));
+        }
+        boolean isNumeric = parseLong(c2).isPresent() || parseDouble(c2).isPresent()
+                || getDeclaredType(c2).filter(t -> t != Exp.Type.BOOL).isPresent();
+        if (!isNumeric) {
+            throw new InvalidParameterException(String.format("Expected a number to compare with %s", c1));
+        }
+        return getArithmeticCompareExp(Collections.singletonList(c1), Collections.emptyList(), op,
+                Collections.singletonList(c2), Collections.emptyList());
+    }
+
+    /**
+     * Create a comparison where either side may be an arithmetic expression over bins and numbers.
+     * Non numeric operands are bin names, optionally declared as name:int or name:float.
+     * Both sides are evaluated as FLOAT if any number has a fractional part or any bin is
+     * declared float, otherwise as INT. Bins declared int are converted in a FLOAT evaluation.
+     * Example:
+     * <pre>
+     * price * quantity >= 100
+     * credit - debit > 0.5
+     * price:float * quantity:int >= 100
+     */
+    public Exp getArithmeticCompareExp(List<String> left, List<String> leftOps, String op,
+                                       List<String> right, List<String> rightOps) {
+        List<String> operands = new ArrayList<>(left);
+        operands.addAll(right);
+        Exp.Type type = getArithmeticType(operands);
+        return getSimpleExp(op, getArithmeticExp(left, leftOps, type), getArithmeticExp(right, rightOps, type));
+    }
+
+    /**
+     * Create a value expression from arithmetic over bins and numbers, typed as in
+     * {@link #getArithmeticCompareExp}.
+     * Example:
+     * <pre>
+     * price * quantity
+     */
+    public Exp getArithmeticValueExp(List<String> operands, List<String> ops) {
+        return getArithmeticExp(operands, ops, getArithmeticType(operands));
+    }
+
+    private Exp.Type getArithmeticType(List<String> operands) {
+        boolean isFloat = operands.stream().anyMatch(o -> parseDouble(o).isPresent()
+                || getDeclaredType(o).filter(t -> t == Exp.Type.FLOAT).isPresent());
+        return isFloat ? Exp.Type.FLOAT : Exp.Type.INT;
+    }
+
+    private Optional<Exp.Type> getDeclaredType(String operand) {
+        Matcher matcher = typedBinPattern.matcher(operand);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        switch (matcher.group(2).toLowerCase()) {
+            case "float":
+                return Optional.of(Exp.Type.FLOAT);
+            case "bool":
+                return Optional.of(Exp.Type.BOOL);
+            default:
+                return Optional.of(Exp.Type.INT);
+        }
+    }
+
+    public Exp getArithmeticExp(List<String> operands, List<String> ops, Exp.Type type) {
+        Preconditions.checkArgument(operands.size() == ops.size() + 1, "getArithmeticExp invalid format");
+        // Fold multiplicative operators first, then additive ones, both left to right.
+        List<Exp> terms = new ArrayList<>();
+        List<Operator.Arithmetic> termOps = new ArrayList<>();
+        Exp current = getArithmeticOperand(operands.get(0), type);
+        for (int i = 0; i < ops.size(); i++) {
+            final Operator.Arithmetic operator = Operator.Arithmetic.fromString(ops.get(i));
+            Preconditions.checkNotNull(operator, "getArithmeticExp operator fromString");
+            Exp next = getArithmeticOperand(operands.get(i + 1), type);
+            if (operator.isMultiplicative()) {
+                current = getArithmeticExp(operator, current, next);
+            } else {
+                terms.add(current);
+                termOps.add(operator);
+                current = next;
+            }
+        }
+        terms.add(current);
+        Exp exp = terms.get(0);
+        for (int i = 0; i < termOps.size(); i++) {
+            exp = getArithmeticExp(termOps.get(i), exp, terms.get(i + 1));
         }
         return exp;
     }
 
+    private Exp getArithmeticExp(Operator.Arithmetic operator, Exp left, Exp right) {
+        switch (operator) {
+            case ADD:
+                return Exp.add(left, right);
+            case SUB:
+                return Exp.sub(left, right);
+            case MUL:
+                return Exp.mul(left, right);
+            case DIV:
+                return Exp.div(left, right);
+            case MOD:
+                return Exp.mod(left, right);
+            default:
+                throw new InvalidParameterException(String.format("Invalid arithmetic operator: %s", operator));
+        }
+    }
+
+    private Exp getArithmeticOperand(String operand, Exp.Type type) {
+        Optional<Long> longVal = parseLong(operand);
+        if (longVal.isPresent()) {
+            return type == Exp.Type.FLOAT ? Exp.val((double) longVal.get()) : Exp.val(longVal.get());
+        }
+        Optional<Double> doubleVal = parseDouble(operand);
+        if (doubleVal.isPresent()) {
+            return Exp.val(doubleVal.get());
+        }
+        Optional<Exp.Type> declared = getDeclaredType(operand);
+        if (!declared.isPresent()) {
+            return Exp.bin(operand, type);
+        }
+        if (declared.get() == Exp.Type.BOOL) {
+            throw new InvalidParameterException(String.format("Bool bin %s used in arithmetic", operand));
+        }
+        Exp bin = Exp.bin(getBinName(operand), declared.get());
+        return declared.get() == type ? bin : Exp.toFloat(bin);
+    }
+
+    private static String getBinName(String operand) {
+        Matcher matcher = typedBinPattern.matcher(operand);
+        Preconditions.checkState(matcher.matches());
+        return matcher.group(1);
+    }
+
     public Exp getSimpleExp(String op, Exp left, Exp right) {
         final Operator.Simple operator = Operator.Simple.fromString(op);
         Preconditions.checkNotNull(operator, "getSimpleExp operator fromString");
@@ -140,7 +296,7 @@ public class FilterExpFactory extends BaseExpFactory {
     }
 
     public Exp getSpecialExp(String name, String params) {
-        final Operator.Special op = Operator.Special.valueOf(name);
+        final Operator.Special op = Operator.Special.valueOf(name.toUpperCase());
         switch (op) {
             case LAST_UPDATE:
                 return getLastUpdateExpr(params);
@@ -162,6 +318,22 @@ public class FilterExpFactory extends BaseExpFactory {
                 return getMapKeyIterateAndExpr(params);
             case MAPVAL_ITERATE_AND:
                 return getMapValIterateAndExpr(params);
+            case SINCE_UPDATE:
+                return getSinceUpdateExpr(params);
+            case TTL:
+                return getTtlExpr(params);
+            case DEVICE_SIZE:
+                return getDeviceSizeExpr(params);
+            case SET_NAME:
+                return getSetNameExpr(params);
+            case KEY_EXISTS:
+                return getKeyExistsExpr(params);
+            case BIN_EXISTS:
+                return getBinExistsExpr(params);
+            case BIN_TYPE:
+                return getBinTypeExpr(params);
+            case IN:
+                return getInExpr(params);
             default:
                 throw new InvalidParameterException(String.format("Invalid Special Expression name: %s", name));
         }
@@ -356,4 +528,143 @@ public class FilterExpFactory extends BaseExpFactory {
         return Exp.eq(exp, MapExp.size(Exp.mapBin(p.get(0))));
     }
 
+    /**
+     * Create record since update predicate expressed in milliseconds since the record was last updated.
+     * Example:
+     * <pre>
+     * SINCE_UPDATE(<, 7200000)
+     */
+    private Exp getSinceUpdateExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 2, "getSinceUpdateExpr invalid format");
+        return getSimpleExp(p.get(0), Exp.sinceUpdate(), Exp.val(Long.parseLong(p.get(1))));
+    }
+
+    /**
+     * Create record time to live predicate expressed in seconds.
+     * Example:
+     * <pre>
+     * TTL(<=, 86400)
+     */
+    private Exp getTtlExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 2, "getTtlExpr invalid format");
+        return getSimpleExp(p.get(0), Exp.ttl(), Exp.val(Long.parseLong(p.get(1))));
+    }
+
+    /**
+     * Create record storage size predicate expressed in bytes.
+     * Example:
+     * <pre>
+     * DEVICE_SIZE(>, 65536)
+     */
+    private Exp getDeviceSizeExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 2, "getDeviceSizeExpr invalid format");
+        return getSimpleExp(p.get(0), Exp.deviceSize(), Exp.val(Long.parseLong(p.get(1))));
+    }
+
+    /**
+     * Create record set name predicate.
+     * Example:
+     * <pre>
+     * SET_NAME(==, users)
+     */
+    private Exp getSetNameExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 2, "getSetNameExpr invalid format");
+        return getSimpleExp(p.get(0), Exp.setName(), Exp.val(stripQuotes(p.get(1))));
+    }
+
+    /**
+     * Create predicate that matches records which were stored with their user key.
+     * Example:
+     * <pre>
+     * KEY_EXISTS()
+     */
+    private Exp getKeyExistsExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 1 && p.get(0).isEmpty(), "getKeyExistsExpr invalid format");
+        return Exp.keyExists();
+    }
+
+    /**
+     * Create bin existence predicate.
+     * Example:
+     * <pre>
+     * BIN_EXISTS(email)
+     */
+    private Exp getBinExistsExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 1 && !p.get(0).isEmpty(), "getBinExistsExpr invalid format");
+        return Exp.binExists(p.get(0));
+    }
+
+    /**
+     * Create bin particle type predicate. Valid types are NULL, INTEGER, DOUBLE, STRING,
+     * BLOB, BOOL, HLL, MAP, LIST and GEOJSON.
+     * Example:
+     * <pre>
+     * BIN_TYPE(score, ==, DOUBLE)
+     */
+    private Exp getBinTypeExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() == 3, "getBinTypeExpr invalid format");
+        return getSimpleExp(p.get(1), Exp.binType(p.get(0)), Exp.val(getParticleType(p.get(2))));
+    }
+
+    /**
+     * Create predicate that matches if the bin value equals any of the listed values.
+     * The bin type is INT if all values are integers, FLOAT if all values are numbers
+     * and STRING otherwise.
+     * Example:
+     * <pre>
+     * IN(country, US, CA, MX)
+     */
+    private Exp getInExpr(String params) {
+        List<String> p = extractParameters(params);
+        Preconditions.checkArgument(p.size() >= 2, "getInExpr invalid format");
+        List<String> literals = p.subList(1, p.size());
+        Exp.Type type;
+        List<Object> values;
+        if (literals.stream().allMatch(l -> parseLong(l).isPresent())) {
+            type = Exp.Type.INT;
+            values = literals.stream().map(l -> (Object) Long.parseLong(l)).collect(Collectors.toList());
+        } else if (literals.stream().allMatch(l -> parseLong(l).isPresent() || parseDouble(l).isPresent())) {
+            type = Exp.Type.FLOAT;
+            values = literals.stream().map(l -> (Object) Double.parseDouble(l)).collect(Collectors.toList());
+        } else {
+            type = Exp.Type.STRING;
+            values = literals.stream().map(l -> (Object) stripQuotes(l)).collect(Collectors.toList());
+        }
+        return Exp.gt(ListExp.getByValue(ListReturnType.COUNT, Exp.bin(p.get(0), type), Exp.val(values)), Exp.val(0));
+    }
+
+    private int getParticleType(String name) {
+        switch (name.toUpperCase()) {
+            case "NULL":
+                return ParticleType.NULL;
+            case "INTEGER":
+                return ParticleType.INTEGER;
+            case "DOUBLE":
+            case "FLOAT":
+                return ParticleType.DOUBLE;
+            case "STRING":
+                return ParticleType.STRING;
+            case "BLOB":
+                return ParticleType.BLOB;
+            case "BOOL":
+                return ParticleType.BOOL;
+            case "HLL":
+                return ParticleType.HLL;
+            case "MAP":
+                return ParticleType.MAP;
+            case "LIST":
+                return ParticleType.LIST;
+            case "GEOJSON":
+                return ParticleType.GEOJSON;
+            default:
+                throw new InvalidParameterException(String.format("Invalid bin type: %s", name));
+        }
+    }
 }
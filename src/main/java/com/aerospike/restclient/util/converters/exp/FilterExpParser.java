@@ -4,6 +4,7 @@ import com.aerospike.client.exp.Exp;
 import com.aerospike.client.exp.Expression;
 import com.google.common.base.Preconditions;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Stack;
 
@@ -14,6 +15,11 @@ public class FilterExpParser extends BaseExpressionParser<Exp>
 
     /**
      * Parses a logical expression string to an Aerospike Filter Expression.
+     * A bin compared with an integer is typed as INT and with any other value as STRING, and
+     * whitespace separated arithmetic (+, -, *, /, %) over bins is supported on either side.
+     * An arithmetic expression without a comparison parses to its numeric value.
+     * Bins may be declared as name:int, name:float or name:bool to compare them as that type.
+     * Arithmetic is typed as FLOAT when a number has a fraction or a bin is declared float.
      *
      * @param expression the string representation of a logical expression in the infix form
      *                   with a special filters syntax support.
@@ -46,7 +52,9 @@ public class FilterExpParser extends BaseExpressionParser<Exp>
                 stack.peek().logicOperators.push(t);
             } else if (Operator.isLogicUnary(t)) {
                 stack.peek().unaryLogicOperators.push(t);
-            } else if (Operator.isSpecial(t)) {
+            } else if (Operator.isArithmetic(t)) {
+                stack.peek().arithmeticOperators.push(t);
+            } else if (Operator.isSpecial(t) && i + 1 < tokens.size() && tokens.get(i + 1).equals("(")) {
                 // read special operation
                 StringBuilder buff = new StringBuilder();
                 do {
@@ -58,24 +66,43 @@ public class FilterExpParser extends BaseExpressionParser<Exp>
                 stack.peek().filters.push(special);
             } else {
                 // is operand
-                if (stack.peek().simpleOperators.size() > 0) {
-                    if (stack.peek().operands.size() == 1) {
-                        Exp exp = filterExpFactory.getCompareExp(
-                                stack.peek().operands.pop(),
-                                stack.peek().simpleOperators.pop(),
-                                t
-                        );
-                        if (stack.peek().unaryLogicOperators.size() > 0)
-                            exp = filterExpFactory.getUnaryLogicalExp(stack.peek().unaryLogicOperators.pop(), exp);
-                        stack.peek().filters.push(exp);
+                NestedBlock block = stack.peek();
+                if (block.simpleOperators.size() > 0) {
+                    if (block.operands.size() == block.arithmeticOperators.size() + 1) {
+                        // read the arithmetic tail of the right hand side
+                        List<String> right = new ArrayList<>();
+                        List<String> rightOps = new ArrayList<>();
+                        right.add(t);
+                        while (i + 2 < tokens.size() && Operator.isArithmetic(tokens.get(i + 1).trim())) {
+                            rightOps.add(tokens.get(++i).trim());
+                            right.add(tokens.get(++i).trim());
+                        }
+                        Exp exp;
+                        if (block.arithmeticOperators.isEmpty() && rightOps.isEmpty()) {
+                            exp = filterExpFactory.getCompareExp(block.operands.pop(), block.simpleOperators.pop(), t);
+                        } else {
+                            exp = filterExpFactory.getArithmeticCompareExp(new ArrayList<>(block.operands),
+                                    new ArrayList<>(block.arithmeticOperators), block.simpleOperators.pop(),
+                                    right, rightOps);
+                            block.operands.clear();
+                            block.arithmeticOperators.clear();
+                        }
+                        if (block.unaryLogicOperators.size() > 0)
+                            exp = filterExpFactory.getUnaryLogicalExp(block.unaryLogicOperators.pop(), exp);
+                        block.filters.push(exp);
                     }
                 } else {
-                    stack.peek().operands.push(t);
+                    block.operands.push(t);
                 }
             }
         }
 
         NestedBlock block = stack.pop();
+        if (block.filters.isEmpty() && !block.operands.isEmpty()) {
+            // a bare arithmetic expression evaluates to a value, used by computed read fields
+            return Exp.build(filterExpFactory.getArithmeticValueExp(new ArrayList<>(block.operands),
+                    new ArrayList<>(block.arithmeticOperators)));
+        }
         Exp exp = block.filters.get(0);
         if (!block.logicOperators.isEmpty()) {
             Preconditions.checkState(forAllEqual(block.logicOperators),
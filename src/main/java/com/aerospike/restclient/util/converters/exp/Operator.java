@@ -35,6 +35,10 @@ public final class Operator {
         return Arrays.stream(LogicUnary.values()).anyMatch((t) -> t.getName().equalsIgnoreCase(op));
     }
 
+    public static boolean isArithmetic(String op) {
+        return Arrays.stream(Arithmetic.values()).anyMatch((t) -> t.getName().equals(op));
+    }
+
     public static boolean isSpecial(String op) {
         return Arrays.stream(Special.values()).anyMatch((t) -> t.name().equalsIgnoreCase(op));
     }
@@ -67,6 +71,39 @@ public final class Operator {
         }
     }
 
+    public enum Arithmetic {
+        ADD("+", false),
+        SUB("-", false),
+        MUL("*", true),
+        DIV("/", true),
+        MOD("%", true);
+
+        private final String name;
+        private final boolean multiplicative;
+
+        Arithmetic(String op, boolean multiplicative) {
+            name = op;
+            this.multiplicative = multiplicative;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public boolean isMultiplicative() {
+            return this.multiplicative;
+        }
+
+        public static Arithmetic fromString(String name) {
+            for (Arithmetic v : Arithmetic.values()) {
+                if (v.name.equals(name)) {
+                    return v;
+                }
+            }
+            return null;
+        }
+    }
+
     public enum Logic {
         AND("and"),
         OR("or");
@@ -126,6 +163,14 @@ public final class Operator {
         MAPVAL_ITERATE_OR,
         LIST_ITERATE_AND,
         MAPKEY_ITERATE_AND,
-        MAPVAL_ITERATE_AND
+        MAPVAL_ITERATE_AND,
+        SINCE_UPDATE,
+        TTL,
+        DEVICE_SIZE,
+        SET_NAME,
+        KEY_EXISTS,
+        BIN_EXISTS,
+        BIN_TYPE,
+        IN
     }
 }
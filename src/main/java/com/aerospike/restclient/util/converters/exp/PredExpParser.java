@@ -62,7 +62,7 @@ public class PredExpParser extends BaseExpressionParser<List<PredExp>>
                 stack.peek().logicOperators.push(t);
             } else if (Operator.isLogicUnary(t)) {
                 stack.peek().unaryLogicOperators.push(t);
-            } else if (Operator.isSpecial(t)) {
+            } else if (Operator.isSpecial(t) && i + 1 < tokens.size() && tokens.get(i + 1).equals("(")) {
                 // read special operation
                 StringBuilder buff = new StringBuilder();
                 do {
@@ -68,6 +68,11 @@ public class PolicyConverter {
             policy.filterExp = PolicyValueConverter.getFilterExp(
                     policyMap.get(AerospikeAPIConstants.FILTER_EXP));
         }
+        /* A prebuilt wire expression needs no parsing and overrides the infix filterexp */
+        if (policyMap.containsKey(AerospikeAPIConstants.FILTER_EXP_BASE64)) {
+            policy.filterExp = PolicyValueConverter.getFilterExpBase64(
+                    policyMap.get(AerospikeAPIConstants.FILTER_EXP_BASE64));
+        }
         if (policyMap.containsKey(AerospikeAPIConstants.COMPRESS)) {
             policy.compress = PolicyValueConverter.getCompress(
                     policyMap.get(AerospikeAPIConstants.COMPRESS));
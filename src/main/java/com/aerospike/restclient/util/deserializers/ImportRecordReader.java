@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util.deserializers;
+
+import java.io.IOException;
+import java.util.Map;
+
+/*
+ * Reads records one at a time from a bulk import stream.
+ */
+public interface ImportRecordReader {
+
+	String KEY_FIELD = "key";
+	String BINS_FIELD = "bins";
+
+	/*
+	 * Returns the next record, or null at the end of the stream. A record which could not be
+	 * decoded, but which the reader was able to skip, is returned with its error set.
+	 */
+	ImportRecord next() throws IOException;
+
+	class ImportRecord {
+		public final Object userKey;
+		public final Map<String, Object> bins;
+		public final String error;
+
+		public ImportRecord(Object userKey, Map<String, Object> bins) {
+			this.userKey = userKey;
+			this.bins = bins;
+			this.error = null;
+		}
+
+		public ImportRecord(String error) {
+			this.userKey = null;
+			this.bins = null;
+			this.error = error;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util.deserializers;
+
+import com.aerospike.restclient.util.RestClientErrors.MalformedMsgPackError;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * Reads a stream of concatenated MessagePack maps, each of the form {"key": ..., "bins": {...}}.
+ * The stream cannot be resynchronized after malformed data, so a decoding error ends the import.
+ */
+public class MsgPackImportReader extends MsgPackParser implements ImportRecordReader {
+
+	public MsgPackImportReader(InputStream stream) {
+		super(stream);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ImportRecord next() throws IOException {
+		if (!unpacker.hasNext()) {
+			return null;
+		}
+
+		Object record = unpackValue();
+		if (!(record instanceof Map)) {
+			throw new MalformedMsgPackError("Import records must be maps");
+		}
+		Map<Object, Object> recordMap = (Map<Object, Object>) record;
+		Object bins = recordMap.get(BINS_FIELD);
+		if (recordMap.get(KEY_FIELD) == null || !(bins instanceof Map)) {
+			return new ImportRecord("Record must contain a key and a map of bins");
+		}
+
+		Map<String, Object> binMap = new HashMap<>();
+		for (Map.Entry<Object, Object> entry : ((Map<Object, Object>) bins).entrySet()) {
+			if (!(entry.getKey() instanceof String)) {
+				return new ImportRecord("Binnames must be strings");
+			}
+			binMap.put((String) entry.getKey(), entry.getValue());
+		}
+		return new ImportRecord(recordMap.get(KEY_FIELD), binMap);
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util.deserializers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/*
+ * Reads newline delimited JSON, one {"key": ..., "bins": {...}} object per line.
+ * A malformed line is reported and skipped.
+ */
+public class NDJsonImportReader implements ImportRecordReader {
+
+	private static final TypeReference<Map<String, Object>> recordType = new TypeReference<Map<String, Object>>() {};
+
+	private final BufferedReader reader;
+	private final ObjectMapper mapper;
+
+	public NDJsonImportReader(InputStream stream, ObjectMapper mapper) {
+		this.reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		this.mapper = mapper;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public ImportRecord next() throws IOException {
+		String line;
+		do {
+			line = reader.readLine();
+			if (line == null) {
+				return null;
+			}
+		} while (line.trim().isEmpty());
+
+		Map<String, Object> record;
+		try {
+			record = mapper.readValue(line, recordType);
+		} catch (JsonProcessingException e) {
+			return new ImportRecord("Invalid JSON record: " + e.getOriginalMessage());
+		}
+
+		Object bins = record.get(BINS_FIELD);
+		if (record.get(KEY_FIELD) == null || !(bins instanceof Map)) {
+			return new ImportRecord("Record must contain a key and a map of bins");
+		}
+		return new ImportRecord(record.get(KEY_FIELD), (Map<String, Object>) bins);
+	}
+}
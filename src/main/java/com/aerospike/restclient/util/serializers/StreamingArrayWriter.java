@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.util.serializers;
+
+import com.aerospike.restclient.config.WebConfig;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.aerospike.restclient.util.converters.JSONMessageConverter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.core.MessagePack;
+import org.msgpack.core.MessagePacker;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/*
+ * Writes a JSON or MessagePack array of known size to the response one element at a time,
+ * so large results are sent as they are produced instead of being collected first.
+ */
+public class StreamingArrayWriter {
+
+    private static final ObjectMapper jsonMapper = JSONMessageConverter.getConverter().getObjectMapper();
+    private static final ObjectMapper msgPackMapper = WebConfig.getMsgPackObjectMapper();
+
+    private final HttpServletResponse response;
+    private final String accept;
+    private final int size;
+    private OutputStream out;
+    private JsonGenerator jsonGenerator;
+
+    /*
+     * Nothing is written until the first element, so errors raised before then still
+     * produce a normal error response.
+     */
+    public StreamingArrayWriter(HttpServletResponse response, String accept, int size) {
+        this.response = response;
+        this.accept = accept;
+        this.size = size;
+    }
+
+    public void write(Object value) throws IOException {
+        open();
+        if (jsonGenerator == null) {
+            out.write(msgPackMapper.writeValueAsBytes(value));
+        } else {
+            jsonGenerator.writeObject(value);
+        }
+    }
+
+    public void close() throws IOException {
+        open();
+        if (jsonGenerator != null) {
+            jsonGenerator.writeEndArray();
+            jsonGenerator.close();
+        }
+        out.flush();
+    }
+
+    private void open() throws IOException {
+        if (out != null) {
+            return;
+        }
+        out = response.getOutputStream();
+        if (HeaderHandler.acceptsMsgPack(accept)) {
+            response.setContentType(HeaderHandler.MSGPACK.toString());
+            /* The msgpack generator buffers whole arrays, so write the header directly */
+            MessagePacker packer = MessagePack.newDefaultPacker(out);
+            packer.packArrayHeader(size);
+            packer.flush();
+        } else {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            jsonGenerator = jsonMapper.getFactory().createGenerator(out);
+            jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            jsonGenerator.writeStartArray();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.restclient.domain.RestClientAsyncWriteStats;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
+import com.aerospike.restclient.util.HeaderHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class AsyncWriteTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "async");
+    private final String testEndpoint = "/v1/kvs/test/junit/async";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        client.delete(null, testKey);
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testRespondAsyncIsAccepted() throws Exception {
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("count", 7);
+
+        mockMVC.perform(post(testEndpoint).contentType(MediaType.APPLICATION_JSON)
+                        .param(AerospikeAPIConstants.RECORD_EXISTS_ACTION, RecordExistsAction.UPDATE.name())
+                        .header(HeaderHandler.PREFER, HeaderHandler.RESPOND_ASYNC)
+                        .content(objectMapper.writeValueAsString(bins)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HeaderHandler.PREFERENCE_APPLIED, HeaderHandler.RESPOND_ASYNC));
+
+        Record record = null;
+        for (int i = 0; i < 100 && record == null; i++) {
+            record = client.get(null, testKey);
+            if (record == null) {
+                Thread.sleep(20);
+            }
+        }
+        Assert.assertNotNull(record);
+        Assert.assertEquals(7L, record.getLong("count"));
+        Assert.assertTrue(getStats().accepted >= 1);
+    }
+
+    @Test
+    public void testWithoutPreferIsSynchronous() throws Exception {
+        mockMVC.perform(post(testEndpoint).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Collections.singletonMap("count", 1))))
+                .andExpect(status().isCreated());
+
+        Assert.assertNotNull(client.get(null, testKey));
+    }
+
+    @Test
+    public void testConditionalWriteIsRefused() throws Exception {
+        client.put(null, testKey, new Bin("count", 1));
+
+        /* The default create only write could fail after a 202, so it is not queued */
+        mockMVC.perform(post(testEndpoint).contentType(MediaType.APPLICATION_JSON)
+                        .header(HeaderHandler.PREFER, HeaderHandler.RESPOND_ASYNC)
+                        .content(objectMapper.writeValueAsString(Collections.singletonMap("count", 2))))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(HeaderHandler.PREFERENCE_APPLIED));
+
+        mockMVC.perform(patch(testEndpoint).contentType(MediaType.APPLICATION_JSON)
+                        .param(AerospikeAPIConstants.RECORD_EXISTS_ACTION, RecordExistsAction.UPDATE.name())
+                        .header(HeaderHandler.PREFER, HeaderHandler.RESPOND_ASYNC)
+                        .header(HttpHeaders.IF_MATCH, "\"1000\"")
+                        .content(objectMapper.writeValueAsString(Collections.singletonMap("count", 3))))
+                .andExpect(status().isBadRequest());
+
+        Assert.assertEquals(1L, client.get(null, testKey).getLong("count"));
+    }
+
+    @Test
+    public void testPermanentErrorIsNotRetried() throws Exception {
+        RestClientAsyncWriteStats before = getStats();
+
+        /* The server refuses bin names longer than 15 characters */
+        mockMVC.perform(post(testEndpoint).contentType(MediaType.APPLICATION_JSON)
+                        .param(AerospikeAPIConstants.RECORD_EXISTS_ACTION, RecordExistsAction.UPDATE.name())
+                        .header(HeaderHandler.PREFER, HeaderHandler.RESPOND_ASYNC)
+                        .content(objectMapper.writeValueAsString(Collections.singletonMap("aVeryLongBinNameIndeed", 1))))
+                .andExpect(status().isAccepted());
+
+        RestClientAsyncWriteStats after = getStats();
+        for (int i = 0; i < 100 && after.failed == before.failed; i++) {
+            Thread.sleep(20);
+            after = getStats();
+        }
+        Assert.assertEquals(before.failed + 1, after.failed);
+        Assert.assertEquals(before.retried, after.retried);
+    }
+
+    private RestClientAsyncWriteStats getStats() throws Exception {
+        String body = mockMVC.perform(get("/v1/async/writes"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readValue(body, RestClientAsyncWriteStats.class);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class BatchExistsHeaderTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    /* Keys at even indexes exist */
+    private final Key[] keys = new Key[10];
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key("test", "junit", "exists" + i);
+            if (i % 2 == 0) {
+                client.put(null, keys[i], new Bin("bin", i));
+            }
+        }
+    }
+
+    @After
+    public void clean() {
+        for (Key key : keys) {
+            client.delete(null, key);
+        }
+    }
+
+    @Test
+    public void testBatchExistsJSON() throws Exception {
+        String response = mockMVC.perform(post("/v1/batch/exists")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchKeys())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Boolean> exists = objectMapper.readValue(response, new TypeReference<List<Boolean>>() {});
+        Assert.assertEquals(keys.length, exists.size());
+        for (int i = 0; i < keys.length; i++) {
+            Assert.assertEquals(i % 2 == 0, exists.get(i));
+        }
+    }
+
+    @Test
+    public void testBatchExistsMsgPackBitPacked() throws Exception {
+        byte[] response = mockMVC.perform(post("/v1/batch/exists")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept("application/msgpack")
+                .content(objectMapper.writeValueAsString(batchKeys())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] packed = new ObjectMapper(new MessagePackFactory()).readValue(response, byte[].class);
+        Assert.assertEquals(2, packed.length);
+        for (int i = 0; i < keys.length; i++) {
+            boolean exists = (packed[i / 8] & (1 << (i % 8))) != 0;
+            Assert.assertEquals(i % 2 == 0, exists);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchHeader() throws Exception {
+        String response = mockMVC.perform(post("/v1/batch/header")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchKeys())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> headers = objectMapper.readValue(response,
+                new TypeReference<List<Map<String, Object>>>() {});
+        Assert.assertEquals(keys.length, headers.size());
+        for (int i = 0; i < keys.length; i++) {
+            if (i % 2 == 0) {
+                Record record = client.getHeader(null, keys[i]);
+                Assert.assertEquals(record.generation, headers.get(i).get("generation"));
+                Assert.assertFalse(headers.get(i).containsKey("bins"));
+            } else {
+                Assert.assertNull(headers.get(i));
+            }
+        }
+    }
+
+    private List<Map<String, Object>> batchKeys() {
+        List<Map<String, Object>> batchKeys = new ArrayList<>();
+        for (Key key : keys) {
+            Map<String, Object> restKey = new HashMap<>();
+            restKey.put("namespace", key.namespace);
+            restKey.put("setName", key.setName);
+            restKey.put("userKey", key.userKey.toString());
+            Map<String, Object> batchObj = new HashMap<>();
+            batchObj.put("key", restKey);
+            batchKeys.add(batchObj);
+        }
+        return batchKeys;
+    }
+}
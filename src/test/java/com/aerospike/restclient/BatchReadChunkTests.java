@@ -0,0 +1,136 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * Runs batch reads larger than the configured chunk size, so they are split into parallel chunks.
+ */
+@RunWith(Parameterized.class)
+@SpringBootTest(properties = "aerospike.restclient.batch.read.chunkSize=7")
+public class BatchReadChunkTests {
+
+    private final BatchHandler batchHandler;
+
+    /* Needed to run as a Spring Boot test */
+    @ClassRule
+    public static final SpringClassRule springClassRule = new SpringClassRule();
+
+    @Rule
+    public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key[] keys = new Key[30];
+    private final String endpoint = "/v1/batch";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key("test", "junit", "chunk" + i);
+            client.put(null, keys[i], new Bin("index", i));
+        }
+    }
+
+    @After
+    public void clean() {
+        for (Key key : keys) {
+            client.delete(null, key);
+        }
+    }
+
+    @Parameters
+    public static Object[] mappers() {
+        return new Object[]{new JSONBatchHandler(), new MsgPackBatchHandler()};
+    }
+
+    public BatchReadChunkTests(BatchHandler handler) {
+        this.batchHandler = handler;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testChunkedBatchKeepsRequestOrder() throws Exception {
+        List<Integer> expected = new ArrayList<>();
+        List<Map<String, Object>> batchKeys = new ArrayList<>();
+        for (int i = keys.length - 1; i >= 0; i--) {
+            batchKeys.add(batchObject(keys[i]));
+            expected.add(i);
+            if (i % 5 == 0) {
+                batchKeys.add(batchObject(keys[0]));
+                expected.add(0);
+            }
+        }
+
+        String payLoad = objectMapper.writeValueAsString(batchKeys);
+        List<Map<String, Object>> returnedRecords = batchHandler.perform(mockMVC, endpoint, payLoad);
+        Assert.assertEquals(expected.size(), returnedRecords.size());
+
+        for (int i = 0; i < expected.size(); i++) {
+            Map<String, Object> record = (Map<String, Object>) returnedRecords.get(i).get("record");
+            Map<String, Object> bins = (Map<String, Object>) record.get("bins");
+            Assert.assertEquals(expected.get(i).intValue(), ((Number) bins.get("index")).intValue());
+        }
+    }
+
+    private Map<String, Object> batchObject(Key key) {
+        Map<String, Object> restKey = new HashMap<>();
+        restKey.put("namespace", key.namespace);
+        restKey.put("setName", key.setName);
+        restKey.put("userKey", key.userKey.toString());
+
+        Map<String, Object> batchObj = new HashMap<>();
+        batchObj.put("key", restKey);
+        batchObj.put("readAllBins", true);
+        return batchObj;
+    }
+}
@@ -236,6 +236,30 @@ public class BatchReadCorrectTests {
         Assert.assertTrue(compareRestRecordsToBatchReads(returnedRecords, batchRecs));
     }
 
+    @Test
+    public void testGetDuplicateKeys() throws Exception {
+        List<Map<String, Object>> batchKeys = new ArrayList<>();
+        List<BatchRead> batchRecs = new ArrayList<>();
+        String[] bins = new String[]{"bin1"};
+
+        batchKeys.add(keyToBatchObject(keys[0], null));
+        batchKeys.add(keyToBatchObject(keys[1], null));
+        batchKeys.add(keyToBatchObject(keys[0], null));
+        batchKeys.add(keyToBatchObject(keys[0], bins));
+
+        batchRecs.add(new BatchRead(keys[0], true));
+        batchRecs.add(new BatchRead(keys[1], true));
+        batchRecs.add(new BatchRead(keys[0], true));
+        batchRecs.add(new BatchRead(keys[0], bins));
+
+        String payLoad = objectMapper.writeValueAsString(batchKeys);
+        List<Map<String, Object>> returnedRecords = batchHandler.perform(mockMVC, endpoint, payLoad);
+        Assert.assertEquals(4, returnedRecords.size());
+
+        client.get(null, batchRecs);
+        Assert.assertTrue(compareRestRecordsToBatchReads(returnedRecords, batchRecs));
+    }
+
     @Test
     public void testGetExistingRecordsWithDigestKey() throws Exception {
         List<Map<String, Object>> batchKeys = new ArrayList<>();
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(Parameterized.class)
+@SpringBootTest
+public class BatchWriteCorrectTests {
+
+    private final BatchHandler batchHandler;
+
+    /* Needed to run as a Spring Boot test */
+    @ClassRule
+    public static final SpringClassRule springClassRule = new SpringClassRule();
+
+    @Rule
+    public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key[] keys = new Key[5];
+    private final String endpoint = "/v1/batch/write";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key("test", "junit", "batchwrite" + i);
+        }
+        client.put(null, keys[0], new Bin("bin1", 0));
+        client.put(null, keys[1], new Bin("bin1", 1));
+    }
+
+    @After
+    public void clean() {
+        for (Key key : keys) {
+            client.delete(null, key);
+        }
+    }
+
+    @Parameters
+    public static Object[] mappers() {
+        return new Object[]{new JSONBatchHandler(), new MsgPackBatchHandler()};
+    }
+
+    public BatchWriteCorrectTests(BatchHandler handler) {
+        this.batchHandler = handler;
+    }
+
+    @Test
+    public void testMixedBatchWrite() throws Exception {
+        List<Map<String, Object>> entries = new ArrayList<>();
+
+        Map<String, Object> putBins = new HashMap<>();
+        putBins.put("bin1", 2);
+        putBins.put("bin2", "two");
+        entries.add(entry("PUT", keys[2], putBins, null));
+
+        Map<String, Object> updateBins = new HashMap<>();
+        updateBins.put("bin2", "zero");
+        entries.add(entry("UPDATE", keys[0], updateBins, null));
+
+        entries.add(entry("DELETE", keys[1], null, null));
+
+        Map<String, Object> opValues = new HashMap<>();
+        opValues.put("bin", "bin1");
+        opValues.put("incr", 5);
+        Map<String, Object> addOp = new HashMap<>();
+        addOp.put("operation", "ADD");
+        addOp.put("opValues", opValues);
+        Map<String, Object> readValues = new HashMap<>();
+        readValues.put("bin", "bin1");
+        Map<String, Object> readOp = new HashMap<>();
+        readOp.put("operation", "READ");
+        readOp.put("opValues", readValues);
+        List<Map<String, Object>> ops = new ArrayList<>();
+        ops.add(addOp);
+        ops.add(readOp);
+        entries.add(entry("OPERATE", keys[0], null, ops));
+
+        String payLoad = objectMapper.writeValueAsString(entries);
+        List<Map<String, Object>> responses = batchHandler.perform(mockMVC, endpoint, payLoad);
+        Assert.assertEquals(4, responses.size());
+        for (Map<String, Object> response : responses) {
+            Assert.assertEquals(ResultCode.OK, ((Number) response.get("resultCode")).intValue());
+        }
+
+        Record putRecord = client.get(null, keys[2]);
+        Assert.assertEquals(2, putRecord.getInt("bin1"));
+        Assert.assertEquals("two", putRecord.getString("bin2"));
+
+        Record updatedRecord = client.get(null, keys[0]);
+        Assert.assertEquals(5, updatedRecord.getInt("bin1"));
+        Assert.assertEquals("zero", updatedRecord.getString("bin2"));
+
+        Assert.assertNull(client.get(null, keys[1]));
+    }
+
+    @Test
+    public void testPerEntryResultCodes() throws Exception {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        entries.add(entry("CREATE", keys[0], Collections.singletonMap("bin1", 10), null));
+        entries.add(entry("REPLACE", keys[3], Collections.singletonMap("bin1", 30), null));
+        entries.add(entry("DELETE", keys[4], null, null));
+
+        String payLoad = objectMapper.writeValueAsString(entries);
+        List<Map<String, Object>> responses = batchHandler.perform(mockMVC, endpoint, payLoad);
+        Assert.assertEquals(3, responses.size());
+
+        Assert.assertEquals(ResultCode.KEY_EXISTS_ERROR, ((Number) responses.get(0).get("resultCode")).intValue());
+        Assert.assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, ((Number) responses.get(1).get("resultCode")).intValue());
+        Assert.assertEquals(ResultCode.KEY_NOT_FOUND_ERROR, ((Number) responses.get(2).get("resultCode")).intValue());
+
+        Assert.assertEquals(0, client.get(null, keys[0]).getInt("bin1"));
+    }
+
+    @Test
+    public void testInvalidKeyFailsOnlyItsEntry() throws Exception {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        Map<String, Object> badEntry = entry("PUT", keys[3], Collections.singletonMap("bin1", 3), null);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> badKey = (Map<String, Object>) badEntry.get("key");
+        badKey.put("keytype", "INTEGER");
+        entries.add(badEntry);
+        entries.add(entry("PUT", keys[2], Collections.singletonMap("bin1", 2), null));
+
+        String payLoad = objectMapper.writeValueAsString(entries);
+        List<Map<String, Object>> responses = batchHandler.perform(mockMVC, endpoint, payLoad);
+        Assert.assertEquals(2, responses.size());
+
+        Assert.assertEquals(ResultCode.PARAMETER_ERROR, ((Number) responses.get(0).get("resultCode")).intValue());
+        Assert.assertNull(responses.get(0).get("key"));
+        Assert.assertEquals(ResultCode.OK, ((Number) responses.get(1).get("resultCode")).intValue());
+        Assert.assertEquals(2, client.get(null, keys[2]).getInt("bin1"));
+    }
+
+    @Test
+    public void testMissingKeyIsRejected() throws Exception {
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("type", "DELETE");
+        String payLoad = objectMapper.writeValueAsString(Collections.singletonList(entry));
+
+        mockMVC.perform(post(endpoint).contentType(MediaType.APPLICATION_JSON).content(payLoad))
+                .andExpect(status().isBadRequest());
+    }
+
+    private Map<String, Object> entry(String type, Key key, Map<String, Object> bins, List<Map<String, Object>> ops) {
+        Map<String, Object> restKey = new HashMap<>();
+        restKey.put("namespace", key.namespace);
+        restKey.put("setName", key.setName);
+        restKey.put("userKey", key.userKey.toString());
+
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("type", type);
+        entry.put("key", restKey);
+        if (bins != null) {
+            entry.put("bins", bins);
+        }
+        if (ops != null) {
+            entry.put("operations", ops);
+        }
+        return entry;
+    }
+}
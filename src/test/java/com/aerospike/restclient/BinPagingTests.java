@@ -0,0 +1,191 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.restclient.domain.RestClientCdtPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class BinPagingTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "paging");
+    private final String listEndpoint = "/v1/kvs/test/junit/paging/bins/listbin/list";
+    private final String mapEndpoint = "/v1/kvs/test/junit/paging/bins/mapbin/map";
+    private final List<Long> list = new ArrayList<>();
+    private final Map<String, Long> map = new HashMap<>();
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (long i = 0; i < 25; i++) {
+            list.add(i);
+            /* Values rank in the reverse order of the keys */
+            map.put(String.format("k%02d", i), 100 - i);
+        }
+        client.put(null, testKey, new Bin("listbin", list), new Bin("mapbin", map));
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testListPaging() throws Exception {
+        List<Object> values = new ArrayList<>();
+        RestClientCdtPage page = getPage(get(listEndpoint).param("count", "10"));
+        int pages = 1;
+        values.addAll((List<?>) page.values);
+        while (page.cursor != null) {
+            page = getPage(get(listEndpoint).param("count", "10").param("cursor", page.cursor));
+            values.addAll((List<?>) page.values);
+            pages++;
+        }
+
+        Assert.assertEquals(3, pages);
+        Assert.assertEquals(25, page.size);
+        Assert.assertEquals(25, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Assert.assertEquals(i, ((Number) values.get(i)).intValue());
+        }
+    }
+
+    @Test
+    public void testListOffset() throws Exception {
+        RestClientCdtPage page = getPage(get(listEndpoint).param("offset", "20").param("count", "10"));
+
+        Assert.assertEquals(5, ((List<?>) page.values).size());
+        Assert.assertEquals(20, ((Number) ((List<?>) page.values).get(0)).intValue());
+        Assert.assertNull(page.cursor);
+    }
+
+    @Test
+    public void testMapKeyPaging() throws Exception {
+        List<String> keys = new ArrayList<>();
+        RestClientCdtPage page = getPage(get(mapEndpoint).param("count", "10"));
+        keys.addAll(((Map<String, ?>) page.values).keySet());
+        while (page.cursor != null) {
+            page = getPage(get(mapEndpoint).param("count", "10").param("cursor", page.cursor));
+            keys.addAll(((Map<String, ?>) page.values).keySet());
+        }
+
+        Assert.assertEquals(25, keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            Assert.assertEquals(String.format("k%02d", i), keys.get(i));
+        }
+    }
+
+    @Test
+    public void testMapKeyRange() throws Exception {
+        RestClientCdtPage page = getPage(get(mapEndpoint).param("keyBegin", "k05").param("keyEnd", "k08"));
+
+        Assert.assertEquals(3, ((Map<?, ?>) page.values).size());
+        Assert.assertTrue(((Map<?, ?>) page.values).containsKey("k05"));
+        Assert.assertFalse(((Map<?, ?>) page.values).containsKey("k08"));
+        Assert.assertNull(page.cursor);
+    }
+
+    @Test
+    public void testMapRankPaging() throws Exception {
+        RestClientCdtPage page = getPage(get(mapEndpoint).param("rank", "0").param("count", "20"));
+        Assert.assertTrue(((Map<?, ?>) page.values).containsKey("k24"));
+        Assert.assertNotNull(page.cursor);
+
+        page = getPage(get(mapEndpoint).param("count", "20").param("cursor", page.cursor));
+        Assert.assertEquals(5, ((Map<?, ?>) page.values).size());
+        Assert.assertTrue(((Map<?, ?>) page.values).containsKey("k00"));
+        Assert.assertNull(page.cursor);
+    }
+
+    /* A HashMap is stored as an unordered map bin, so the results must be put in range order explicitly */
+    @Test
+    public void testUnorderedMapPagesAreInOrder() throws Exception {
+        List<String> keys = new ArrayList<>();
+        RestClientCdtPage page = getPage(get(mapEndpoint).param("count", "7"));
+        keys.addAll(((Map<String, ?>) page.values).keySet());
+        while (page.cursor != null) {
+            page = getPage(get(mapEndpoint).param("count", "7").param("cursor", page.cursor));
+            keys.addAll(((Map<String, ?>) page.values).keySet());
+        }
+        for (int i = 0; i < 25; i++) {
+            Assert.assertEquals(String.format("k%02d", i), keys.get(i));
+        }
+        Assert.assertEquals(25, keys.size());
+
+        page = getPage(get(mapEndpoint).param("rank", "0").param("count", "10"));
+        List<String> rankKeys = new ArrayList<>(((Map<String, ?>) page.values).keySet());
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(String.format("k%02d", 24 - i), rankKeys.get(i));
+        }
+    }
+
+    @Test
+    public void testMissingBin() throws Exception {
+        RestClientCdtPage page = getPage(get("/v1/kvs/test/junit/paging/bins/nobin/list"));
+
+        Assert.assertEquals(0, page.size);
+        Assert.assertTrue(((List<?>) page.values).isEmpty());
+    }
+
+    @Test
+    public void testInvalidCursor() throws Exception {
+        mockMVC.perform(get(listEndpoint).param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private RestClientCdtPage getPage(MockHttpServletRequestBuilder request) throws Exception {
+        String response = mockMVC.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, RestClientCdtPage.class);
+    }
+}
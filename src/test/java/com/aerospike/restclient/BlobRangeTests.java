@@ -0,0 +1,130 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class BlobRangeTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "blob");
+    private final String testEndpoint = "/v1/kvs/test/junit/blob/bins/blob/raw";
+    private final byte[] blob = new byte[1000];
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (int i = 0; i < blob.length; i++) {
+            blob[i] = (byte) i;
+        }
+        client.put(null, testKey, new Bin("blob", blob), new Bin("str", "not a blob"));
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testFullRead() throws Exception {
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        Assert.assertArrayEquals(blob, response.getContentAsByteArray());
+        Assert.assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    @Test
+    public void testClosedRange() throws Exception {
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse();
+
+        Assert.assertArrayEquals(Arrays.copyOfRange(blob, 10, 20), response.getContentAsByteArray());
+        Assert.assertEquals("bytes 10-19/*", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    public void testRangePastEnd() throws Exception {
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint).header(HttpHeaders.RANGE, "bytes=990-2000"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse();
+
+        Assert.assertArrayEquals(Arrays.copyOfRange(blob, 990, 1000), response.getContentAsByteArray());
+        Assert.assertEquals("bytes 990-999/1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    public void testSuffixRange() throws Exception {
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint).header(HttpHeaders.RANGE, "bytes=-5"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse();
+
+        Assert.assertArrayEquals(Arrays.copyOfRange(blob, 995, 1000), response.getContentAsByteArray());
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws Exception {
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint).header(HttpHeaders.RANGE, "bytes=2000-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andReturn().getResponse();
+
+        Assert.assertEquals("bytes */1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    public void testNonBlobBin() throws Exception {
+        mockMVC.perform(get("/v1/kvs/test/junit/blob/bins/str/raw"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testMissingBin() throws Exception {
+        mockMVC.perform(get("/v1/kvs/test/junit/blob/bins/nobin/raw"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class CasTests {
+
+    private static final String MERGE_PATCH = "application/merge-patch+json";
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "cas");
+    private final String testEndpoint = "/v1/cas/test/junit/cas";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        client.delete(null, testKey);
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testPatchCreatesRecord() throws Exception {
+        mockMVC.perform(patch(testEndpoint).contentType(MERGE_PATCH).content("{\"name\": \"bob\"}"))
+                .andExpect(status().isOk());
+
+        Assert.assertEquals("bob", client.get(null, testKey).getString("name"));
+    }
+
+    @Test
+    public void testPatchMergesMaps() throws Exception {
+        mockMVC.perform(patch(testEndpoint).contentType(MERGE_PATCH)
+                        .content("{\"profile\": {\"email\": \"a@example.com\", \"phone\": \"123\"}, \"visits\": 1}"))
+                .andExpect(status().isOk());
+        mockMVC.perform(patch(testEndpoint).contentType(MERGE_PATCH)
+                        .content("{\"profile\": {\"phone\": null, \"city\": \"Oslo\"}, \"visits\": null}"))
+                .andExpect(status().isOk());
+
+        Record record = client.get(null, testKey);
+        Map<?, ?> profile = record.getMap("profile");
+        Assert.assertEquals("a@example.com", profile.get("email"));
+        Assert.assertEquals("Oslo", profile.get("city"));
+        Assert.assertFalse(profile.containsKey("phone"));
+        Assert.assertNull(record.getValue("visits"));
+    }
+
+    @Test
+    public void testStaleIfMatchIsRejected() throws Exception {
+        client.put(null, testKey, new Bin("name", "bob"));
+        int generation = client.getHeader(null, testKey).generation;
+        client.put(null, testKey, new Bin("name", "alice"));
+
+        mockMVC.perform(patch(testEndpoint).contentType(MERGE_PATCH).content("{\"name\": \"carol\"}")
+                        .header("If-Match", "\"" + generation + "\""))
+                .andExpect(status().isPreconditionFailed());
+        Assert.assertEquals("alice", client.get(null, testKey).getString("name"));
+    }
+
+    @Test
+    public void testConcurrentPatchesAreNotLost() throws Exception {
+        client.put(null, testKey, new Bin("seen", Collections.emptyMap()));
+        int writers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                String body = String.format("{\"seen\": {\"w%d\": %d}}", i, i);
+                futures.add(executor.submit(() -> {
+                    mockMVC.perform(patch(testEndpoint).contentType(MERGE_PATCH).content(body))
+                            .andExpect(status().isOk());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(writers, client.get(null, testKey).getMap("seen").size());
+    }
+}
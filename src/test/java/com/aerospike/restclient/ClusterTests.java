@@ -19,6 +19,7 @@ package com.aerospike.restclient;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.List;
 import java.util.Map;
 
 import org.junit.Assert;
@@ -76,6 +77,26 @@ public class ClusterTests {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testClusterSnapshot() throws Exception {
+		String response = mockMVC.perform(get(endpoint).accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+		Map<String, Object>clusterInfo = mapper.readValue(response, clusterInfoType);
+
+		Map<String, Object> snapshot = (Map<String, Object>) clusterInfo.get("snapshot");
+		Assert.assertEquals(false, snapshot.get("stale"));
+		Assert.assertTrue(((Number) snapshot.get("ageMillis")).longValue() >= 0);
+
+		List<Map<String, Object>> namespaces = (List<Map<String, Object>>) clusterInfo.get("namespaces");
+		Map<String, Object> testNamespace = namespaces.stream()
+				.filter(ns -> "test".equals(ns.get("name"))).findFirst().orElse(null);
+		Assert.assertNotNull(testNamespace);
+		Assert.assertTrue(((Number) testNamespace.get("replicationFactor")).intValue() > 0);
+		Assert.assertTrue(testNamespace.containsKey("sindexes"));
+	}
+
 	@Test
 	public void testClusterWithMsgPack() throws Exception {
 		/* Get all users and verify that the one we just created is included*/
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.restclient.domain.RestClientCompressionStats;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"aerospike.restclient.compression.sets=test.junit",
+        "aerospike.restclient.compression.minBytes=100"})
+public class CompressionTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "compressed");
+    private final String testEndpoint = "/v1/kvs/test/junit/compressed";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testLargeStringIsStoredCompressed() throws Exception {
+        String text = repeat("the quick brown fox jumps over the lazy dog ", 100);
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("text", text);
+        bins.put("short", "plain");
+        bins.put("count", 3);
+        store(bins);
+
+        Record record = client.get(null, testKey);
+        Assert.assertTrue(record.getValue("text") instanceof byte[]);
+        Assert.assertTrue(((byte[]) record.getValue("text")).length < text.length());
+        Assert.assertEquals("plain", record.getString("short"));
+
+        Map<String, Object> returned = getBins();
+        Assert.assertEquals(text, returned.get("text"));
+        Assert.assertEquals("plain", returned.get("short"));
+        Assert.assertEquals(3, ((Number) returned.get("count")).intValue());
+    }
+
+    @Test
+    public void testRawBinRoundTrip() throws Exception {
+        byte[] blob = repeat("0123456789", 100).getBytes(StandardCharsets.UTF_8);
+        String rawEndpoint = testEndpoint + "/bins/data/raw";
+        mockMVC.perform(put(rawEndpoint).contentType(MediaType.APPLICATION_OCTET_STREAM).content(blob))
+                .andExpect(status().isNoContent());
+
+        Assert.assertTrue(((byte[]) client.get(null, testKey).getValue("data")).length < blob.length);
+
+        byte[] returned = mockMVC.perform(get(rawEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Assert.assertArrayEquals(blob, returned);
+
+        byte[] part = mockMVC.perform(get(rawEndpoint).header(HttpHeaders.RANGE, "bytes=10-19"))
+                .andExpect(status().isPartialContent())
+                .andReturn().getResponse().getContentAsByteArray();
+        Assert.assertArrayEquals(Arrays.copyOfRange(blob, 10, 20), part);
+    }
+
+    @Test
+    public void testBatchWriteIsStoredCompressed() throws Exception {
+        String text = repeat("the quick brown fox jumps over the lazy dog ", 100);
+        Map<String, Object> key = new HashMap<>();
+        key.put("namespace", "test");
+        key.put("setName", "junit");
+        key.put("userKey", "compressed");
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("type", "PUT");
+        entry.put("key", key);
+        entry.put("bins", Collections.singletonMap("text", text));
+
+        mockMVC.perform(post("/v1/batch/write").contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Collections.singletonList(entry))))
+                .andExpect(status().isOk());
+
+        Assert.assertTrue(((byte[]) client.get(null, testKey).getValue("text")).length < text.length());
+        Assert.assertEquals(text, getBins().get("text"));
+    }
+
+    @Test
+    public void testOtherSetsAreReturnedAsStored() throws Exception {
+        store(Collections.singletonMap("text", repeat("a", 5000)));
+        byte[] compressed = (byte[]) client.get(null, testKey).getValue("text");
+
+        Key otherKey = new Key("test", "uncompressed", "compressed");
+        client.put(null, otherKey, new Bin("text", compressed));
+        try {
+            byte[] returned = mockMVC.perform(get("/v1/kvs/test/uncompressed/compressed/bins/text/raw"))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+            Assert.assertArrayEquals(compressed, returned);
+        } finally {
+            client.delete(null, otherKey);
+        }
+    }
+
+    @Test
+    public void testStatsReportRatio() throws Exception {
+        store(Collections.singletonMap("text", repeat("a", 5000)));
+        getBins();
+
+        String body = mockMVC.perform(get("/v1/compression/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        RestClientCompressionStats stats = objectMapper.readValue(body, RestClientCompressionStats.class);
+        Assert.assertTrue(stats.compressedValues >= 1);
+        Assert.assertTrue(stats.decompressedValues >= 1);
+        Assert.assertTrue(stats.ratio > 0 && stats.ratio < 1);
+    }
+
+    private void store(Map<String, Object> bins) throws Exception {
+        mockMVC.perform(post(testEndpoint).contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(bins)))
+                .andExpect(status().isCreated());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getBins() throws Exception {
+        String response = mockMVC.perform(get(testEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Map<String, Object> record = objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {});
+        return (Map<String, Object>) record.get("bins");
+    }
+
+    private static String repeat(String text, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(text);
+        }
+        return builder.toString();
+    }
+}
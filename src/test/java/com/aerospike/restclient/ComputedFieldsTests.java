@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class ComputedFieldsTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "computed");
+    private final Key otherKey = new Key("test", "junit", "computed2");
+    private final String testEndpoint = "/v1/kvs/test/junit/computed";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        client.put(null, testKey, new Bin("price", 25), new Bin("qty", 4), new Bin("name", "widget"));
+        client.put(null, otherKey, new Bin("price", 10), new Bin("qty", 3), new Bin("name", "gadget"));
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+        client.delete(null, otherKey);
+    }
+
+    @Test
+    public void testComputedWithAllBins() throws Exception {
+        Map<String, Object> bins = getBins(get(testEndpoint).param(AerospikeAPIConstants.COMPUTED,
+                computed("total", "price * qty")));
+
+        Assert.assertEquals(100L, ((Number) bins.get("total")).longValue());
+        Assert.assertEquals("widget", bins.get("name"));
+    }
+
+    @Test
+    public void testComputedWithSelectedBins() throws Exception {
+        Map<String, Object> bins = getBins(get(testEndpoint)
+                .param(AerospikeAPIConstants.RECORD_BINS, "name")
+                .param(AerospikeAPIConstants.COMPUTED, computed("total", "price * qty"))
+                .param(AerospikeAPIConstants.COMPUTED, computed("expensive", "price > 20")));
+
+        Assert.assertEquals(3, bins.size());
+        Assert.assertEquals(100L, ((Number) bins.get("total")).longValue());
+        Assert.assertEquals(true, bins.get("expensive"));
+        Assert.assertEquals("widget", bins.get("name"));
+    }
+
+    @Test
+    public void testComputedMissingRecord() throws Exception {
+        mockMVC.perform(get("/v1/kvs/test/junit/computedmissing")
+                .param(AerospikeAPIConstants.COMPUTED, computed("total", "price * qty")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void testInvalidComputedField() throws Exception {
+        mockMVC.perform(get(testEndpoint).param(AerospikeAPIConstants.COMPUTED, "total"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testComputedOperate() throws Exception {
+        String response = mockMVC.perform(post("/v1/operate/test/junit/computed")
+                .param(AerospikeAPIConstants.COMPUTED, computed("total", "price * qty"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"operation\": \"ADD\", \"opValues\": {\"bin\": \"qty\", \"incr\": 1}}]"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Map<String, Object> bins = binsOf(objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {}));
+
+        Assert.assertEquals(125L, ((Number) bins.get("total")).longValue());
+    }
+
+    @Test
+    public void testComputedBatchOperate() throws Exception {
+        String response = mockMVC.perform(post("/v1/operate/read/test/junit")
+                .param(AerospikeAPIConstants.RECORD_KEY, "computed", "computed2")
+                .param(AerospikeAPIConstants.COMPUTED, computed("total", "price * qty"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"operation\": \"GET\", \"opValues\": {\"bin\": \"name\"}}]"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<Map<String, Object>> records = objectMapper.readValue(response,
+                new TypeReference<List<Map<String, Object>>>() {});
+
+        Assert.assertEquals(100L, ((Number) binsOf(records.get(0)).get("total")).longValue());
+        Assert.assertEquals(30L, ((Number) binsOf(records.get(1)).get("total")).longValue());
+    }
+
+    private Map<String, Object> getBins(RequestBuilder request) throws Exception {
+        String response = mockMVC.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return binsOf(objectMapper.readValue(response, new TypeReference<Map<String, Object>>() {}));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> binsOf(Map<String, Object> record) {
+        return (Map<String, Object>) record.get("bins");
+    }
+
+    private String computed(String name, String expression) {
+        return name + ":" + Base64.getUrlEncoder().encodeToString(expression.getBytes(StandardCharsets.UTF_8));
+    }
+}
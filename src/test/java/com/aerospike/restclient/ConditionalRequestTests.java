@@ -0,0 +1,215 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class ConditionalRequestTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "conditional");
+    private final String testEndpoint = "/v1/kvs/test/junit/conditional";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        client.put(null, testKey, new Bin("bin", 1));
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testGetReturnsGenerationETag() throws Exception {
+        Record record = client.get(null, testKey);
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        Assert.assertEquals("\"" + record.generation + "\"", response.getHeader(HttpHeaders.ETAG));
+        Assert.assertNotNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    public void testIfNoneMatchUnchanged() throws Exception {
+        String eTag = mockMVC.perform(get(testEndpoint))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse();
+
+        Assert.assertTrue(response.getContentAsString().isEmpty());
+        Assert.assertEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testIfNoneMatchChanged() throws Exception {
+        String eTag = mockMVC.perform(get(testEndpoint))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        client.put(null, testKey, new Bin("bin", 2));
+
+        MockHttpServletResponse response = mockMVC.perform(get(testEndpoint).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        Assert.assertNotEquals(eTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    public void testIfMatchWrite() throws Exception {
+        String eTag = mockMVC.perform(get(testEndpoint))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMVC.perform(patch(testEndpoint).header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(binMap(2))))
+                .andExpect(status().isNoContent());
+
+        Assert.assertEquals(2L, client.get(null, testKey).getLong("bin"));
+    }
+
+    @Test
+    public void testIfMatchStaleWrite() throws Exception {
+        String eTag = mockMVC.perform(get(testEndpoint))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        client.put(null, testKey, new Bin("bin", 2));
+
+        mockMVC.perform(patch(testEndpoint).header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(binMap(3))))
+                .andExpect(status().isPreconditionFailed());
+
+        Assert.assertEquals(2L, client.get(null, testKey).getLong("bin"));
+    }
+
+    @Test
+    public void testIfMatchStaleDelete() throws Exception {
+        mockMVC.perform(delete(testEndpoint).header(HttpHeaders.IF_MATCH, "\"1000\""))
+                .andExpect(status().isPreconditionFailed());
+
+        Assert.assertTrue(client.exists(null, testKey));
+    }
+
+    @Test
+    public void testIfMatchWeakETag() throws Exception {
+        String eTag = mockMVC.perform(get(testEndpoint))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMVC.perform(patch(testEndpoint).header(HttpHeaders.IF_MATCH, "W/" + eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(binMap(2))))
+                .andExpect(status().isPreconditionFailed());
+
+        Assert.assertEquals(1L, client.get(null, testKey).getLong("bin"));
+    }
+
+    @Test
+    public void testSelectionsHaveDistinctETags() throws Exception {
+        MockHttpServletResponse whole = mockMVC.perform(get(testEndpoint)).andReturn().getResponse();
+        String selected = mockMVC.perform(get(testEndpoint + "?recordBins=bin"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String msgPack = mockMVC.perform(get(testEndpoint).header(HttpHeaders.ACCEPT, "application/msgpack"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Assert.assertNotEquals(whole.getHeader(HttpHeaders.ETAG), selected);
+        Assert.assertNotEquals(whole.getHeader(HttpHeaders.ETAG), msgPack);
+        Assert.assertNotEquals(selected, msgPack);
+        Assert.assertTrue(whole.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+
+        mockMVC.perform(patch(testEndpoint).header(HttpHeaders.IF_MATCH, selected)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(binMap(2))))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    public void testDocumentETagMatchesDocumentWrite() throws Exception {
+        client.put(null, testKey, new Bin("doc", Collections.singletonMap("name", "bob")));
+        String documentEndpoint = "/v1/document/test/junit/conditional?recordBins=doc&jsonPath="
+                + URLEncoder.encode("$.name", StandardCharsets.UTF_8.toString());
+
+        MockHttpServletResponse response = mockMVC.perform(get(documentEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+        String eTag = response.getHeader(HttpHeaders.ETAG);
+        Assert.assertNotNull(eTag);
+        Assert.assertFalse(eTag.startsWith("W/"));
+        Assert.assertNotNull(response.getHeader(HttpHeaders.CACHE_CONTROL));
+
+        mockMVC.perform(put(documentEndpoint).header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString("alice")))
+                .andExpect(status().isAccepted());
+        mockMVC.perform(put(documentEndpoint).header(HttpHeaders.IF_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString("carol")))
+                .andExpect(status().isPreconditionFailed());
+
+        Assert.assertEquals("alice", client.get(null, testKey).getMap("doc").get("name"));
+    }
+
+    private Map<String, Object> binMap(int value) {
+        Map<String, Object> bins = new HashMap<>();
+        bins.put("bin", value);
+        return bins;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.restclient.domain.RestClientCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class CounterTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final String testEndpoint = "/v1/counters/test/junit/views";
+    private final int shards = 8;
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @After
+    public void clean() {
+        for (int shard = 0; shard < shards; shard++) {
+            client.delete(null, new Key("test", "junit", "views:" + shard));
+        }
+    }
+
+    @Test
+    public void testUnknownCounterIsZero() throws Exception {
+        Assert.assertEquals(0, getCounter().value);
+    }
+
+    @Test
+    public void testIncrementsAreSummed() throws Exception {
+        for (int i = 0; i < 50; i++) {
+            mockMVC.perform(post(testEndpoint).param("shards", String.valueOf(shards)).param("incr", "2"))
+                    .andExpect(status().isNoContent());
+        }
+        mockMVC.perform(post(testEndpoint).param("shards", String.valueOf(shards)))
+                .andExpect(status().isNoContent());
+
+        RestClientCounter counter = getCounter();
+        Assert.assertEquals(101, counter.value);
+        Assert.assertEquals(shards, counter.shards);
+    }
+
+    @Test
+    public void testIncrementsAreSpread() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            mockMVC.perform(post(testEndpoint).param("shards", String.valueOf(shards)))
+                    .andExpect(status().isNoContent());
+        }
+
+        int usedShards = 0;
+        for (int shard = 0; shard < shards; shard++) {
+            Record record = client.get(null, new Key("test", "junit", "views:" + shard));
+            if (record != null) {
+                usedShards++;
+            }
+        }
+        Assert.assertTrue(usedShards > 1);
+    }
+
+    @Test
+    public void testInvalidShards() throws Exception {
+        mockMVC.perform(post(testEndpoint).param("shards", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private RestClientCounter getCounter() throws Exception {
+        String response = mockMVC.perform(get(testEndpoint).param("shards", String.valueOf(shards)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, RestClientCounter.class);
+    }
+}
@@ -39,7 +39,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(Parameterized.class)
-@SpringBootTest
+@SpringBootTest(properties = "aerospike.restclient.document.batch.maxInFlight=1")
 @AutoConfigureMockMvc
 public class DocumentApiTests {
 
@@ -212,4 +212,86 @@ public class DocumentApiTests {
         Assert.assertEquals(expected, pathResult.get(testBinName1));
         Assert.assertEquals(expected, pathResult.get(testBinName2));
     }
+
+    @Test
+    public void testDocumentGetNestedIndex() throws Exception {
+        Map<String, Object> pathResult = getPath("$.example2[1]['key04']");
+
+        Assert.assertEquals("G1", pathResult.get(testBinName1));
+        Assert.assertEquals("G1", pathResult.get(testBinName2));
+    }
+
+    @Test
+    public void testDocumentGetSlice() throws Exception {
+        Map<String, Object> pathResult = getPath("$.example1.key01[1:3]");
+
+        Assert.assertEquals(Arrays.asList("B1", "C1"), pathResult.get(testBinName1));
+        Assert.assertEquals(Arrays.asList("B1", "C1"), pathResult.get(testBinName2));
+    }
+
+    @Test
+    public void testDocumentGetLength() throws Exception {
+        Map<String, Object> pathResult = getPath("$.example1.key01.length()");
+
+        Assert.assertEquals(3, ((Number) pathResult.get(testBinName1)).intValue());
+        Assert.assertEquals(3, ((Number) pathResult.get(testBinName2)).intValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDocumentBatchGet() throws Exception {
+        Map<String, Object> found = new HashMap<>();
+        found.put("key", batchKey(testKey.userKey.getObject()));
+        found.put("bins", Arrays.asList(testBinName1, testBinName2));
+        found.put("jsonPaths", Arrays.asList("$.example1.key01[0]", "$.example2[0].key03", "$.example1.key01[*]"));
+        Map<String, Object> missing = new HashMap<>();
+        missing.put("key", batchKey("docmissing"));
+        missing.put("bins", Collections.singletonList(testBinName1));
+        missing.put("jsonPaths", Collections.singletonList("$.example1"));
+
+        MvcResult result = mockMVC.perform(post("/v1/document/batch")
+                .contentType(mediaType)
+                .content(objectMapper.writeValueAsBytes(Arrays.asList(found, missing)))
+                .accept(mediaType))
+                .andExpect(status().isOk()).andReturn();
+        List<Map<String, Object>> responses = objectMapper.readValue(result.getResponse().getContentAsByteArray(),
+                new TypeReference<List<Map<String, Object>>>() {
+                });
+
+        Assert.assertEquals(2, responses.size());
+        for (Map<String, Object> response : responses) {
+            if (((Number) response.get("index")).intValue() == 1) {
+                Assert.assertNotEquals(0, ((Number) response.get("resultCode")).intValue());
+                continue;
+            }
+            Assert.assertEquals(0, ((Number) response.get("resultCode")).intValue());
+            Map<String, Map<String, Object>> results = (Map<String, Map<String, Object>>) response.get("results");
+            Assert.assertEquals("A1", results.get("$.example1.key01[0]").get(testBinName1));
+            Assert.assertEquals("F1", results.get("$.example2[0].key03").get(testBinName2));
+            Assert.assertEquals(Arrays.asList("A1", "B1", "C1"), results.get("$.example1.key01[*]").get(testBinName1));
+        }
+    }
+
+    private Map<String, Object> batchKey(Object userKey) {
+        Map<String, Object> key = new HashMap<>();
+        key.put("namespace", testKey.namespace);
+        key.put("setName", testKey.setName);
+        key.put("userKey", userKey);
+        return key;
+    }
+
+    private Map<String, Object> getPath(String jsonPath) throws Exception {
+        String binParam = "?" + RECORD_BINS + "=" + testBinName1 +
+                "&" + RECORD_BINS + "=" + testBinName2;
+        String jsonPathParam = "&" + JSON_PATH + "=" +
+                URLEncoder.encode(jsonPath, StandardCharsets.UTF_8.toString());
+
+        MvcResult result = mockMVC.perform(
+                get(testEndpoint + binParam + jsonPathParam).accept(mediaType)
+        ).andExpect(status().isOk()).andReturn();
+
+        TypeReference<Map<String, Object>> typeReference = new TypeReference<Map<String, Object>>() {
+        };
+        return objectMapper.readValue(result.getResponse().getContentAsByteArray(), typeReference);
+    }
 }
@@ -4,6 +4,7 @@ import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.Bin;
 import com.aerospike.client.Key;
 import com.aerospike.client.exp.Exp;
+import com.aerospike.restclient.config.FilterExpHeaderFilter;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -45,6 +46,9 @@ public class FilterExpressionTest {
     @Autowired
     private WebApplicationContext wac;
 
+    @Autowired
+    private FilterExpHeaderFilter filterExpHeaderFilter;
+
     private MockMvc mockMVC;
     private final RecordDeserializer recordDeserializer;
     private final String mediaType;
@@ -63,7 +67,7 @@ public class FilterExpressionTest {
 
     @Before
     public void setup() {
-        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).addFilters(filterExpHeaderFilter).build();
     }
 
     @After
@@ -156,6 +160,36 @@ public class FilterExpressionTest {
         ).andExpect(status().isNotFound());
     }
 
+    @Test
+    public void GetIntegerBase64Param() throws Exception {
+        Map<String, Object> binMap = new HashMap<>();
+
+        Bin intBin = new Bin("integer", 10);
+        binMap.put(intBin.name, intBin.value.toInteger());
+
+        client.put(null, testKey, intBin);
+
+        String encoded = Exp.build(Exp.gt(Exp.bin("integer", Exp.Type.INT), Exp.val(1))).getBase64();
+        MockHttpServletResponse res = mockMVC.perform(
+                get(noBinEndpoint).param("filterexpbase64", encoded)
+                        .contentType(MediaType.APPLICATION_JSON).accept(mediaType)
+        ).andExpect(status().isOk()).andReturn().getResponse();
+        Map<String, Object> resObject = recordDeserializer.getReturnedBins(res);
+        Assert.assertTrue(ASTestUtils.compareMapStringObj(resObject, binMap));
+    }
+
+    @Test
+    public void GetNoFloatBase64Header() throws Exception {
+        Bin floatBin = new Bin("float", 2.5);
+        client.put(null, testKey, floatBin);
+
+        String encoded = Exp.build(Exp.gt(Exp.bin("float", Exp.Type.FLOAT), Exp.val(3.0))).getBase64();
+        mockMVC.perform(
+                get(noBinEndpoint).header("X-Aerospike-Filter-Exp", encoded)
+                        .contentType(MediaType.APPLICATION_JSON).accept(mediaType)
+        ).andExpect(status().isNotFound());
+    }
+
     private String buildEndpoint(String encoded) {
         return noBinEndpoint + "?filterexp=" + encoded;
     }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.ResultCode;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class ImportTests {
+
+    private MockMvc mockMVC;
+
+    private final String testEndpoint = "/v1/import/test/junit";
+
+    private final Key[] keys = new Key[3];
+
+    private final TypeReference<Map<String, Object>> summaryType = new TypeReference<Map<String, Object>>() {};
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key("test", "junit", "import" + i);
+        }
+    }
+
+    @After
+    public void clean() {
+        for (Key key : keys) {
+            client.delete(null, key);
+        }
+    }
+
+    @Test
+    public void testNDJsonImport() throws Exception {
+        String body = "{\"key\": \"import0\", \"bins\": {\"a\": 0, \"b\": \"zero\"}}\n"
+                + "\n"
+                + "{not json}\n"
+                + "{\"key\": \"import1\", \"bins\": {\"a\": 1, \"b\": \"one\"}}\n"
+                + "{\"key\": \"import2\", \"bins\": {\"a\": 2, \"b\": \"two\"}}\n";
+
+        byte[] response = mockMVC.perform(post(testEndpoint)
+                .contentType("application/x-ndjson")
+                .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, Object> summary = objectMapper.readValue(response, summaryType);
+        Assert.assertEquals(4, ((Number) summary.get("processed")).intValue());
+        Assert.assertEquals(3, ((Number) summary.get("written")).intValue());
+        Assert.assertEquals(1, ((Number) summary.get("failed")).intValue());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> failure = ((List<Map<String, Object>>) summary.get("failures")).get(0);
+        Assert.assertEquals(1, ((Number) failure.get("index")).intValue());
+        Assert.assertEquals(ResultCode.PARAMETER_ERROR, ((Number) failure.get("resultCode")).intValue());
+
+        for (int i = 0; i < keys.length; i++) {
+            Record record = client.get(null, keys[i]);
+            Assert.assertEquals(i, record.getInt("a"));
+        }
+    }
+
+    @Test
+    public void testGzipNDJsonImport() throws Exception {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            body.append(String.format("{\"key\": \"import%d\", \"bins\": {\"a\": %d}}\n", i, i));
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] response = mockMVC.perform(post(testEndpoint)
+                .contentType("application/x-ndjson")
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .content(compressed.toByteArray()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, Object> summary = objectMapper.readValue(response, summaryType);
+        Assert.assertEquals(keys.length, ((Number) summary.get("written")).intValue());
+        Assert.assertEquals(2, client.get(null, keys[2]).getInt("a"));
+    }
+
+    @Test
+    public void testMsgPackImport() throws Exception {
+        ObjectMapper msgPackMapper = new ObjectMapper(new MessagePackFactory());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < keys.length; i++) {
+            Map<String, Object> bins = new HashMap<>();
+            bins.put("a", i);
+            bins.put("bytes", new byte[]{1, 2, (byte) i});
+            Map<String, Object> record = new HashMap<>();
+            record.put("key", "import" + i);
+            record.put("bins", bins);
+            body.write(msgPackMapper.writeValueAsBytes(record));
+        }
+
+        byte[] response = mockMVC.perform(post(testEndpoint)
+                .contentType("application/msgpack")
+                .accept(MediaType.APPLICATION_JSON)
+                .content(body.toByteArray()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, Object> summary = objectMapper.readValue(response, summaryType);
+        Assert.assertEquals(keys.length, ((Number) summary.get("written")).intValue());
+        Assert.assertArrayEquals(new byte[]{1, 2, 1}, (byte[]) client.get(null, keys[1]).getValue("bytes"));
+    }
+
+    @Test
+    public void testTruncatedMsgPackImport() throws Exception {
+        ObjectMapper msgPackMapper = new ObjectMapper(new MessagePackFactory());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (int i = 0; i < 2; i++) {
+            Map<String, Object> bins = new HashMap<>();
+            bins.put("a", i);
+            Map<String, Object> record = new HashMap<>();
+            record.put("key", "import" + i);
+            record.put("bins", bins);
+            body.write(msgPackMapper.writeValueAsBytes(record));
+        }
+        byte[] records = body.toByteArray();
+
+        byte[] response = mockMVC.perform(post(testEndpoint)
+                .contentType("application/msgpack")
+                .accept(MediaType.APPLICATION_JSON)
+                .content(Arrays.copyOf(records, records.length - 3)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Map<String, Object> summary = objectMapper.readValue(response, summaryType);
+        Assert.assertEquals(1, ((Number) summary.get("written")).intValue());
+        Assert.assertNotNull(summary.get("error"));
+        Assert.assertEquals(0, client.get(null, keys[0]).getInt("a"));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
+import com.aerospike.restclient.domain.RestClientNodeInfoResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.Arrays;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class InfoNodesTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final String endpoint = "/v1/info/all";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @Test
+    public void testInfoAllNodes() throws Exception {
+        RestClientNodeInfoResponse response = sendInfo(endpoint, "name", "edition");
+
+        Assert.assertTrue(response.errors.isEmpty());
+        Assert.assertEquals(client.getNodes().length, response.responses.size());
+        for (Node node : client.getNodes()) {
+            Assert.assertEquals(node.getName(), response.responses.get(node.getName()).get("name"));
+            Assert.assertEquals(Info.request(null, node, "edition"), response.responses.get(node.getName()).get("edition"));
+        }
+    }
+
+    @Test
+    public void testInfoNodeSubset() throws Exception {
+        String nodeName = client.getNodes()[0].getName();
+        RestClientNodeInfoResponse response = sendInfo(endpoint + "?nodes=" + nodeName + ",NOSUCHNODE", "name");
+
+        Assert.assertEquals(1, response.responses.size());
+        Assert.assertEquals(nodeName, response.responses.get(nodeName).get("name"));
+        Assert.assertTrue(response.errors.containsKey("NOSUCHNODE"));
+    }
+
+    private RestClientNodeInfoResponse sendInfo(String url, String... commands) throws Exception {
+        String content = mockMVC.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Arrays.asList(commands))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(content, RestClientNodeInfoResponse.class);
+    }
+}
@@ -16,6 +16,8 @@
  */
 package com.aerospike.restclient;
 
+import java.util.Map;
+
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -51,4 +53,18 @@ public class InfoResponseParserTests {
 		String repl_factor_string = "";
 		Assert.assertEquals(repl_factor, InfoResponseParser.getReplicationFactor(repl_factor_string, "irrelevant"));
 	}
+
+	@Test
+	public void getSetObjectCounts() {
+		String response = "ns=test:set=junit:objects=3:tombstones=0:truncate_lut=0;ns=test:set=other:objects=0:tombstones=0;";
+		Map<String, Long> counts = InfoResponseParser.getSetObjectCounts(response);
+		Assert.assertEquals(2, counts.size());
+		Assert.assertEquals(Long.valueOf(3), counts.get("junit"));
+		Assert.assertEquals(Long.valueOf(0), counts.get("other"));
+	}
+
+	@Test
+	public void getSetObjectCountsEmpty() {
+		Assert.assertTrue(InfoResponseParser.getSetObjectCounts("").isEmpty());
+	}
 }
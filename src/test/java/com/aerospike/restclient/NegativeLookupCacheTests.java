@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.restclient.domain.RestClientNegativeCacheStats;
+import com.aerospike.restclient.util.AerospikeAPIConstants;
+import com.aerospike.restclient.util.NegativeLookupCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"aerospike.restclient.negativeCache.sets=test.junit",
+        "aerospike.restclient.negativeCache.ttlMillis=60000"})
+public class NegativeLookupCacheTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key externalKey = new Key("test", "junit", "negativeExternal");
+    private final Key localKey = new Key("test", "junit", "negativeLocal");
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, externalKey);
+        client.delete(null, localKey);
+    }
+
+    @Test
+    public void testMissingKeyIsCached() throws Exception {
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeExternal")).andExpect(status().isNotFound());
+        long hits = getStats().hits;
+
+        /* A write made outside of this instance is not seen until the entry expires */
+        client.put(null, externalKey, new Bin("bin", 1));
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeExternal")).andExpect(status().isNotFound());
+
+        Assert.assertEquals(hits + 1, getStats().hits);
+    }
+
+    @Test
+    public void testWriteInvalidatesMissingKey() throws Exception {
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeLocal")).andExpect(status().isNotFound());
+
+        mockMVC.perform(post("/v1/kvs/test/junit/negativeLocal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Collections.singletonMap("bin", 1))))
+                .andExpect(status().isCreated());
+
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeLocal")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testUncachedSet() throws Exception {
+        long misses = getStats().misses;
+
+        mockMVC.perform(get("/v1/kvs/test/uncached/negativeOther")).andExpect(status().isNotFound());
+
+        Assert.assertEquals(misses, getStats().misses);
+    }
+
+    @Test
+    public void testFilteredOutReadIsNotCached() throws Exception {
+        client.put(null, localKey, new Bin("bin", 1));
+        String encoded = Exp.build(Exp.gt(Exp.intBin("bin"), Exp.val(1))).getBase64();
+
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeLocal").param("filterexpbase64", encoded))
+                .andExpect(status().isNotFound());
+
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeLocal")).andExpect(status().isOk());
+    }
+
+    @Test
+    public void testFilteredOutComputedReadIsNotCached() throws Exception {
+        client.put(null, localKey, new Bin("bin", 1));
+        String encoded = Exp.build(Exp.gt(Exp.intBin("bin"), Exp.val(1))).getBase64();
+        String computed = "double:" + Base64.getUrlEncoder()
+                .encodeToString("bin * 2".getBytes(StandardCharsets.UTF_8));
+
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeLocal")
+                .param("filterexpbase64", encoded)
+                .param(AerospikeAPIConstants.COMPUTED, computed))
+                .andExpect(status().isNotFound());
+
+        mockMVC.perform(get("/v1/kvs/test/junit/negativeLocal")
+                .param(AerospikeAPIConstants.COMPUTED, computed))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testMissBeforeInvalidateIsDiscarded() {
+        NegativeLookupCache cache = new NegativeLookupCache("test.junit", 60000, 100);
+        long stamp = cache.stamp(localKey);
+
+        /* A write lands and is invalidated while the read that missed is still in flight */
+        cache.invalidate(localKey);
+        cache.recordMissing(localKey, stamp);
+        Assert.assertFalse(cache.isKnownMissing(localKey));
+
+        cache.recordMissing(localKey, cache.stamp(localKey));
+        Assert.assertTrue(cache.isKnownMissing(localKey));
+    }
+
+    private RestClientNegativeCacheStats getStats() throws Exception {
+        String response = mockMVC.perform(get("/v1/cache/negative"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, RestClientNegativeCacheStats.class);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.command.Buffer;
+import com.aerospike.restclient.service.AerospikeObjectServiceV1;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {"aerospike.restclient.objects.chunkSize=1024",
+        "aerospike.restclient.objects.maxBytes=10000",
+        "aerospike.restclient.objects.maxChunksInFlight=2"})
+public class ObjectTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "object");
+    private final String testEndpoint = "/v1/objects/test/junit/object";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @After
+    public void clean() throws Exception {
+        mockMVC.perform(delete(testEndpoint));
+    }
+
+    @Test
+    public void testPutThenGet() throws Exception {
+        byte[] object = payload(5000, 3);
+        mockMVC.perform(put(testEndpoint).contentType("image/png").content(object))
+                .andExpect(status().isNoContent());
+
+        Record manifest = client.get(null, testKey);
+        Assert.assertEquals(5000L, manifest.getLong(AerospikeObjectServiceV1.SIZE_BIN));
+        Assert.assertEquals(5, manifest.getInt(AerospikeObjectServiceV1.CHUNKS_BIN));
+
+        MvcResult result = mockMVC.perform(get(testEndpoint)).andExpect(status().isOk()).andReturn();
+        Assert.assertArrayEquals(object, result.getResponse().getContentAsByteArray());
+        Assert.assertEquals("image/png", result.getResponse().getContentType());
+    }
+
+    @Test
+    public void testReplaceRemovesOldChunks() throws Exception {
+        mockMVC.perform(put(testEndpoint).content(payload(3000, 5))).andExpect(status().isNoContent());
+        String oldVersion = client.get(null, testKey).getString(AerospikeObjectServiceV1.VERSION_BIN);
+
+        byte[] object = payload(1500, 11);
+        mockMVC.perform(put(testEndpoint).content(object)).andExpect(status().isNoContent());
+
+        byte[] returned = mockMVC.perform(get(testEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Assert.assertArrayEquals(object, returned);
+        for (int index = 0; index < 3; index++) {
+            Assert.assertFalse(client.exists(null, chunkKey(oldVersion, index)));
+        }
+    }
+
+    @Test
+    public void testStaleIfMatchIsRejected() throws Exception {
+        mockMVC.perform(put(testEndpoint).content(payload(2000, 1))).andExpect(status().isNoContent());
+        int generation = client.get(null, testKey).generation;
+        mockMVC.perform(put(testEndpoint).content(payload(2000, 2))).andExpect(status().isNoContent());
+
+        mockMVC.perform(put(testEndpoint).content(payload(2000, 3)).header("If-Match", "\"" + generation + "\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testTooLarge() throws Exception {
+        mockMVC.perform(put(testEndpoint).content(new byte[10001])).andExpect(status().isPayloadTooLarge());
+
+        Assert.assertNull(client.get(null, testKey));
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        mockMVC.perform(put(testEndpoint).content(payload(2000, 1))).andExpect(status().isNoContent());
+        String version = client.get(null, testKey).getString(AerospikeObjectServiceV1.VERSION_BIN);
+
+        mockMVC.perform(delete(testEndpoint)).andExpect(status().isNoContent());
+
+        Assert.assertNull(client.get(null, testKey));
+        Assert.assertFalse(client.exists(null, chunkKey(version, 0)));
+        mockMVC.perform(get(testEndpoint)).andExpect(status().isNotFound());
+    }
+
+    private Key chunkKey(String version, int index) {
+        return new Key("test", "junit", Buffer.bytesToHexString(testKey.digest) + ":" + version + ":" + index);
+    }
+
+    private static byte[] payload(int size, int seed) {
+        byte[] payload = new byte[size];
+        for (int i = 0; i < size; i++) {
+            payload[i] = (byte) (i * seed);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest
+public class PipelineTests {
+
+    private MockMvc mockMVC;
+
+    private final String testEndpoint = "/v1/pipeline";
+
+    private final Key existingKey = new Key("test", "junit", "pipeline0");
+    private final Key createdKey = new Key("test", "junit", "pipeline1");
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        client.put(null, existingKey, new Bin("count", 1), new Bin("name", "pipeline"));
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, existingKey);
+        client.delete(null, createdKey);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMixedPipeline() throws Exception {
+        List<Map<String, Object>> requests = new ArrayList<>();
+        requests.add(subRequest("GET", "/v1/kvs/test/junit/pipeline0?recordBins=name", null));
+        requests.add(subRequest("POST", "/v1/kvs/test/junit/pipeline1", Collections.singletonMap("a", 1)));
+
+        Map<String, Object> opValues = new HashMap<>();
+        opValues.put("bin", "count");
+        opValues.put("incr", 2);
+        Map<String, Object> addOp = new HashMap<>();
+        addOp.put("operation", "ADD");
+        addOp.put("opValues", opValues);
+        requests.add(subRequest("POST", "/v1/operate/test/junit/pipeline0", Collections.singletonList(addOp)));
+
+        requests.add(subRequest("HEAD", "/v1/kvs/test/junit/notreal", null));
+        requests.add(subRequest("GET", "/v1/kvs/test/junit/notreal", null));
+        requests.add(subRequest("GET", "/v1/unknown/test", null));
+
+        String response = mockMVC.perform(post(testEndpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> responses = objectMapper.readValue(response,
+                new TypeReference<List<Map<String, Object>>>() {});
+        Assert.assertEquals(6, responses.size());
+
+        Assert.assertEquals(200, responses.get(0).get("status"));
+        Map<String, Object> bins = (Map<String, Object>) ((Map<String, Object>) responses.get(0).get("body")).get("bins");
+        Assert.assertEquals(Collections.singletonMap("name", "pipeline"), bins);
+
+        Assert.assertEquals(201, responses.get(1).get("status"));
+        Assert.assertEquals(1, client.get(null, createdKey).getInt("a"));
+
+        Assert.assertEquals(200, responses.get(2).get("status"));
+        Assert.assertEquals(3, client.get(null, existingKey).getInt("count"));
+
+        Assert.assertEquals(404, responses.get(3).get("status"));
+        Assert.assertEquals(404, responses.get(4).get("status"));
+        Assert.assertEquals(404, responses.get(5).get("status"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiKeyGetIsBatchRead() throws Exception {
+        List<Map<String, Object>> requests = Collections.singletonList(
+                subRequest("GET", "/v1/kvs/test/junit?key=pipeline0&key=notreal", null));
+
+        String response = mockMVC.perform(post(testEndpoint)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<Map<String, Object>> responses = objectMapper.readValue(response,
+                new TypeReference<List<Map<String, Object>>>() {});
+        Assert.assertEquals(200, responses.get(0).get("status"));
+        List<Map<String, Object>> records = (List<Map<String, Object>>) responses.get(0).get("body");
+        Assert.assertEquals(2, records.size());
+        Map<String, Object> bins = (Map<String, Object>) ((Map<String, Object>) records.get(0).get("record")).get("bins");
+        Assert.assertEquals(1, bins.get("count"));
+        Assert.assertNull(records.get(1).get("record"));
+    }
+
+    private Map<String, Object> subRequest(String method, String path, Object body) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("method", method);
+        request.put("path", path);
+        if (body != null) {
+            request.put("body", body);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = "aerospike.restclient.raw.maxBytes=100")
+public class RawBinTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key testKey = new Key("test", "junit", "raw");
+    private final String testEndpoint = "/v1/kvs/test/junit/raw/bins/blob/raw";
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        client.put(null, testKey, new Bin("other", 1));
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, testKey);
+    }
+
+    @Test
+    public void testPutRaw() throws Exception {
+        byte[] blob = {0, 1, 2, (byte) 0xff, 4};
+        mockMVC.perform(put(testEndpoint).contentType(MediaType.APPLICATION_OCTET_STREAM).content(blob))
+                .andExpect(status().isNoContent());
+
+        Record record = client.get(null, testKey);
+        Assert.assertArrayEquals(blob, (byte[]) record.getValue("blob"));
+        Assert.assertEquals(1L, record.getLong("other"));
+    }
+
+    @Test
+    public void testPutThenGetRaw() throws Exception {
+        byte[] blob = new byte[100];
+        for (int i = 0; i < blob.length; i++) {
+            blob[i] = (byte) (i * 7);
+        }
+        mockMVC.perform(put(testEndpoint).contentType(MediaType.APPLICATION_OCTET_STREAM).content(blob))
+                .andExpect(status().isNoContent());
+
+        byte[] returned = mockMVC.perform(get(testEndpoint))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+        Assert.assertArrayEquals(blob, returned);
+    }
+
+    @Test
+    public void testPutTooLarge() throws Exception {
+        mockMVC.perform(put(testEndpoint).contentType(MediaType.APPLICATION_OCTET_STREAM).content(new byte[101]))
+                .andExpect(status().isPayloadTooLarge());
+
+        Assert.assertNull(client.get(null, testKey).getValue("blob"));
+    }
+}
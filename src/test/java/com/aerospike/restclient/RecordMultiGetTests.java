@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Bin;
+import com.aerospike.client.Key;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.rules.SpringClassRule;
+import org.springframework.test.context.junit4.rules.SpringMethodRule;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(Parameterized.class)
+@SpringBootTest
+public class RecordMultiGetTests {
+
+    /* Needed to run as a Spring Boot test */
+    @ClassRule
+    public static final SpringClassRule springClassRule = new SpringClassRule();
+
+    @Rule
+    public final SpringMethodRule springMethodRule = new SpringMethodRule();
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private MockMvc mockMVC;
+
+    private final ObjectMapper mapper;
+    private final String mediaType;
+
+    private final Key[] keys = new Key[3];
+
+    @Parameters
+    public static Object[][] mappers() {
+        return new Object[][]{
+                {new ObjectMapper(), MediaType.APPLICATION_JSON.toString()},
+                {new ObjectMapper(new MessagePackFactory()), "application/msgpack"},
+        };
+    }
+
+    public RecordMultiGetTests(ObjectMapper mapper, String mediaType) {
+        this.mapper = mapper;
+        this.mediaType = mediaType;
+    }
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = new Key("test", "junit", "multiget" + i);
+            client.put(null, keys[i], new Bin("a", i), new Bin("b", "value" + i));
+        }
+    }
+
+    @After
+    public void clean() {
+        for (Key key : keys) {
+            client.delete(null, key);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetMultipleKeysInOrder() throws Exception {
+        byte[] response = mockMVC.perform(get("/v1/kvs/test/junit?key=multiget2&key=notreal&key=multiget0&recordBins=a")
+                .accept(mediaType))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<Map<String, Object>> records = mapper.readValue(response, new TypeReference<List<Map<String, Object>>>() {});
+        Assert.assertEquals(3, records.size());
+
+        Map<String, Object> bins = (Map<String, Object>) ((Map<String, Object>) records.get(0).get("record")).get("bins");
+        Assert.assertEquals(2, ((Number) bins.get("a")).intValue());
+        Assert.assertFalse(bins.containsKey("b"));
+
+        Assert.assertNull(records.get(1).get("record"));
+
+        bins = (Map<String, Object>) ((Map<String, Object>) records.get(2).get("record")).get("bins");
+        Assert.assertEquals(0, ((Number) bins.get("a")).intValue());
+    }
+
+    @Test
+    public void testSingleKeyPathStillResolves() throws Exception {
+        mockMVC.perform(get("/v1/kvs/test/notreal").accept(mediaType))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -19,9 +19,11 @@ package com.aerospike.restclient;
 import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.AerospikeException;
 import com.aerospike.client.Info;
+import com.aerospike.client.cluster.Node;
 import com.aerospike.client.query.IndexCollectionType;
 import com.aerospike.client.query.IndexType;
 import com.aerospike.restclient.domain.RestClientIndex;
+import com.aerospike.restclient.domain.RestClientIndexProgress;
 import com.aerospike.restclient.util.InfoResponseParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -207,6 +209,41 @@ public class SindexTestsCorrect {
         handler.testIndexNotFound(mockMVC, endpoint + "/" + "fakeNS" + "/" + testIndexName);
     }
 
+    @Test
+    public void createIndexAndWait() throws Exception {
+        RestClientIndex postTestIdx = new RestClientIndex();
+        postTestIdx.setNamespace(testNS);
+        postTestIdx.setSet(testIndexSet);
+        postTestIdx.setBin("waitIdxBin");
+        postTestIdx.setName("waitIdx");
+        postTestIdx.setIndexType(IndexType.NUMERIC);
+        createdIndexPairs.add(new String[]{testNS, "waitIdx"});
+
+        mockMVC.perform(post(endpoint + "?wait=true&waitTimeout=10000")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(new ObjectMapper().writeValueAsString(postTestIdx)))
+                .andExpect(status().isCreated());
+
+        String indexStat = Info.request(null, client.getNodes()[0], "sindex/" + testNS + "/waitIdx");
+        Assert.assertEquals("100", InfoResponseParser.getIndexStatInfo(indexStat).get("load_pct"));
+    }
+
+    @Test
+    public void getIndexProgress() throws Exception {
+        addIndexForTest("getIndexProgress", "getIndexProgress");
+
+        RestClientIndexProgress progress = handler.getIndexProgress(mockMVC,
+                endpoint + "/" + testNS + "/" + testIndexName + "/progress");
+
+        Assert.assertTrue(progress.ready);
+        Assert.assertEquals(100, progress.loadPct);
+        Assert.assertTrue(progress.errors.isEmpty());
+        Assert.assertEquals(client.getNodes().length, progress.nodes.size());
+        for (Node node : client.getNodes()) {
+            Assert.assertEquals(100, progress.nodes.get(node.getName()).loadPct);
+        }
+    }
+
     /* This is run with each handler, but it is not changed since no body or response is packed/unpacked */
     @Test
     public void deleteIndex() throws Exception {
@@ -282,6 +319,8 @@ public class SindexTestsCorrect {
 interface RestIndexHandler {
     Map<String, String> getIndexStats(MockMvc mockMVC, String endpoint) throws Exception;
 
+    RestClientIndexProgress getIndexProgress(MockMvc mockMVC, String endpoint) throws Exception;
+
     void testIndexNotFound(MockMvc mockMVC, String endpoint) throws Exception;
 
     void createIndex(MockMvc mockMVC, String endpoint, RestClientIndex idx) throws Exception;
@@ -307,6 +346,14 @@ class MsgPackIndexHandler implements RestIndexHandler {
         return mapper.readValue(resBytes, SindexTestsCorrect.mapStringStringType);
     }
 
+    @Override
+    public RestClientIndexProgress getIndexProgress(MockMvc mockMVC, String endpoint) throws Exception {
+        byte[] resBytes = mockMVC.perform(get(endpoint).accept(mediaType))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsByteArray();
+
+        return mapper.readValue(resBytes, RestClientIndexProgress.class);
+    }
+
     @Override
     public void testIndexNotFound(MockMvc mockMVC, String endpoint) throws Exception {
         mockMVC.perform(get(endpoint).accept(mediaType))
@@ -348,6 +395,14 @@ class JSONIndexHandler implements RestIndexHandler {
         return mapper.readValue(resJson, SindexTestsCorrect.mapStringStringType);
     }
 
+    @Override
+    public RestClientIndexProgress getIndexProgress(MockMvc mockMVC, String endpoint) throws Exception {
+        String resJson = mockMVC.perform(get(endpoint).accept(mediaType))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        return mapper.readValue(resJson, RestClientIndexProgress.class);
+    }
+
     @Override
     public void testIndexNotFound(MockMvc mockMVC, String endpoint) throws Exception {
         mockMVC.perform(get(endpoint).accept(mediaType))
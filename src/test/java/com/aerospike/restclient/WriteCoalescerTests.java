@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient;
+
+import com.aerospike.client.AerospikeClient;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.restclient.util.WriteCoalescer;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(properties = {
+        "aerospike.restclient.coalesce.sets=test.coalesce",
+        "aerospike.restclient.coalesce.windowMillis=1000"
+})
+public class WriteCoalescerTests {
+
+    private MockMvc mockMVC;
+
+    @Autowired
+    private AerospikeClient client;
+
+    @Autowired
+    private WriteCoalescer writeCoalescer;
+
+    @Autowired
+    private WebApplicationContext wac;
+
+    private final Key coalescedKey = new Key("test", "coalesce", "clicks");
+    private final Key plainKey = new Key("test", "junit", "clicks");
+
+    @Before
+    public void setup() {
+        mockMVC = MockMvcBuilders.webAppContextSetup(wac).build();
+    }
+
+    @After
+    public void clean() {
+        client.delete(null, coalescedKey);
+        client.delete(null, plainKey);
+    }
+
+    @Test
+    public void testIncrementsAreMerged() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            operate("/v1/operate/test/coalesce/clicks",
+                    "[{\"operation\": \"ADD\", \"opValues\": {\"bin\": \"count\", \"incr\": 1}}," +
+                            "{\"operation\": \"ADD\", \"opValues\": {\"bin\": \"score\", \"incr\": 0.5}}]",
+                    status().isAccepted());
+        }
+        writeCoalescer.flush();
+        Record record = awaitRecord(coalescedKey);
+
+        Assert.assertEquals(20L, record.getLong("count"));
+        Assert.assertEquals(10.0, record.getDouble("score"), 0.0001);
+        Assert.assertEquals(1, record.generation);
+    }
+
+    @Test
+    public void testDifferentPoliciesAreNotMerged() throws Exception {
+        String increment = "[{\"operation\": \"ADD\", \"opValues\": {\"bin\": \"count\", \"incr\": 1}}]";
+        operate("/v1/operate/test/coalesce/clicks", increment, status().isAccepted());
+        operate("/v1/operate/test/coalesce/clicks?expiration=1000", increment, status().isAccepted());
+        writeCoalescer.flush();
+
+        Record record = awaitGeneration(coalescedKey, 2);
+        Assert.assertEquals(2L, record.getLong("count"));
+        Assert.assertEquals(0, writeCoalescer.getStats().failed);
+    }
+
+    @Test
+    public void testOtherSetsAreWrittenDirectly() throws Exception {
+        operate("/v1/operate/test/junit/clicks",
+                "[{\"operation\": \"ADD\", \"opValues\": {\"bin\": \"count\", \"incr\": 1}}]",
+                status().isOk());
+
+        Assert.assertEquals(1L, client.get(null, plainKey).getLong("count"));
+    }
+
+    @Test
+    public void testMixedOperationsAreWrittenDirectly() throws Exception {
+        operate("/v1/operate/test/coalesce/clicks",
+                "[{\"operation\": \"ADD\", \"opValues\": {\"bin\": \"count\", \"incr\": 1}}," +
+                        "{\"operation\": \"GET\", \"opValues\": {\"bin\": \"count\"}}]",
+                status().isOk());
+
+        Assert.assertEquals(1L, client.get(null, coalescedKey).getLong("count"));
+    }
+
+    private void operate(String endpoint, String payload, ResultMatcher expected) throws Exception {
+        mockMVC.perform(post(endpoint).contentType(MediaType.APPLICATION_JSON).content(payload))
+                .andExpect(expected);
+    }
+
+    private Record awaitGeneration(Key key, int generation) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            Record record = client.get(null, key);
+            if (record != null && record.generation >= generation) {
+                return record;
+            }
+            Thread.sleep(20);
+        }
+        return client.get(null, key);
+    }
+
+    /* Coalesced writes are issued on a background pool */
+    private Record awaitRecord(Key key) throws InterruptedException {
+        for (int i = 0; i < 50; i++) {
+            Record record = client.get(null, key);
+            if (record != null) {
+                return record;
+            }
+            Thread.sleep(20);
+        }
+        return client.get(null, key);
+    }
+}
@@ -16,8 +16,10 @@
  */
 package com.aerospike.restclient.controller;
 
+import com.aerospike.client.Record;
 import com.aerospike.client.policy.Policy;
 import com.aerospike.restclient.controllers.KeyValueController;
+import com.aerospike.restclient.domain.RestClientRecord;
 import com.aerospike.restclient.service.AerospikeRecordService;
 import com.aerospike.restclient.util.AerospikeAPIConstants;
 import com.aerospike.restclient.util.AerospikeAPIConstants.RecordKeyType;
@@ -32,15 +34,20 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit4.rules.SpringClassRule;
 import org.springframework.test.context.junit4.rules.SpringMethodRule;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Collections;
+import java.util.HashMap;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(Parameterized.class)
 @SpringBootTest
@@ -77,6 +84,8 @@ public class KVControllerGetRecordKeyTypeTests {
 
 	@Before
 	public void setup() {
+		when(recordService.fetchRecord(any(), any(), any(), any(), any(String[].class), any(), any()))
+				.thenReturn(new RestClientRecord(new Record(new HashMap<>(), 1, 0)));
 		queryParams = new LinkedMultiValueMap<>();
 		if (expectedKeyType != null) {
 			queryParams.put(AerospikeAPIConstants.KEY_TYPE, Collections.singletonList(expectedKeyType.toString()));
@@ -85,7 +94,7 @@ public class KVControllerGetRecordKeyTypeTests {
 
 	@Test
 	public void testKeyTypeForNSSetKey() {
-		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null, webRequest());
 		verify(recordService, Mockito.only()).fetchRecord(
 				isNull(),
 				any(String.class),
@@ -96,7 +105,7 @@ public class KVControllerGetRecordKeyTypeTests {
 	}
 	@Test
 	public void testKeyTypeForNSKey() {
-		controller.getRecordNamespaceKey(ns, key, queryParams, null);
+		controller.getRecordNamespaceKey(ns, key, queryParams, null, webRequest());
 		verify(recordService, Mockito.only()).fetchRecord(
 				isNull(),
 				any(String.class),
@@ -106,4 +115,7 @@ public class KVControllerGetRecordKeyTypeTests {
 				eq(expectedKeyType), isA(Policy.class));
 	}
 
+	private static ServletWebRequest webRequest() {
+		return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+	}
 }
@@ -31,9 +31,12 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -71,13 +74,15 @@ public class KVControllerGetRecordTests {
 		testBins.put("bin1", "val1");
 		testBins.put("bin2", "val2");
 		testRecord = new RestClientRecord(new Record(testBins, 2, 2));
+		when(recordService.fetchRecord(any(), any(), any(), any(), any(String[].class), any(), any()))
+				.thenReturn(testRecord);
 
 		queryParams = new LinkedMultiValueMap<>();
 	}
 
 	@Test
 	public void tesNSSetKey() {
-		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null, webRequest());
 		verify(recordService, Mockito.only()).fetchRecord(
 				isNull(),
 				eq(ns),
@@ -90,7 +95,7 @@ public class KVControllerGetRecordTests {
 
 	@Test
 	public void testNSKey() {
-		controller.getRecordNamespaceKey(ns, key, queryParams, null);
+		controller.getRecordNamespaceKey(ns, key, queryParams, null, webRequest());
 		verify(recordService, Mockito.only()).fetchRecord(
 				isNull(),
 				eq(ns),
@@ -104,7 +109,7 @@ public class KVControllerGetRecordTests {
 	@Test
 	public void tesBinsNSSetKey() {
 		queryParams.put(AerospikeAPIConstants.RECORD_BINS, binList);
-		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null, webRequest());
 		verify(recordService, Mockito.only()).fetchRecord(
 				isNull(),
 				eq(ns),
@@ -118,7 +123,7 @@ public class KVControllerGetRecordTests {
 	@Test
 	public void testBinsNSKey() {
 		queryParams.put(AerospikeAPIConstants.RECORD_BINS, binList);
-		controller.getRecordNamespaceKey(ns, key, queryParams, null);
+		controller.getRecordNamespaceKey(ns, key, queryParams, null, webRequest());
 		verify(recordService, Mockito.only()).fetchRecord(
 				isNull(),
 				eq(ns),
@@ -139,7 +144,7 @@ public class KVControllerGetRecordTests {
 				any(),
 				isNull(),
 				any(Policy.class))).thenReturn(testRecord);
-		RestClientRecord actualRecord = controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		RestClientRecord actualRecord = controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null, webRequest());
 		Assert.assertTrue(recordsEqual(testRecord, actualRecord));
 	}
 
@@ -153,7 +158,7 @@ public class KVControllerGetRecordTests {
 				any(),
 				any(),
 				any(Policy.class))).thenReturn(testRecord);
-		RestClientRecord actualRecord = controller.getRecordNamespaceKey(ns, key, queryParams, null);
+		RestClientRecord actualRecord = controller.getRecordNamespaceKey(ns, key, queryParams, null, webRequest());
 		Assert.assertTrue(recordsEqual(testRecord, actualRecord));
 	}
 
@@ -168,7 +173,7 @@ public class KVControllerGetRecordTests {
 				any(),
 				any(),
 				any(Policy.class));
-		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.getRecordNamespaceSetKey(ns, set, key, queryParams, null, webRequest());
 	}
 
 	@Test(expected=AerospikeException.class)
@@ -182,7 +187,7 @@ public class KVControllerGetRecordTests {
 				any(),
 				isNull(),
 				any(Policy.class));
-		controller.getRecordNamespaceKey(ns, key, queryParams, null);
+		controller.getRecordNamespaceKey(ns, key, queryParams, null, webRequest());
 	}
 
 	private boolean recordsEqual(RestClientRecord expected, RestClientRecord actual) {
@@ -190,4 +195,8 @@ public class KVControllerGetRecordTests {
 				expected.ttl == actual.ttl &&
 				expected.bins.equals(actual.bins);
 	}
+
+	private static ServletWebRequest webRequest() {
+		return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+	}
 }
@@ -63,7 +63,7 @@ public class KVControllerV1DeleteRecordTests {
 
 	@Test
 	public void tesNSSetKey() {
-		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null, null);
 		verify(recordService, Mockito.only()).deleteRecord(
 				isNull(),
 				eq(ns),
@@ -75,7 +75,7 @@ public class KVControllerV1DeleteRecordTests {
 
 	@Test
 	public void testNSKey() {
-		controller.deleteRecordNamespaceKey(ns, key, queryParams, null);
+		controller.deleteRecordNamespaceKey(ns, key, queryParams, null, null);
 		verify(recordService, Mockito.only()).deleteRecord(
 				isNull(),
 				eq(ns),
@@ -91,7 +91,7 @@ public class KVControllerV1DeleteRecordTests {
 		expectedPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
 		WritePolicyMatcher matcher = new WritePolicyMatcher(expectedPolicy, existsActionComparator);
 		queryParams.put(AerospikeAPIConstants.RECORD_EXISTS_ACTION, RecordExistsAction.CREATE_ONLY.toString());
-		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null, null);
 		verify(recordService, Mockito.only()).deleteRecord(
 				isNull(),
 				eq(ns),
@@ -108,7 +108,7 @@ public class KVControllerV1DeleteRecordTests {
 		WritePolicyMatcher matcher = new WritePolicyMatcher(expectedPolicy, existsActionComparator);
 		queryParams.put(AerospikeAPIConstants.RECORD_EXISTS_ACTION, RecordExistsAction.CREATE_ONLY.toString());
 
-		controller.deleteRecordNamespaceKey(ns, key, queryParams, null);
+		controller.deleteRecordNamespaceKey(ns, key, queryParams, null, null);
 		verify(recordService, Mockito.only()).deleteRecord(
 				isNull(),
 				eq(ns),
@@ -127,7 +127,7 @@ public class KVControllerV1DeleteRecordTests {
 				any(String.class),
 				any(),
 				any());
-		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
@@ -140,6 +140,6 @@ public class KVControllerV1DeleteRecordTests {
 				any(String.class),
 				any(),
 				any());
-		controller.deleteRecordNamespaceKey(ns, key, queryParams, null);
+		controller.deleteRecordNamespaceKey(ns, key, queryParams, null, null);
 	}
 }
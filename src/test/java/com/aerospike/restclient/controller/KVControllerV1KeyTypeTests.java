@@ -104,7 +104,7 @@ public class KVControllerV1KeyTypeTests {
 	/* UPDATE */
 	@Test
 	public void testKeyTypeForUpdateNSSetKey() {
-		controller.updateRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.updateRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), eq(expectedKeyType),
@@ -113,7 +113,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeForUpdateNSKey() {
-		controller.updateRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.updateRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), eq(expectedKeyType),
@@ -122,7 +122,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeForUpdateNSSetKeyMP() {
-		controller.updateRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.updateRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), eq(expectedKeyType),
@@ -131,7 +131,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeForUpdateNSKeyMP() {
-		controller.updateRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.updateRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), eq(expectedKeyType),
@@ -141,7 +141,7 @@ public class KVControllerV1KeyTypeTests {
 	/* DELETE */
 	@Test
 	public void testKeyTypeDeleteNSSetKey() {
-		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null);
+		controller.deleteRecordNamespaceSetKey(ns, set, key, queryParams, null, null);
 		verify(recordService, Mockito.only()).deleteRecord(
 				isNull(),
 				any(String.class),
@@ -152,7 +152,7 @@ public class KVControllerV1KeyTypeTests {
 	}
 	@Test
 	public void testKeyTypeDeleteNSKey() {
-		controller.deleteRecordNamespaceKey(ns, key, queryParams, null);
+		controller.deleteRecordNamespaceKey(ns, key, queryParams, null, null);
 		verify(recordService, Mockito.only()).deleteRecord(
 				isNull(),
 				any(String.class),
@@ -164,7 +164,7 @@ public class KVControllerV1KeyTypeTests {
 	/* CREATE */
 	@Test
 	public void testKeyTypeCreateNSSetKey() {
-		controller.createRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.createRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), eq(expectedKeyType),
@@ -173,7 +173,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeCreateNSKey() {
-		controller.createRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.createRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), eq(expectedKeyType),
@@ -182,7 +182,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeCreateNSSetKeyMP() {
-		controller.createRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.createRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), eq(expectedKeyType),
@@ -191,7 +191,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeCreateNSKeyMP() {
-		controller.createRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.createRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), eq(expectedKeyType),
@@ -200,7 +200,7 @@ public class KVControllerV1KeyTypeTests {
 	/* REPLACE */
 	@Test
 	public void testKeyTypeReplaceNSSetKey() {
-		controller.replaceRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.replaceRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), eq(expectedKeyType),
@@ -209,7 +209,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeReplaceNSKey() {
-		controller.replaceRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.replaceRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), eq(expectedKeyType),
@@ -218,7 +218,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeReplaceNSSetKeyMP() {
-		controller.replaceRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.replaceRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), eq(expectedKeyType),
@@ -227,7 +227,7 @@ public class KVControllerV1KeyTypeTests {
 
 	@Test
 	public void testRecordKeyTypeReplaceNSKeyMP() {
-		controller.replaceRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.replaceRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), eq(expectedKeyType),
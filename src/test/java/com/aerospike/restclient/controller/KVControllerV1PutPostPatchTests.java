@@ -79,7 +79,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testCreateNSSetKey() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.createRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.createRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), isNull(),
@@ -90,7 +90,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testCreateNSKey() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.createRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.createRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), isNull(),
@@ -101,7 +101,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testCreateNSSetKeyMP() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.createRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.createRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), isNull(),
@@ -112,7 +112,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testCreateNSKeyMP() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.createRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.createRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), isNull(),
@@ -124,7 +124,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testUpdateNSSetKey() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.updateRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.updateRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), isNull(),
@@ -135,7 +135,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testUpdateNSKey() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.updateRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.updateRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), isNull(),
@@ -146,7 +146,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testUpdateNSSetKeyMP() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.updateRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.updateRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), isNull(),
@@ -157,7 +157,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testUpdateNSKeyMP() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.UPDATE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.updateRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.updateRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), isNull(),
@@ -169,7 +169,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testReplaceNSSetKey() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.REPLACE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.replaceRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.replaceRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), isNull(),
@@ -180,7 +180,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testReplaceNSKey() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.REPLACE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.replaceRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.replaceRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), isNull(),
@@ -191,7 +191,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testReplaceNSSetKeyMP() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.REPLACE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.replaceRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.replaceRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), eq(set), eq(key), eq(dummyBins), isNull(),
@@ -202,7 +202,7 @@ public class KVControllerV1PutPostPatchTests {
 	public void testReplaceNSKeyMP() {
 		expectedPolicy.recordExistsAction = RecordExistsAction.REPLACE_ONLY;
 		WritePolicyMatcher createActionMatcher = new ASTestUtils.WritePolicyMatcher(expectedPolicy, existsActionComparator);
-		controller.replaceRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.replaceRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 
 		verify(recordService, Mockito.only()).storeRecord(
 				isNull(), eq(ns), isNull(), eq((key)), eq(dummyBins), isNull(),
@@ -73,64 +73,64 @@ public class KVControllerV1PutPostUpdateErrorTests {
 	/* Create/Post */
 	@Test(expected=AerospikeException.class)
 	public void testCreateNSSetKey() {
-		controller.createRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.createRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testCreateNSKey() {
-		controller.createRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.createRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testCreateNSSetKeyMP() {
-		controller.createRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.createRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testCreateNSKeyMP() {
-		controller.createRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.createRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null);
 	}
 
 	/* Update/Patch */
 	@Test(expected=AerospikeException.class)
 	public void testUpdateNSSetKey() {
-		controller.updateRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.updateRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testUpdateNSKey() {
-		controller.updateRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.updateRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testUpdateNSSetKeyMP() {
-		controller.updateRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.updateRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testUpdateNSKeyMP() {
-		controller.updateRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.updateRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 	}
 
 	/* Replace/Put */
 	@Test(expected=AerospikeException.class)
 	public void testReplaceNSSetKey() {
-		controller.replaceRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null);
+		controller.replaceRecordNamespaceSetKey(ns, set, key, dummyBins, queryParams, null, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testReplaceNSKey() {
-		controller.replaceRecordNamespaceKey(ns, key, dummyBins, queryParams, null);
+		controller.replaceRecordNamespaceKey(ns, key, dummyBins, queryParams, null, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testReplaceNSSetKeyMP() {
-		controller.replaceRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.replaceRecordNamespaceSetKeyMP(ns, set, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 	}
 
 	@Test(expected=AerospikeException.class)
 	public void testReplaceNSKeyMP() {
-		controller.replaceRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null);
+		controller.replaceRecordNamespaceKeyMP(ns, key, new ByteArrayInputStream(msgpackBins), queryParams, null, null, null);
 	}
 
 }
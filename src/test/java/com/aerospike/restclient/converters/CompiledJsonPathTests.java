@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.converters;
+
+import com.aerospike.restclient.util.converters.CompiledJsonPath;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class CompiledJsonPathTests {
+
+	@Test
+	public void testChildAndIndexPathsCompile() {
+		assertWritable("$.a");
+		assertWritable("$.a.b[3]");
+		assertWritable("$.a['k'].c");
+		assertWritable("$[\"k\"][-1]");
+	}
+
+	@Test
+	public void testRootIsReadOnly() {
+		CompiledJsonPath path = CompiledJsonPath.compile("$");
+		Assert.assertTrue(path.isCompiled());
+		Assert.assertFalse(path.isWritable());
+		Assert.assertTrue(path.isAppendable());
+	}
+
+	@Test
+	public void testSliceAndLengthAreReadOnly() {
+		for (String expression : new String[]{"$.a[1:3]", "$.a[2:]", "$.a[:2]", "$.a[-3:-1]", "$.a.length()"}) {
+			CompiledJsonPath path = CompiledJsonPath.compile(expression);
+			Assert.assertTrue(expression, path.isCompiled());
+			Assert.assertFalse(expression, path.isWritable());
+			Assert.assertFalse(expression, path.isAppendable());
+		}
+		Assert.assertTrue(CompiledJsonPath.compile("$.a.length()").isLength());
+	}
+
+	@Test
+	public void testUnsupportedPathsAreNotCompiled() {
+		for (String expression : new String[]{"$..a", "$.a[*]", "$.a[?(@.b > 1)]", "$['a','b']", "$.a[-1:2]",
+				"$.a[1:2].b", "a.b", "$.a.min()"}) {
+			CompiledJsonPath path = CompiledJsonPath.compile(expression);
+			Assert.assertFalse(expression, path.isCompiled());
+			Assert.assertEquals(expression, path.getPath());
+		}
+	}
+
+	private void assertWritable(String expression) {
+		CompiledJsonPath path = CompiledJsonPath.compile(expression);
+		Assert.assertTrue(expression, path.isCompiled());
+		Assert.assertTrue(expression, path.isWritable());
+	}
+}
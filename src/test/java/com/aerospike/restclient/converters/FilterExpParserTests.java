@@ -0,0 +1,146 @@
+/*
+ * Copyright 2022 Aerospike, Inc.
+ *
+ * Portions may be licensed to Aerospike, Inc. under one or more contributor
+ * license agreements WHICH ARE COMPATIBLE WITH THE APACHE LICENSE, VERSION 2.0.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.aerospike.restclient.converters;
+
+import com.aerospike.client.cdt.ListReturnType;
+import com.aerospike.client.command.ParticleType;
+import com.aerospike.client.exp.Exp;
+import com.aerospike.client.exp.ListExp;
+import com.aerospike.restclient.util.converters.exp.FilterExpParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+public class FilterExpParserTests {
+
+	private final FilterExpParser parser = new FilterExpParser();
+
+	@Test
+	public void testFloatComparison() {
+		assertParsed("score:float > 9.5", Exp.gt(Exp.bin("score", Exp.Type.FLOAT), Exp.val(9.5)));
+	}
+
+	@Test
+	public void testBoolComparison() {
+		assertParsed("active:bool == true", Exp.eq(Exp.bin("active", Exp.Type.BOOL), Exp.val(true)));
+	}
+
+	@Test
+	public void testUndeclaredValuesCompareAsStrings() {
+		assertParsed("score > 9.5", Exp.gt(Exp.bin("score", Exp.Type.STRING), Exp.val("9.5")));
+		assertParsed("active == true", Exp.eq(Exp.bin("active", Exp.Type.STRING), Exp.val("true")));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testDeclaredBinRequiresNumber() {
+		assertParsed("x:int == abc", Exp.eq(Exp.bin("x", Exp.Type.INT), Exp.bin("abc", Exp.Type.INT)));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testDeclaredBoolRequiresBool() {
+		assertParsed("active:bool == yes", Exp.eq(Exp.bin("active", Exp.Type.BOOL), Exp.val(true)));
+	}
+
+	@Test
+	public void testLongComparison() {
+		assertParsed("big >= 5000000000", Exp.ge(Exp.bin("big", Exp.Type.INT), Exp.val(5000000000L)));
+	}
+
+	@Test
+	public void testQuotedStringComparison() {
+		assertParsed("flag == \"true\"", Exp.eq(Exp.bin("flag", Exp.Type.STRING), Exp.val("true")));
+	}
+
+	@Test
+	public void testIntArithmetic() {
+		assertParsed("price * qty >= 100",
+				Exp.ge(Exp.mul(Exp.bin("price", Exp.Type.INT), Exp.bin("qty", Exp.Type.INT)), Exp.val(100L)));
+	}
+
+	@Test
+	public void testFloatArithmeticPrecedence() {
+		assertParsed("a + b * 2 > c - 1.5",
+				Exp.gt(
+						Exp.add(Exp.bin("a", Exp.Type.FLOAT), Exp.mul(Exp.bin("b", Exp.Type.FLOAT), Exp.val(2.0))),
+						Exp.sub(Exp.bin("c", Exp.Type.FLOAT), Exp.val(1.5))));
+	}
+
+	@Test
+	public void testArithmeticValue() {
+		assertParsed("price * qty", Exp.mul(Exp.bin("price", Exp.Type.INT), Exp.bin("qty", Exp.Type.INT)));
+		assertParsed("price * 1.5", Exp.mul(Exp.bin("price", Exp.Type.FLOAT), Exp.val(1.5)));
+	}
+
+	@Test
+	public void testDeclaredFloatBins() {
+		assertParsed("price:float * qty:float >= 100",
+				Exp.ge(Exp.mul(Exp.bin("price", Exp.Type.FLOAT), Exp.bin("qty", Exp.Type.FLOAT)), Exp.val(100.0)));
+		assertParsed("score:float > 5", Exp.gt(Exp.bin("score", Exp.Type.FLOAT), Exp.val(5.0)));
+		assertParsed("total:float", Exp.bin("total", Exp.Type.FLOAT));
+	}
+
+	@Test
+	public void testDeclaredMixedBins() {
+		assertParsed("price:float * qty:int",
+				Exp.mul(Exp.bin("price", Exp.Type.FLOAT), Exp.toFloat(Exp.bin("qty", Exp.Type.INT))));
+		assertParsed("count:int + 1 > 1.5",
+				Exp.gt(Exp.add(Exp.toFloat(Exp.bin("count", Exp.Type.INT)), Exp.val(1.0)), Exp.val(1.5)));
+		assertParsed("count:int >= 2", Exp.ge(Exp.bin("count", Exp.Type.INT), Exp.val(2L)));
+	}
+
+	@Test
+	public void testMetadata() {
+		assertParsed("TTL(<=, 86400) and SINCE_UPDATE(<, 7200000) and DEVICE_SIZE(>, 1024)",
+				Exp.and(
+						Exp.le(Exp.ttl(), Exp.val(86400L)),
+						Exp.lt(Exp.sinceUpdate(), Exp.val(7200000L)),
+						Exp.gt(Exp.deviceSize(), Exp.val(1024L))));
+		assertParsed("SET_NAME(==, users)", Exp.eq(Exp.setName(), Exp.val("users")));
+		assertParsed("not KEY_EXISTS()", Exp.not(Exp.keyExists()));
+	}
+
+	@Test
+	public void testBinChecks() {
+		assertParsed("BIN_EXISTS(email) or BIN_TYPE(score, ==, DOUBLE)",
+				Exp.or(
+						Exp.binExists("email"),
+						Exp.eq(Exp.binType("score"), Exp.val(ParticleType.DOUBLE))));
+	}
+
+	@Test
+	public void testInList() {
+		assertParsed("IN(country, US, CA)",
+				Exp.gt(ListExp.getByValue(ListReturnType.COUNT, Exp.bin("country", Exp.Type.STRING),
+						Exp.val(Arrays.asList("US", "CA"))), Exp.val(0)));
+		assertParsed("IN(code, 1, 2, 3)",
+				Exp.gt(ListExp.getByValue(ListReturnType.COUNT, Exp.bin("code", Exp.Type.INT),
+						Exp.val(Arrays.asList(1L, 2L, 3L))), Exp.val(0)));
+	}
+
+	@Test
+	public void testSpecialNameAsBin() {
+		assertParsed("ttl > 5", Exp.gt(Exp.bin("ttl", Exp.Type.INT), Exp.val(5L)));
+	}
+
+	private void assertParsed(String expression, Exp expected) {
+		String encoded = Base64.getUrlEncoder().encodeToString(expression.getBytes(StandardCharsets.UTF_8));
+		Assert.assertArrayEquals(Exp.build(expected).getBytes(), parser.parse(encoded).getBytes());
+	}
+}